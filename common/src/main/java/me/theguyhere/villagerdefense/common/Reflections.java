@@ -1,5 +1,7 @@
 package me.theguyhere.villagerdefense.common;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -36,6 +38,31 @@ public class Reflections {
         return result;
     }
 
+    /**
+     * Look up a getter for a field once, so the field can be read over and over without reflection.
+     *
+     * @param clazz Class declaring the field.
+     * @param name  Name of field.
+     * @return Getter taking an instance and returning the field value, or null if the field couldn't be found.
+     */
+    public static MethodHandle getFieldGetter(Class<?> clazz, String name) {
+        MethodHandle result = null;
+
+        try {
+            Field field = clazz.getDeclaredField(name);
+            field.setAccessible(true);
+
+            result = MethodHandles.lookup().unreflectGetter(field);
+
+            field.setAccessible(false);
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        return result;
+    }
+
     /**
      * Read field reflection for a field in superclass.
      *
@@ -0,0 +1,65 @@
+package me.theguyhere.villagerdefense.nms.common;
+
+import me.theguyhere.villagerdefense.common.Reflections;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Reads interact packets for versions where their fields can only be reached by obfuscated name. Fields are looked up
+ * once and read through method handles, so reading a packet takes no reflection.
+ */
+public class InteractPacketReader {
+    private final MethodHandle entityID;
+    private final MethodHandle action;
+    private final String handField;
+    /** What each class of interact action is, worked out the first time it shows up.*/
+    private final ClassValue<ActionType> actionTypes = new ClassValue<ActionType>() {
+        @Override
+        protected ActionType computeValue(Class<?> type) {
+            // Attacks carry nothing, plain interactions only carry the hand
+            int fields = type.getDeclaredFields().length;
+            if (fields == 0)
+                return new ActionType(true, null);
+            if (fields == 1)
+                return new ActionType(false, Reflections.getFieldGetter(type, handField));
+            return new ActionType(false, null);
+        }
+    };
+
+    /**
+     * @param packetClass Class of the interact packet
+     * @param entityIDField Name of the field holding the entity ID
+     * @param actionField Name of the field holding the action
+     * @param handField Name of the field holding the hand in interaction actions
+     */
+    public InteractPacketReader(Class<?> packetClass, String entityIDField, String actionField, String handField) {
+        entityID = Reflections.getFieldGetter(packetClass, entityIDField);
+        action = Reflections.getFieldGetter(packetClass, actionField);
+        this.handField = handField;
+    }
+
+    public int getEntityID(Object packet) throws Throwable {
+        return (int) entityID.invoke(packet);
+    }
+
+    public boolean isAttack(Object packet) throws Throwable {
+        return actionTypes.get(action.invoke(packet).getClass()).attack;
+    }
+
+    public boolean isMainHandInteract(Object packet) throws Throwable {
+        Object interaction = action.invoke(packet);
+        MethodHandle hand = actionTypes.get(interaction.getClass()).hand;
+        return hand != null && hand.invoke(interaction).toString().equalsIgnoreCase("MAIN_HAND");
+    }
+
+    private static class ActionType {
+        private final boolean attack;
+        /** Reads the hand of the action, or null if the action isn't a plain interaction.*/
+        private final MethodHandle hand;
+
+        private ActionType(boolean attack, MethodHandle hand) {
+            this.attack = attack;
+            this.hand = hand;
+        }
+    }
+}
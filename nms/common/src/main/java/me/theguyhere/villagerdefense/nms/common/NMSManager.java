@@ -13,6 +13,8 @@ public interface NMSManager {
 
     VillagerPacketEntity newVillagerPacketEntity();
 
+    PacketBatch newPacketBatch();
+
     String getSpawnParticleName();
 
     String getMonsterParticleName();
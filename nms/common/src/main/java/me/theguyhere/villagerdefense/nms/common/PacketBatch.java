@@ -0,0 +1,16 @@
+package me.theguyhere.villagerdefense.nms.common;
+
+/**
+ * Packets collected to be sent to a player all at once. Versions that support it send them as a single bundle, which
+ * the client applies in one go, and other versions write them all before flushing the connection once.
+ */
+public interface PacketBatch extends PacketGroup {
+    /**
+     * Adds packets to the end of the batch.
+     * @param packets Packets to add.
+     * @return This batch.
+     */
+    PacketBatch add(PacketGroup packets);
+
+    boolean isEmpty();
+}
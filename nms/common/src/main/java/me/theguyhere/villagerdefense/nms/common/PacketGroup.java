@@ -2,6 +2,9 @@ package me.theguyhere.villagerdefense.nms.common;
 
 import org.bukkit.entity.Player;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A class to bundle packets together so functions remain intact.
  */
@@ -13,6 +16,14 @@ public interface PacketGroup {
      */
     void sendTo(Player player);
 
+    /**
+     * Lists the single packets making up the group, in the order they are sent.
+     * @return Single packets.
+     */
+    default List<PacketGroup> getPackets() {
+        return Collections.singletonList(this);
+    }
+
     static PacketGroup of(PacketGroup packet1, PacketGroup packet2) {
         return new PacketGroupImp.DoublePacket(packet1, packet2);
     }
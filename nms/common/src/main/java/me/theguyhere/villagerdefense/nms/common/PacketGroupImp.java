@@ -2,6 +2,9 @@ package me.theguyhere.villagerdefense.nms.common;
 
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A class with implementations of PacketGroup
  */
@@ -20,6 +23,14 @@ class PacketGroupImp {
             packet1.sendTo(player);
             packet2.sendTo(player);
         }
+
+        @Override
+        public List<PacketGroup> getPackets() {
+            List<PacketGroup> packets = new ArrayList<>();
+            packets.addAll(packet1.getPackets());
+            packets.addAll(packet2.getPackets());
+            return packets;
+        }
     }
 
     static class TriplePacket implements PacketGroup {
@@ -39,6 +50,15 @@ class PacketGroupImp {
             packet2.sendTo(player);
             packet3.sendTo(player);
         }
+
+        @Override
+        public List<PacketGroup> getPackets() {
+            List<PacketGroup> packets = new ArrayList<>();
+            packets.addAll(packet1.getPackets());
+            packets.addAll(packet2.getPackets());
+            packets.addAll(packet3.getPackets());
+            return packets;
+        }
     }
 
     static class QuadruplePacket implements PacketGroup {
@@ -61,5 +81,15 @@ class PacketGroupImp {
             packet3.sendTo(player);
             packet4.sendTo(player);
         }
+
+        @Override
+        public List<PacketGroup> getPackets() {
+            List<PacketGroup> packets = new ArrayList<>();
+            packets.addAll(packet1.getPackets());
+            packets.addAll(packet2.getPackets());
+            packets.addAll(packet3.getPackets());
+            packets.addAll(packet4.getPackets());
+            return packets;
+        }
     }
 }
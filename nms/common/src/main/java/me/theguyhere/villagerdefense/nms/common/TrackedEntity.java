@@ -0,0 +1,98 @@
+package me.theguyhere.villagerdefense.nms.common;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * An entity made of packets that remembers which players currently see it, so packets about it only go to them. It is
+ * spawned for players as they come into range and despawned as they leave while it is tracked by the
+ * {@link ViewerTracker}.
+ */
+public class TrackedEntity {
+    private final Location location;
+    /** Creates the packets spawning the entity as it currently looks.*/
+    private final Supplier<PacketGroup> spawnPackets;
+    /** Creates the packets despawning the entity.*/
+    private final Supplier<PacketGroup> destroyPackets;
+    /** UUIDs of players the entity is spawned for.*/
+    private final Set<UUID> viewers = new HashSet<>();
+    /** Whether the entity is tracked by the viewer tracker.*/
+    private boolean tracked;
+
+    public TrackedEntity(Location location, Supplier<PacketGroup> spawnPackets,
+                         Supplier<PacketGroup> destroyPackets) {
+        this.location = location;
+        this.spawnPackets = spawnPackets;
+        this.destroyPackets = destroyPackets;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * @return An unmodifiable view of the UUIDs of players the entity is spawned for.
+     */
+    public Set<UUID> getViewers() {
+        return Collections.unmodifiableSet(viewers);
+    }
+
+    /**
+     * Sends packets about the entity to the players who currently see it.
+     * @param packets Packets to send.
+     */
+    public void sendToViewers(PacketGroup packets) {
+        for (UUID viewer : viewers) {
+            Player player = Bukkit.getPlayer(viewer);
+            if (player != null)
+                packets.sendTo(player);
+        }
+    }
+
+    /**
+     * Spawns the entity again for a player if they are in range, for when their client dropped it.
+     * @param player Player to show the entity to.
+     */
+    public void refresh(Player player) {
+        if (!tracked)
+            return;
+
+        viewers.remove(player.getUniqueId());
+        update(player);
+    }
+
+    boolean isTracked() {
+        return tracked;
+    }
+
+    void setTracked(boolean tracked) {
+        this.tracked = tracked;
+    }
+
+    // Spawn or despawn the entity for a player depending on whether they are in range
+    void update(Player player) {
+        boolean inRange = ViewerTracker.isInRange(player, location);
+        if (inRange && viewers.add(player.getUniqueId()))
+            spawnPackets.get().sendTo(player);
+        else if (!inRange && viewers.remove(player.getUniqueId()))
+            destroyPackets.get().sendTo(player);
+    }
+
+    // Stop counting a player as a viewer without sending them anything
+    void forget(UUID player) {
+        viewers.remove(player);
+    }
+
+    // Despawn the entity for everyone who sees it
+    void hideAll() {
+        sendToViewers(destroyPackets.get());
+        viewers.clear();
+    }
+}
@@ -0,0 +1,117 @@
+package me.theguyhere.villagerdefense.nms.common;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Keeps track of which players should see each displayed packet entity. Entities are spawned for players within view
+ * distance of them and despawned once players move out of it, so players are never sent packets about entities they
+ * can't see. Player positions are checked coarsely by chunk, so {@link #checkAll()} should run about once a second.
+ */
+public class ViewerTracker {
+    /** Tracked entities by world UUID.*/
+    private static final Map<UUID, Set<TrackedEntity>> entities = new HashMap<>();
+    /** Where each player was at the last check, by player UUID.*/
+    private static final Map<UUID, Location> lastChecked = new HashMap<>();
+
+    private ViewerTracker() {}
+
+    /**
+     * Starts tracking an entity, spawning it for players in range.
+     * @param entity Entity to track.
+     */
+    public static void track(TrackedEntity entity) {
+        World world = Objects.requireNonNull(entity.getLocation().getWorld());
+        if (entity.isTracked())
+            return;
+
+        entities.computeIfAbsent(world.getUID(), uid -> new LinkedHashSet<>()).add(entity);
+        entity.setTracked(true);
+        for (Player player : world.getPlayers())
+            entity.update(player);
+    }
+
+    /**
+     * Stops tracking an entity, despawning it for players who see it.
+     * @param entity Entity to stop tracking.
+     */
+    public static void untrack(TrackedEntity entity) {
+        if (!entity.isTracked())
+            return;
+
+        UUID world = Objects.requireNonNull(entity.getLocation().getWorld()).getUID();
+        Set<TrackedEntity> inWorld = entities.get(world);
+        if (inWorld != null) {
+            inWorld.remove(entity);
+            if (inWorld.isEmpty())
+                entities.remove(world);
+        }
+        entity.setTracked(false);
+        entity.hideAll();
+    }
+
+    /**
+     * Spawns every entity in range for a player from scratch, for when their client dropped what it was shown, such as
+     * after changing worlds.
+     * @param player Player to show entities to.
+     */
+    public static void refresh(Player player) {
+        forget(player);
+        check(player);
+    }
+
+    /**
+     * Stops counting a player as a viewer of any entity, without sending them anything.
+     * @param player Player to forget.
+     */
+    public static void forget(Player player) {
+        entities.values().forEach(inWorld -> inWorld.forEach(entity -> entity.forget(player.getUniqueId())));
+        lastChecked.remove(player.getUniqueId());
+    }
+
+    /**
+     * Updates the entities seen by every online player who moved to another chunk since the last check.
+     */
+    public static void checkAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location last = lastChecked.get(player.getUniqueId());
+            Location location = player.getLocation();
+            if (last != null && Objects.equals(last.getWorld(), location.getWorld()) &&
+                    last.getBlockX() >> 4 == location.getBlockX() >> 4 &&
+                    last.getBlockZ() >> 4 == location.getBlockZ() >> 4)
+                continue;
+
+            check(player);
+        }
+    }
+
+    /**
+     * Whether a location is close enough to a player for entities there to be seen.
+     * @param player Player looking.
+     * @param location Location of the entity.
+     * @return Whether the location is within view distance of the player.
+     */
+    public static boolean isInRange(Player player, Location location) {
+        Location playerLocation = player.getLocation();
+        if (!Objects.equals(playerLocation.getWorld(), location.getWorld()))
+            return false;
+
+        int distance = Math.max(Math.abs((playerLocation.getBlockX() >> 4) - (location.getBlockX() >> 4)),
+                Math.abs((playerLocation.getBlockZ() >> 4) - (location.getBlockZ() >> 4)));
+        return distance <= Bukkit.getViewDistance();
+    }
+
+    // Update the entities in the world of a player for them
+    private static void check(Player player) {
+        Location location = player.getLocation();
+        lastChecked.put(player.getUniqueId(), location);
+
+        Set<TrackedEntity> inWorld = entities.get(player.getWorld().getUID());
+        if (inWorld != null)
+            inWorld.forEach(entity -> entity.update(player));
+    }
+}
@@ -8,4 +8,11 @@ import org.bukkit.Location;
  */
 public interface TextPacketEntity extends PacketEntity {
     PacketGroup newSpawnPackets(Location location, String text);
+
+    /**
+     * Creates packets changing only the text of an entity already spawned, keeping its entity ID.
+     * @param text New text.
+     * @return Packets updating the text.
+     */
+    PacketGroup newTextUpdatePackets(String text);
 }
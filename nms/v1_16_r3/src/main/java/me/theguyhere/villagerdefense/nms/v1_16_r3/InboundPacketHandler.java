@@ -9,12 +9,20 @@ import me.theguyhere.villagerdefense.nms.common.PacketListener;
 import net.minecraft.server.v1_16_R3.PacketPlayInUseEntity;
 import org.bukkit.entity.Player;
 
+import java.lang.invoke.MethodHandle;
+
 /**
  * A class to handle server bound packets.
  */
 @SuppressWarnings("CallToPrintStackTrace")
 class InboundPacketHandler extends ChannelInboundHandlerAdapter {
     public static final String HANDLER_NAME = "villager_defense_listener";
+    /** Reads the entity ID of use entity packets.*/
+    private static final MethodHandle ENTITY_ID = Reflections.getFieldGetter(PacketPlayInUseEntity.class, "a");
+    /** Reads the action of use entity packets.*/
+    private static final MethodHandle ACTION = Reflections.getFieldGetter(PacketPlayInUseEntity.class, "action");
+    /** Reads the hand of use entity packets.*/
+    private static final MethodHandle HAND = Reflections.getFieldGetter(PacketPlayInUseEntity.class, "d");
     private final Player player;
     private final PacketListener packetListener;
 
@@ -27,20 +35,21 @@ class InboundPacketHandler extends ChannelInboundHandlerAdapter {
     public void channelRead(ChannelHandlerContext context, Object packet) throws Exception {
         try {
             if (packet instanceof PacketPlayInUseEntity) {
-                int entityID = (int) Reflections.getFieldValue(packet, "a");
+                int entityID = (int) ENTITY_ID.invoke(packet);
+                String action = ACTION.invoke(packet).toString();
 
                 // Left click
-                if (Reflections.getFieldValue(packet, "action").toString().equalsIgnoreCase("ATTACK")) {
+                if (action.equalsIgnoreCase("ATTACK")) {
                     packetListener.onAttack(player, entityID);
                 }
 
                 // Main hand right click
-                else if (Reflections.getFieldValue(packet, "action").toString().equalsIgnoreCase("INTERACT")
-                        && Reflections.getFieldValue(packet, "d").toString().equalsIgnoreCase("MAIN_HAND")) {
+                else if (action.equalsIgnoreCase("INTERACT")
+                        && HAND.invoke(packet).toString().equalsIgnoreCase("MAIN_HAND")) {
                     packetListener.onInteractMain(player, entityID);
                 }
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET, NMSErrors.EXCEPTION_ON_PACKET_READ);
             e.printStackTrace();
         }
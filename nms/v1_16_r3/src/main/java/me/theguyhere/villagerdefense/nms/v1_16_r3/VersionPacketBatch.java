@@ -0,0 +1,62 @@
+package me.theguyhere.villagerdefense.nms.v1_16_r3;
+
+import io.netty.channel.Channel;
+import me.theguyhere.villagerdefense.nms.common.PacketBatch;
+import me.theguyhere.villagerdefense.nms.common.PacketGroup;
+import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of packets written to the connection of a player together and flushed once, since this version has no
+ * bundle packet.
+ */
+class VersionPacketBatch implements PacketBatch {
+    private final List<PacketGroup> packets = new ArrayList<>();
+
+    @Override
+    public PacketBatch add(PacketGroup packets) {
+        this.packets.addAll(packets.getPackets());
+        return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    @Override
+    public List<PacketGroup> getPackets() {
+        return Collections.unmodifiableList(packets);
+    }
+
+    @Override
+    public void sendTo(Player player) {
+        List<Object> rawPackets = new ArrayList<>();
+        for (PacketGroup packet : packets) {
+            if (packet instanceof VersionNMSPacket)
+                rawPackets.add(((VersionNMSPacket) packet).getRawPacket());
+            else {
+                // Keep the order when something other than a plain packet got in
+                write(player, rawPackets);
+                rawPackets = new ArrayList<>();
+                packet.sendTo(player);
+            }
+        }
+        write(player, rawPackets);
+    }
+
+    private static void write(Player player, List<Object> rawPackets) {
+        if (rawPackets.isEmpty())
+            return;
+
+        Channel channel = ((CraftPlayer) player).getHandle().playerConnection.a().channel;
+        channel.eventLoop().execute(() -> {
+            rawPackets.forEach(channel::write);
+            channel.flush();
+        });
+    }
+}
@@ -3,7 +3,7 @@ package me.theguyhere.villagerdefense.nms.v1_19_r1;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
-import me.theguyhere.villagerdefense.common.Reflections;
+import me.theguyhere.villagerdefense.nms.common.InteractPacketReader;
 import me.theguyhere.villagerdefense.nms.common.NMSErrors;
 import me.theguyhere.villagerdefense.nms.common.PacketListener;
 import net.minecraft.network.protocol.game.ServerboundInteractPacket;
@@ -15,6 +15,9 @@ import org.bukkit.entity.Player;
 @SuppressWarnings("CallToPrintStackTrace")
 class InboundPacketHandler extends ChannelInboundHandlerAdapter {
     public static final String HANDLER_NAME = "villager_defense_listener";
+    /** Reads interact packets without looking up their fields every time.*/
+    private static final InteractPacketReader READER =
+            new InteractPacketReader(ServerboundInteractPacket.class, "a", "b", "a");
     private final Player player;
     private final PacketListener packetListener;
 
@@ -27,21 +30,17 @@ class InboundPacketHandler extends ChannelInboundHandlerAdapter {
     public void channelRead(ChannelHandlerContext context, Object packet) throws Exception {
         try {
             if (packet instanceof ServerboundInteractPacket) {
-                int entityID = (int) Reflections.getFieldValue(packet, "a");
-
                 // Left click
-                if (Reflections.getFieldValue(packet, "b").getClass().getDeclaredFields().length == 0) {
-                    packetListener.onAttack(player, entityID);
+                if (READER.isAttack(packet)) {
+                    packetListener.onAttack(player, READER.getEntityID(packet));
                 }
 
                 // Main hand right click
-                else if (Reflections.getFieldValue(packet, "b").getClass().getDeclaredFields().length == 1
-                        && Reflections.getFieldValue(Reflections.getFieldValue(packet, "b"), "a")
-                        .toString().equalsIgnoreCase("MAIN_HAND")) {
-                    packetListener.onInteractMain(player, entityID);
+                else if (READER.isMainHandInteract(packet)) {
+                    packetListener.onInteractMain(player, READER.getEntityID(packet));
                 }
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET, NMSErrors.EXCEPTION_ON_PACKET_READ);
             e.printStackTrace();
         }
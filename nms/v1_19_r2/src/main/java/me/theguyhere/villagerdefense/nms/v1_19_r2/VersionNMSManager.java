@@ -7,6 +7,7 @@ import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.nms.common.EntityID;
 import me.theguyhere.villagerdefense.nms.common.NMSErrors;
 import me.theguyhere.villagerdefense.nms.common.NMSManager;
+import me.theguyhere.villagerdefense.nms.common.PacketBatch;
 import me.theguyhere.villagerdefense.nms.common.PacketListener;
 import me.theguyhere.villagerdefense.nms.common.entities.TextPacketEntity;
 import me.theguyhere.villagerdefense.nms.common.entities.VillagerPacketEntity;
@@ -30,6 +31,11 @@ public class VersionNMSManager implements NMSManager {
         return new PacketEntityVillager(new EntityID());
     }
 
+    @Override
+    public PacketBatch newPacketBatch() {
+        return new VersionPacketBatch();
+    }
+
     @Override
     public String getSpawnParticleName() {
         return "FLAME";
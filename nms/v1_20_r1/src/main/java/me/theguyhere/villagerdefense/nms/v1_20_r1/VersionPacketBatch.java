@@ -0,0 +1,68 @@
+package me.theguyhere.villagerdefense.nms.v1_20_r1;
+
+import me.theguyhere.villagerdefense.nms.common.PacketBatch;
+import me.theguyhere.villagerdefense.nms.common.PacketGroup;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import org.bukkit.craftbukkit.v1_20_R1.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of packets sent to a player as a single bundle packet.
+ */
+class VersionPacketBatch implements PacketBatch {
+    /** Most packets the client accepts in one bundle.*/
+    private static final int MAX_BUNDLE_SIZE = 4096;
+    private final List<PacketGroup> packets = new ArrayList<>();
+
+    @Override
+    public PacketBatch add(PacketGroup packets) {
+        this.packets.addAll(packets.getPackets());
+        return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    @Override
+    public List<PacketGroup> getPackets() {
+        return Collections.unmodifiableList(packets);
+    }
+
+    @Override
+    public void sendTo(Player player) {
+        List<Packet<?>> bundle = new ArrayList<>();
+        for (PacketGroup packet : packets) {
+            if (packet instanceof VersionNMSPacket)
+                bundle.add(((VersionNMSPacket) packet).getRawPacket());
+            else {
+                // Keep the order when something other than a plain packet got in
+                send(player, bundle);
+                bundle = new ArrayList<>();
+                packet.sendTo(player);
+            }
+
+            if (bundle.size() == MAX_BUNDLE_SIZE) {
+                send(player, bundle);
+                bundle = new ArrayList<>();
+            }
+        }
+        send(player, bundle);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void send(Player player, List<Packet<?>> bundle) {
+        if (bundle.isEmpty())
+            return;
+
+        if (bundle.size() == 1)
+            ((CraftPlayer) player).getHandle().connection.send(bundle.get(0));
+        else ((CraftPlayer) player).getHandle().connection.send(new ClientboundBundlePacket((Iterable) bundle));
+    }
+}
@@ -32,4 +32,11 @@ class PacketEntityArmorStand implements TextPacketEntity {
                 .build()
         );
     }
+
+    @Override
+    public PacketGroup newTextUpdatePackets(String text) {
+        return EntityMetadataPacket.builder(armorStandID)
+            .setCustomName(text)
+            .build();
+    }
 }
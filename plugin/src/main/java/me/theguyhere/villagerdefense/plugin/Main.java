@@ -5,6 +5,7 @@ import lombok.Setter;
 import me.theguyhere.villagerdefense.common.Calculator;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.nms.common.NMSManager;
+import me.theguyhere.villagerdefense.nms.common.ViewerTracker;
 import me.theguyhere.villagerdefense.plugin.commands.VDCommandExecutor;
 import me.theguyhere.villagerdefense.plugin.commands.VDTabCompleter;
 import me.theguyhere.villagerdefense.plugin.data.*;
@@ -13,10 +14,13 @@ import me.theguyhere.villagerdefense.plugin.data.listeners.ChatListener;
 import me.theguyhere.villagerdefense.plugin.data.listeners.PacketListenerImp;
 import me.theguyhere.villagerdefense.plugin.data.listeners.WorldListener;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
 import me.theguyhere.villagerdefense.plugin.game.achievements.listeners.BonusListener;
 import me.theguyhere.villagerdefense.plugin.game.challenges.listeners.ChallengeListener;
 import me.theguyhere.villagerdefense.plugin.game.kits.listeners.KitAbilityListener;
 import me.theguyhere.villagerdefense.plugin.game.listeners.ArenaListener;
+import me.theguyhere.villagerdefense.plugin.game.listeners.EntitiesUnloadListener;
+import me.theguyhere.villagerdefense.plugin.game.listeners.EntityRemoveListener;
 import me.theguyhere.villagerdefense.plugin.game.listeners.GameListener;
 import me.theguyhere.villagerdefense.plugin.structures.listeners.InteractionListener;
 import me.theguyhere.villagerdefense.plugin.structures.listeners.UpdateListener;
@@ -61,15 +65,8 @@ public class Main extends JavaPlugin {
 	public void onEnable() {
 		Main.plugin = this;
 
-		// Set up data managers
-		GameDataManager.init();
-		ArenaDataManager.init();
-		try {
-			LanguageManager.init();
-		} catch (InvalidLanguageKeyException e) {
-			CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET, e.getMessage(), true, e);
-		}
-		PlayerDataManager.init();
+		// Set up data managers, loading their files side by side
+		DataLoader.load(Main::initDataManagers);
 
 		// Check if file versions need to be updated
 		checkFileVersions();
@@ -101,10 +98,20 @@ public class Main extends JavaPlugin {
 		pm.registerEvents(new BonusListener(), this);
 		pm.registerEvents(new ChatListener(), this);
 
+		// Register listeners for events missing from older versions
+		if (hasClass("org.bukkit.event.world.EntitiesUnloadEvent"))
+			pm.registerEvents(new EntitiesUnloadListener(), this);
+		if (hasClass("org.bukkit.event.entity.EntityRemoveEvent"))
+			pm.registerEvents(new EntityRemoveListener(), this);
+
 		// Add packet listeners for online players
 		for (Player player : Bukkit.getOnlinePlayers())
 			nmsManager.injectPacketListener(player, new PacketListenerImp());
 
+		// Keep packet entities spawned for the players in range of them
+		Bukkit.getScheduler().scheduleSyncRepeatingTask(this, ViewerTracker::checkAll, 0,
+				Calculator.secondsToTicks(1));
+
 		// Set teams
 		if (Objects.requireNonNull(Bukkit.getScoreboardManager()).getMainScoreboard().getTeam("monsters") == null) {
 			Team monsters = Objects.requireNonNull(Bukkit.getScoreboardManager()).getMainScoreboard()
@@ -160,6 +167,12 @@ public class Main extends JavaPlugin {
 
 		// Wipe every valid arena
 		GameManager.wipeArenas();
+
+		// Write out batched data changes
+		GameDataManager.flush();
+		ArenaDataManager.flush();
+		PlayerDataManager.close();
+		DataLoader.awaitWrites();
 	}
 
 	public void reload() {
@@ -169,30 +182,48 @@ public class Main extends JavaPlugin {
 		// Reset "outdated" flag
 		outdated = false;
 
-		// Reset up data managers
+		// Reset up data managers once their files are loaded in the background
+		DataLoader.loadAsync(() -> {
+			initDataManagers();
+			SpawnTableDataManager.clearCache();
+
+			checkFileVersions();
+
+			// Set as unloaded while reloading
+			setLoaded(false);
+
+			// Check worlds again
+			checkArenaNameAndGatherUnloadedWorlds();
+
+			// Remove active chat tasks
+			ChatListener.wipeTasks();
+
+			// Register expansion again
+			if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null)
+				new VDExpansion().register();
+		});
+	}
+
+	private static void initDataManagers() {
 		GameDataManager.init();
 		ArenaDataManager.init();
 		try {
 			LanguageManager.init();
+			AchievementRegistry.init();
 		} catch (InvalidLanguageKeyException e) {
 			CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET, e.getMessage(), true, e);
 		}
 		PlayerDataManager.init();
+	}
 
-		checkFileVersions();
-
-		// Set as unloaded while reloading
-		setLoaded(false);
-
-		// Check worlds again
-		checkArenaNameAndGatherUnloadedWorlds();
-
-		// Remove active chat tasks
-		ChatListener.wipeTasks();
-
-		// Register expansion again
-		if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null)
-			new VDExpansion().register();
+	// Check whether the server has a class, such as an event added in a later version
+	private static boolean hasClass(String name) {
+		try {
+			Class.forName(name);
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
 	}
 
 	public void resetGameManager() {
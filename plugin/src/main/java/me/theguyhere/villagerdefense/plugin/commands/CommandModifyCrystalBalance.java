@@ -43,39 +43,44 @@ class CommandModifyCrystalBalance {
 			VDCommandExecutor.notifyFailure(sender, LanguageManager.errors.invalidPlayer);
 			return;
 		}
-		if (!PlayerDataManager.hasPlayer(id)) {
-			VDCommandExecutor.notifyFailure(sender, LanguageManager.errors.invalidPlayer);
-			return;
-		}
 
 		// Check for valid amount
-		int balance;
+		int change;
 		try {
-			balance = Math.max(PlayerDataManager.getPlayerCrystals(id) + Integer.parseInt(args[2]), 0);
+			change = Integer.parseInt(args[2]);
 		}
 		catch (NumberFormatException e) {
 			VDCommandExecutor.notifyFailure(sender, LanguageManager.errors.integer);
 			return;
 		}
 
-		// Update balance and notify
-		PlayerDataManager.setPlayerCrystals(id, balance);
-		if (sender instanceof Player) {
-			PlayerManager.notifySuccess(
-				(Player) sender,
-				LanguageManager.confirms.balanceSet,
-				new ColoredMessage(ChatColor.AQUA, args[1]),
-				new ColoredMessage(ChatColor.AQUA,
-					Integer.toString(balance))
-			);
-		}
-		else {
-			CommunicationManager.debugInfo(
-				CommunicationManager.DebugLevel.QUIET,
-				LanguageManager.confirms.balanceSet,
-				args[1],
-				Integer.toString(balance)
-			);
-		}
+		// Wait for the player data, which may be read in the background
+		PlayerDataManager.loadProfile(id, () -> {
+			if (!PlayerDataManager.hasPlayer(id)) {
+				VDCommandExecutor.notifyFailure(sender, LanguageManager.errors.invalidPlayer);
+				return;
+			}
+
+			// Update balance and notify
+			int balance = Math.max(PlayerDataManager.getPlayerCrystals(id) + change, 0);
+			PlayerDataManager.setPlayerCrystals(id, balance);
+			if (sender instanceof Player) {
+				PlayerManager.notifySuccess(
+					(Player) sender,
+					LanguageManager.confirms.balanceSet,
+					new ColoredMessage(ChatColor.AQUA, args[1]),
+					new ColoredMessage(ChatColor.AQUA,
+						Integer.toString(balance))
+				);
+			}
+			else {
+				CommunicationManager.debugInfo(
+					CommunicationManager.DebugLevel.QUIET,
+					LanguageManager.confirms.balanceSet,
+					args[1],
+					Integer.toString(balance)
+				);
+			}
+		});
 	}
 }
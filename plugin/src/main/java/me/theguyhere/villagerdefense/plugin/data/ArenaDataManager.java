@@ -18,9 +18,21 @@ public class ArenaDataManager {
     private static YAMLManager yamlManager;
 
     public static void init() {
+        // Keep pending changes from being dropped on reload
+        if (yamlManager != null)
+            yamlManager.flush(true);
+
         yamlManager = new YAMLManager("arenaData.yml");
     }
 
+    /**
+     * Writes any batched changes to disk immediately.
+     */
+    public static void flush() {
+        if (yamlManager != null)
+            yamlManager.flush(true);
+    }
+
     public static Set<Integer> getArenaIDs() {
         try {
             return yamlManager.getKeys("arena").stream()
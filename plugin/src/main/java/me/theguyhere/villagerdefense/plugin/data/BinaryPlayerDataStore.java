@@ -0,0 +1,667 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps player profiles in a compact binary file instead of the player data file. The data file is memory-mapped and
+ * found through a hash index on player UUID, so only the profiles in use ever get decoded. Changes are appended to a
+ * journal, which is folded back into the data file once it grows large.
+ * <p>
+ * The data file starts with a header, a table of stat, kit and achievement names, and an index of UUIDs and record
+ * offsets. Each record then lists stat and kit values and earned achievements by name number.
+ */
+class BinaryPlayerDataStore implements PlayerDataStore {
+    /** Marks the start of a data file: "VDPD".*/
+    private static final int MAGIC = 0x56445044;
+    private static final int VERSION = 1;
+    /** Bytes in an index slot: the two halves of the UUID and the record offset.*/
+    private static final int SLOT_SIZE = 20;
+    /** Journal size in bytes past which the journal is folded into the data file.*/
+    private static final long COMPACT_THRESHOLD = 8 * 1024 * 1024;
+    /** Milliseconds to wait before compacting again after a failure, doubled with every failure in a row.*/
+    private static final long RETRY_DELAY = 60 * 1000;
+    /** Longest wait in milliseconds before compacting again after a failure.*/
+    private static final long MAX_RETRY_DELAY = 60 * 60 * 1000;
+
+    // Journal entry types
+    private static final byte SET_STAT = 1;
+    private static final byte SET_KIT = 2;
+    private static final byte SET_ACHIEVEMENTS = 3;
+    private static final byte DELETE = 4;
+
+    private final File dataFile;
+    private final File journalFile;
+    /** Background thread folding the journal into the data file.*/
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VillagerDefense Player Data Compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Held for a whole compaction, so compactions never overlap.*/
+    private final Object compactLock = new Object();
+
+    /** The mapped data file, or null if there is none yet.*/
+    private DataFile data;
+    /** Changes made since the data file was written, by player UUID.*/
+    private Map<UUID, Change> changes = new HashMap<>();
+    /** Older changes being folded into a new data file, by player UUID. Never modified once set aside.*/
+    private Map<UUID, Change> folding = Collections.emptyMap();
+    private DataOutputStream journal;
+    private long journalSize;
+    private boolean compacting;
+    /** Compactions that failed in a row.*/
+    private int failedCompactions;
+    /** Time before which compaction isn't tried again after a failure.*/
+    private long retryAt;
+
+    /**
+     * @param dataFile Data file, created when first needed
+     * @param journalFile Journal file, created if missing
+     * @throws IOException Thrown if existing files couldn't be read
+     */
+    BinaryPlayerDataStore(File dataFile, File journalFile) throws IOException {
+        this.dataFile = dataFile;
+        this.journalFile = journalFile;
+        data = DataFile.map(dataFile);
+        replayJournal();
+        journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalFile, true)));
+        if (journalSize > COMPACT_THRESHOLD)
+            scheduleCompaction();
+    }
+
+    @Override
+    public synchronized PlayerProfile load(UUID uuid) {
+        return read(data, uuid, getChange(uuid));
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> save(Collection<PlayerProfile> profiles) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (profiles.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+
+        int written = journal.size();
+        try {
+            for (PlayerProfile profile : profiles) {
+                UUID uuid = profile.getId();
+                Change change = changes.computeIfAbsent(uuid, id -> new Change());
+                for (String type : profile.getDirtyStats()) {
+                    int value = profile.getStat(type);
+                    change.stats.put(type, value);
+                    writeEntry(uuid, SET_STAT);
+                    journal.writeUTF(type);
+                    journal.writeInt(value);
+                }
+                for (String kit : profile.getDirtyKits()) {
+                    int level = profile.getKitLevel(kit);
+                    change.kits.put(kit, level);
+                    writeEntry(uuid, SET_KIT);
+                    journal.writeUTF(kit);
+                    journal.writeInt(level);
+                }
+                if (profile.isAchievementsDirty()) {
+                    change.achievements = new ArrayList<>(profile.getAchievements());
+                    writeEntry(uuid, SET_ACHIEVEMENTS);
+                    journal.writeShort(change.achievements.size());
+                    for (String achievement : change.achievements)
+                        journal.writeUTF(achievement);
+                }
+            }
+            journal.flush();
+            result.complete(null);
+        } catch (IOException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to save player data to the player data journal.", false, e);
+            result.completeExceptionally(e);
+        }
+
+        journalSize += journal.size() - written;
+        if (journalSize > COMPACT_THRESHOLD)
+            scheduleCompaction();
+        return result;
+    }
+
+    @Override
+    public synchronized void delete(UUID uuid) {
+        Change change = new Change();
+        change.deleted = true;
+        changes.put(uuid, change);
+        try {
+            writeEntry(uuid, DELETE);
+            journal.flush();
+            journalSize += 17;
+        } catch (IOException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to delete player data from the player data journal.", false, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean hasPlayer(UUID uuid) {
+        Change change = getChange(uuid);
+        if (change != null && !change.isEmpty())
+            return true;
+        return (change == null || !change.deleted) && data != null && data.find(uuid) > 0;
+    }
+
+    @Override
+    public synchronized Set<UUID> getTrackedPlayers() {
+        return trackedPlayers(data, getChanges());
+    }
+
+    @Override
+    public synchronized Map<UUID, Integer> getStatValues(String type) {
+        Map<UUID, Integer> values = new HashMap<>();
+        Map<UUID, Change> changes = getChanges();
+
+        // Read the stat straight out of each record
+        DataFile data = this.data;
+        int name = data == null ? -1 : Arrays.asList(data.names).indexOf(type);
+        if (name >= 0)
+            data.forEachRecord((uuid, offset) -> {
+                Change change = changes.get(uuid);
+                if (change != null && change.deleted)
+                    return;
+
+                int stats = data.buffer.getShort(offset);
+                for (int i = 0; i < stats; i++) {
+                    int entry = offset + 2 + i * 6;
+                    if (data.buffer.getShort(entry) == name) {
+                        values.put(uuid, data.buffer.getInt(entry + 2));
+                        break;
+                    }
+                }
+            });
+
+        changes.forEach((uuid, change) -> {
+            Integer value = change.stats.get(type);
+            if (value != null)
+                values.put(uuid, value);
+        });
+        return values;
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, TimeUnit.MINUTES))
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Timed out waiting for the player data file to be compacted.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to close the player data journal.", false, e);
+            }
+        }
+    }
+
+    // Changes to a player not yet in the data file, including those being folded into a new one
+    private Change getChange(UUID uuid) {
+        Change change = changes.get(uuid);
+        Change folded = folding.get(uuid);
+        if (folded == null)
+            return change;
+        return change == null ? folded : folded.copy().then(change);
+    }
+
+    // All changes not yet in the data file, including those being folded into a new one
+    private Map<UUID, Change> getChanges() {
+        if (folding.isEmpty())
+            return changes;
+
+        Map<UUID, Change> all = new HashMap<>();
+        folding.forEach((uuid, change) -> all.put(uuid, change.copy()));
+        changes.forEach((uuid, change) -> all.merge(uuid, change, Change::then));
+        return all;
+    }
+
+    // Read the profile of a player from a data file with changes applied
+    private static PlayerProfile read(DataFile file, UUID uuid, Change change) {
+        PlayerProfile profile = new PlayerProfile(uuid);
+        if (file != null && (change == null || !change.deleted)) {
+            int offset = file.find(uuid);
+            if (offset > 0)
+                file.decode(offset, profile, change == null || change.achievements == null);
+        }
+        if (change != null)
+            change.applyTo(profile);
+        return profile;
+    }
+
+    // Players with a record in a data file or changes on top of it
+    private static Set<UUID> trackedPlayers(DataFile file, Map<UUID, Change> changes) {
+        Set<UUID> players = new HashSet<>();
+        if (file != null)
+            file.forEachRecord((uuid, offset) -> {
+                Change change = changes.get(uuid);
+                if (change == null || !change.deleted)
+                    players.add(uuid);
+            });
+        changes.forEach((uuid, change) -> {
+            if (!change.isEmpty())
+                players.add(uuid);
+        });
+        return players;
+    }
+
+    private void writeEntry(UUID uuid, byte type) throws IOException {
+        journal.writeLong(uuid.getMostSignificantBits());
+        journal.writeLong(uuid.getLeastSignificantBits());
+        journal.writeByte(type);
+    }
+
+    // Apply the journal to the changes, cutting off a last entry that was only partly written
+    private void replayJournal() throws IOException {
+        if (!journalFile.exists())
+            return;
+
+        byte[] bytes = Files.readAllBytes(journalFile.toPath());
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+        int valid = 0;
+        try {
+            while (buffer.available() > 0) {
+                UUID uuid = new UUID(in.readLong(), in.readLong());
+                byte type = in.readByte();
+                Change change = changes.computeIfAbsent(uuid, id -> new Change());
+                switch (type) {
+                    case SET_STAT:
+                        change.stats.put(in.readUTF(), in.readInt());
+                        break;
+                    case SET_KIT:
+                        change.kits.put(in.readUTF(), in.readInt());
+                        break;
+                    case SET_ACHIEVEMENTS:
+                        List<String> achievements = new ArrayList<>();
+                        for (int i = in.readShort(); i > 0; i--)
+                            achievements.add(in.readUTF());
+                        change.achievements = achievements;
+                        break;
+                    case DELETE:
+                        Change deleted = new Change();
+                        deleted.deleted = true;
+                        changes.put(uuid, deleted);
+                        break;
+                    default:
+                        throw new EOFException();
+                }
+                valid = bytes.length - buffer.available();
+            }
+        } catch (EOFException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                "Dropped %s bytes of unfinished changes from %s.", Integer.toString(bytes.length - valid),
+                journalFile.getName());
+            try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+
+        journalSize = valid;
+    }
+
+    private void scheduleCompaction() {
+        // Hold off after failures, since their cause often lasts, like the data file being locked
+        if (compacting || System.currentTimeMillis() < retryAt)
+            return;
+
+        compacting = true;
+        compactor.execute(() -> {
+            boolean compacted = false;
+            try {
+                compact();
+                compacted = true;
+            } catch (IOException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to compact the player data file.", false, e);
+            } finally {
+                synchronized (this) {
+                    compacting = false;
+                    if (compacted)
+                        failedCompactions = 0;
+                    else {
+                        retryAt = System.currentTimeMillis() +
+                            Math.min(RETRY_DELAY << Math.min(failedCompactions, 6), MAX_RETRY_DELAY);
+                        failedCompactions++;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes a new data file holding every profile with all changes applied, then drops the folded changes from the
+     * journal. The store is only locked to set the changes aside and to swap in the new data file, so it keeps
+     * working while the file is written.
+     * @throws IOException Thrown if the new data file couldn't be written
+     */
+    void compact() throws IOException {
+        synchronized (compactLock) {
+            long start = System.currentTimeMillis();
+
+            // Set aside the changes to fold, so new ones are kept apart
+            DataFile base;
+            Map<UUID, Change> folded;
+            long foldedSize;
+            synchronized (this) {
+                base = data;
+                folded = changes;
+                foldedSize = journalSize;
+                changes = new HashMap<>();
+                folding = folded;
+            }
+
+            List<UUID> players = new ArrayList<>(trackedPlayers(base, folded));
+            DataFile written;
+            try {
+                written = write(base, folded, players);
+            } catch (IOException | RuntimeException e) {
+                // Take the changes back, with newer ones on top
+                synchronized (this) {
+                    Map<UUID, Change> newer = changes;
+                    changes = folded;
+                    newer.forEach((uuid, change) -> changes.merge(uuid, change, Change::then));
+                    folding = Collections.emptyMap();
+                }
+                throw e;
+            }
+
+            // Swap in the new data file and drop what it holds from the journal
+            synchronized (this) {
+                data = written;
+                folding = Collections.emptyMap();
+                trimJournal(foldedSize);
+                journalSize -= foldedSize;
+            }
+
+            CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE,
+                "Compacted player data of %s players in %s ms.", Integer.toString(players.size()),
+                Long.toString(System.currentTimeMillis() - start));
+        }
+    }
+
+    // Write a data file holding the records of a data file with changes applied, and map it in place of the old one
+    private DataFile write(DataFile base, Map<UUID, Change> folded, List<UUID> players) throws IOException {
+        // Number every name in use
+        Map<String, Integer> numbers = new LinkedHashMap<>();
+        if (base != null)
+            for (String name : base.names)
+                numbers.putIfAbsent(name, numbers.size());
+        folded.values().forEach(change -> {
+            change.stats.keySet().forEach(name -> numbers.putIfAbsent(name, numbers.size()));
+            change.kits.keySet().forEach(name -> numbers.putIfAbsent(name, numbers.size()));
+            if (change.achievements != null)
+                change.achievements.forEach(name -> numbers.putIfAbsent(name, numbers.size()));
+        });
+
+        // Header and name table
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(numbers.size());
+        for (String name : numbers.keySet()) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            header.writeShort(bytes.length);
+            header.write(bytes);
+        }
+        int slots = 16;
+        while (slots < players.size() * 2)
+            slots <<= 1;
+        header.writeInt(players.size());
+        header.writeInt(slots);
+        int newIndexStart = header.size();
+        long recordStart = newIndexStart + (long) slots * SLOT_SIZE;
+
+        File temp = new File(dataFile.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Records, remembering where each one went
+            ByteBuffer index = ByteBuffer.allocate(slots * SLOT_SIZE);
+            channel.position(recordStart);
+            DataOutputStream records = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel)));
+            long offset = recordStart;
+            for (UUID uuid : players) {
+                if (offset > Integer.MAX_VALUE)
+                    throw new IOException("Player data file is too large");
+
+                int slot = slotOf(uuid, slots);
+                while (index.getInt(slot * SLOT_SIZE + 16) != 0)
+                    slot = (slot + 1) & (slots - 1);
+                index.putLong(slot * SLOT_SIZE, uuid.getMostSignificantBits());
+                index.putLong(slot * SLOT_SIZE + 8, uuid.getLeastSignificantBits());
+                index.putInt(slot * SLOT_SIZE + 16, (int) offset);
+
+                PlayerProfile profile = read(base, uuid, folded.get(uuid));
+                int before = records.size();
+                records.writeShort(profile.getStats().size());
+                for (Map.Entry<String, Integer> stat : profile.getStats().entrySet()) {
+                    records.writeShort(numbers.get(stat.getKey()));
+                    records.writeInt(stat.getValue());
+                }
+                records.writeShort(profile.getKitLevels().size());
+                for (Map.Entry<String, Integer> kit : profile.getKitLevels().entrySet()) {
+                    records.writeShort(numbers.get(kit.getKey()));
+                    records.writeInt(kit.getValue());
+                }
+                records.writeShort(profile.getAchievements().size());
+                for (String achievement : profile.getAchievements())
+                    records.writeShort(numbers.get(achievement));
+                offset += records.size() - before;
+            }
+            records.flush();
+
+            // Header and index go in front of the records
+            channel.write(ByteBuffer.wrap(headerBytes.toByteArray()), 0);
+            index.rewind();
+            channel.write(index, newIndexStart);
+            channel.force(true);
+        }
+
+        replace(temp, dataFile);
+        return DataFile.map(dataFile);
+    }
+
+    // Rewrite the journal without the changes at its start, which are now in the data file
+    private void trimJournal(long folded) throws IOException {
+        journal.close();
+        try {
+            File temp = new File(journalFile.getPath() + ".tmp");
+            try (FileChannel in = FileChannel.open(journalFile.toPath(), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = Math.min(folded, in.size());
+                while (position < in.size())
+                    position += in.transferTo(position, in.size() - position, out);
+                out.force(true);
+            }
+            replace(temp, journalFile);
+        } finally {
+            journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalFile, true)));
+        }
+    }
+
+    private static void replace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int slotOf(UUID uuid, int slots) {
+        long hash = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & (slots - 1);
+    }
+
+    private interface RecordConsumer {
+        void accept(UUID uuid, int offset);
+    }
+
+    /**
+     * A mapped data file. Never changes once mapped, so it can be read while a new one is being written.
+     */
+    private static class DataFile {
+        private final MappedByteBuffer buffer;
+        /** Names used in the data file, by number.*/
+        private final String[] names;
+        private final int slotCount;
+        private final int indexStart;
+
+        private DataFile(MappedByteBuffer buffer, String[] names, int slotCount, int indexStart) {
+            this.buffer = buffer;
+            this.names = names;
+            this.slotCount = slotCount;
+            this.indexStart = indexStart;
+        }
+
+        /**
+         * Maps a data file and reads its header and name table.
+         * @param file Data file
+         * @return The mapped data file, or null if the file is missing or empty
+         * @throws IOException Thrown if the file couldn't be read
+         */
+        private static DataFile map(File file) throws IOException {
+            if (!file.exists() || file.length() == 0)
+                return null;
+
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+                throw new IOException("Unrecognized player data file " + file.getName());
+
+            buffer.position(8);
+            String[] names = new String[buffer.getInt()];
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(bytes);
+                names[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            buffer.getInt();
+            int slotCount = buffer.getInt();
+            return new DataFile(buffer, names, slotCount, buffer.position());
+        }
+
+        // Find the record offset of a player through the index, or 0 if they have none
+        private int find(UUID uuid) {
+            int slot = slotOf(uuid, slotCount);
+            for (int probes = 0; probes < slotCount; probes++) {
+                int position = indexStart + slot * SLOT_SIZE;
+                int offset = buffer.getInt(position + 16);
+                if (offset == 0)
+                    return 0;
+                if (buffer.getLong(position) == uuid.getMostSignificantBits() &&
+                    buffer.getLong(position + 8) == uuid.getLeastSignificantBits())
+                    return offset;
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            return 0;
+        }
+
+        private void forEachRecord(RecordConsumer action) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                int position = indexStart + slot * SLOT_SIZE;
+                int offset = buffer.getInt(position + 16);
+                if (offset != 0)
+                    action.accept(new UUID(buffer.getLong(position), buffer.getLong(position + 8)), offset);
+            }
+        }
+
+        // Read a record into a profile
+        private void decode(int offset, PlayerProfile profile, boolean withAchievements) {
+            int position = offset;
+            int stats = buffer.getShort(position);
+            position += 2;
+            for (int i = 0; i < stats; i++, position += 6)
+                profile.loadStat(names[buffer.getShort(position)], buffer.getInt(position + 2));
+
+            int kits = buffer.getShort(position);
+            position += 2;
+            for (int i = 0; i < kits; i++, position += 6)
+                profile.loadKitLevel(names[buffer.getShort(position)], buffer.getInt(position + 2));
+
+            if (!withAchievements)
+                return;
+            int achievements = buffer.getShort(position);
+            position += 2;
+            List<String> earned = new ArrayList<>(achievements);
+            for (int i = 0; i < achievements; i++, position += 2)
+                earned.add(names[buffer.getShort(position)]);
+            profile.loadAchievements(earned);
+        }
+    }
+
+    /**
+     * Changes to a player made since the data file was written.
+     */
+    private static class Change {
+        /** Whether the player's record in the data file no longer counts.*/
+        private boolean deleted;
+        private final Map<String, Integer> stats = new HashMap<>();
+        private final Map<String, Integer> kits = new HashMap<>();
+        /** Earned achievements, or null if they didn't change.*/
+        private List<String> achievements;
+
+        private boolean isEmpty() {
+            return stats.isEmpty() && kits.isEmpty() && achievements == null;
+        }
+
+        private Change copy() {
+            Change copy = new Change();
+            copy.deleted = deleted;
+            copy.stats.putAll(stats);
+            copy.kits.putAll(kits);
+            copy.achievements = achievements;
+            return copy;
+        }
+
+        // Lay newer changes on top of these ones
+        private Change then(Change newer) {
+            if (newer.deleted)
+                return newer;
+            stats.putAll(newer.stats);
+            kits.putAll(newer.kits);
+            if (newer.achievements != null)
+                achievements = newer.achievements;
+            return this;
+        }
+
+        private void applyTo(PlayerProfile profile) {
+            stats.forEach(profile::loadStat);
+            kits.forEach(profile::loadKitLevel);
+            if (achievements != null)
+                profile.loadAchievements(achievements);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of database connections. Connections handed out go back to the pool when closed. Idle connections are
+ * checked before reuse, and failed connection attempts back off before the database is tried again.
+ */
+class ConnectionPool {
+    /** Milliseconds a connection can sit idle before it gets checked again before reuse.*/
+    private static final long VALIDATE_AFTER = 30000;
+    /** Seconds to wait for a connection check to answer.*/
+    private static final int VALIDATE_TIMEOUT = 2;
+    private static final long MIN_BACKOFF = 1000;
+    private static final long MAX_BACKOFF = 60000;
+    /** Number of recent connection hold times kept for latency stats.*/
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long timeout;
+    /** Limits the connections handed out at once to the pool size.*/
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private int active;
+    private boolean closed;
+
+    /** Time before which no new connections are attempted.*/
+    private long retryAt;
+    private long backoff = MIN_BACKOFF;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyIndex;
+
+    /**
+     * @param size Maximum number of connections
+     * @param timeout Milliseconds to wait for a free connection
+     */
+    ConnectionPool(String url, String username, String password, int size, long timeout) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.timeout = timeout;
+        permits = new Semaphore(Math.max(size, 1), true);
+    }
+
+    /**
+     * Borrows a connection from the pool. Closing the returned connection gives it back.
+     * @return Database connection
+     * @throws SQLException Thrown if no connection could be made or none freed up in time
+     */
+    Connection getConnection() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS))
+                throw new SQLException("Timed out waiting for a database connection.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.");
+        }
+
+        try {
+            Connection connection = take();
+            synchronized (this) {
+                active++;
+            }
+            return wrap(connection, System.nanoTime());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Reuse a healthy idle connection or open a new one
+    private Connection take() throws SQLException {
+        while (true) {
+            IdleConnection candidate;
+            synchronized (this) {
+                if (closed)
+                    throw new SQLException("The connection pool is closed.");
+                candidate = idle.pollFirst();
+            }
+            if (candidate == null)
+                break;
+            if (System.currentTimeMillis() - candidate.since < VALIDATE_AFTER ||
+                    candidate.connection.isValid(VALIDATE_TIMEOUT))
+                return candidate.connection;
+            closeQuietly(candidate.connection);
+        }
+
+        synchronized (this) {
+            if (System.currentTimeMillis() < retryAt)
+                throw new SQLException("The database is unavailable. Retrying in " +
+                    (retryAt - System.currentTimeMillis()) / 1000 + " seconds.");
+        }
+        try {
+            Connection connection = DriverManager.getConnection(url, username, password);
+            synchronized (this) {
+                backoff = MIN_BACKOFF;
+                retryAt = 0;
+            }
+            return connection;
+        } catch (SQLException e) {
+            synchronized (this) {
+                retryAt = System.currentTimeMillis() + backoff;
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
+            }
+            throw e;
+        }
+    }
+
+    // Give a connection back, dropping it if it broke while in use
+    private void release(Connection connection, long borrowedAt) {
+        boolean keep;
+        try {
+            keep = !connection.isClosed() && connection.getAutoCommit();
+        } catch (SQLException e) {
+            keep = false;
+        }
+
+        synchronized (this) {
+            active--;
+            recordLatency(System.nanoTime() - borrowedAt);
+            if (keep && !closed)
+                idle.addFirst(new IdleConnection(connection));
+            else keep = false;
+        }
+        if (!keep)
+            closeQuietly(connection);
+        permits.release();
+    }
+
+    private Connection wrap(Connection connection, long borrowedAt) {
+        boolean[] released = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        if (!released[0]) {
+                            released[0] = true;
+                            release(connection, borrowedAt);
+                        }
+                        return null;
+                    case "isClosed":
+                        return released[0] || connection.isClosed();
+                    default:
+                        if (released[0])
+                            throw new SQLException("The connection was already given back to the pool.");
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            });
+    }
+
+    /**
+     * Closes all idle connections and stops handing out new ones. Connections in use are closed when given back.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            idle.forEach(candidate -> closeQuietly(candidate.connection));
+            idle.clear();
+        }
+    }
+
+    synchronized int getActiveCount() {
+        return active;
+    }
+
+    synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Whether connection attempts are paused after a failure.
+     * @return Whether the pool is backing off
+     */
+    synchronized boolean isBackingOff() {
+        return System.currentTimeMillis() < retryAt;
+    }
+
+    /**
+     * Calculates a percentile of how long recent connections were held, which covers the queries run on them.
+     * @param percentile Percentile between 0 and 1
+     * @return Latency in milliseconds, or 0 if nothing was recorded yet
+     */
+    synchronized double getLatency(double percentile) {
+        if (latencyCount == 0)
+            return 0;
+
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private void recordLatency(long nanos) {
+        latencies[latencyIndex] = nanos;
+        latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {}
+    }
+
+    /**
+     * A pooled connection waiting to be reused.
+     */
+    private static class IdleConnection {
+        private final Connection connection;
+        /** When the connection was last given back.*/
+        private final long since = System.currentTimeMillis();
+
+        private IdleConnection(Connection connection) {
+            this.connection = connection;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.Main;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parses the data files at the same time on worker threads, then hands all of them to the data managers at once on
+ * the main thread. Managers pick up their parsed file when they initialize, and parse it themselves if it isn't there.
+ */
+public class DataLoader {
+    /** Parsed files waiting to be picked up by their managers, by file name.*/
+    private static final Map<String, FileConfiguration> published = new HashMap<>();
+
+    private DataLoader() {}
+
+    /**
+     * Parses the data files and waits for them, then initializes the data managers.
+     * @param init Initializes the data managers
+     */
+    public static void load(Runnable init) {
+        flushAll();
+        long changes = YAMLManager.getChangeCount();
+        publish(parseAll().join(), changes);
+        init.run();
+    }
+
+    /**
+     * Parses the data files in the background, then initializes the data managers on the main thread.
+     * @param init Initializes the data managers
+     */
+    public static void loadAsync(Runnable init) {
+        flushAll();
+        long changes = YAMLManager.getChangeCount();
+        parseAll().thenAccept(files -> Bukkit.getScheduler().runTask(Main.plugin, () -> {
+            publish(files, changes);
+            init.run();
+        }));
+    }
+
+    /**
+     * Waits for data files still being written in the background, for when the plugin shuts down. Data managers must
+     * be flushed first.
+     */
+    public static void awaitWrites() {
+        YAMLManager.shutdownWriter();
+    }
+
+    /**
+     * Hands over the parsed data of a file, if it was loaded ahead of time.
+     * @param fileName Name of the file in the plugin folder
+     * @return Parsed data, or null if the file wasn't loaded ahead of time
+     */
+    static FileConfiguration take(String fileName) {
+        return published.remove(fileName);
+    }
+
+    // Get batched changes onto disk so they are part of what gets parsed
+    private static void flushAll() {
+        GameDataManager.flush();
+        ArenaDataManager.flush();
+        PlayerDataManager.flush();
+    }
+
+    // Data files the managers read, in the order they are set up
+    private static List<String> getDataFiles() {
+        return Arrays.asList("gameData.yml", "arenaData.yml",
+            "languages/" + Main.plugin.getConfig().getString("locale") + ".yml", "playerData.yml");
+    }
+
+    // Parse every data file on its own worker thread
+    private static CompletableFuture<List<ParsedFile>> parseAll() {
+        List<String> fileNames = getDataFiles();
+        ExecutorService workers = Executors.newFixedThreadPool(fileNames.size(), runnable -> {
+            Thread thread = new Thread(runnable, "VillagerDefense Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<CompletableFuture<ParsedFile>> futures = new ArrayList<>();
+        for (String fileName : fileNames)
+            futures.add(CompletableFuture.supplyAsync(() -> parse(fileName), workers));
+        workers.shutdown();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(done -> {
+            List<ParsedFile> files = new ArrayList<>();
+            futures.forEach(future -> files.add(future.join()));
+            return files;
+        });
+    }
+
+    private static ParsedFile parse(String fileName) {
+        long start = System.currentTimeMillis();
+        try {
+            FileConfiguration config = YAMLManager.parse(fileName);
+            return new ParsedFile(fileName, config, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Could not load " + fileName + " ahead of time.", true, e);
+            return new ParsedFile(fileName, null, System.currentTimeMillis() - start);
+        }
+    }
+
+    // Make every parsed file available in one go, reporting how long each took
+    private static void publish(List<ParsedFile> files, long changes) {
+        published.clear();
+
+        // Data changed while parsing, so let the managers read the files again themselves
+        if (changes != YAMLManager.getChangeCount()) {
+            CommunicationManager.debugInfo(CommunicationManager.DebugLevel.NORMAL,
+                "Data changed while loading, so data files will be read again.");
+            return;
+        }
+
+        for (ParsedFile file : files) {
+            if (file.config == null)
+                continue;
+
+            published.put(file.fileName, file.config);
+            CommunicationManager.debugInfo(CommunicationManager.DebugLevel.NORMAL, "Loaded %s in %s ms.",
+                file.fileName, Long.toString(file.millis));
+        }
+    }
+
+    private static class ParsedFile {
+        private final String fileName;
+        private final FileConfiguration config;
+        /** Time taken to parse the file.*/
+        private final long millis;
+
+        private ParsedFile(String fileName, FileConfiguration config, long millis) {
+            this.fileName = fileName;
+            this.config = config;
+            this.millis = millis;
+        }
+    }
+}
@@ -1,20 +1,19 @@
 package me.theguyhere.villagerdefense.plugin.data;
 
-import lombok.Getter;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.DatabaseConnectionException;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.*;
 
 public class DatabaseManager {
-    // Connection to the database
-    @Getter
-    private static boolean connected;
-    private static Connection connection;
+    // Connections to the database
+    private static ConnectionPool pool;
+    /** Runs database work off the main thread, with a bounded backlog.*/
+    private static ThreadPoolExecutor executor;
 
     // Information related to the specific table
     private final String tableName;
@@ -23,7 +22,27 @@ public class DatabaseManager {
         this.tableName = tableName;
     }
 
+    /**
+     * Checks whether the database is turned on and enough connection information was given to try connecting.
+     * @return Whether a connection should be attempted
+     */
+    public static boolean isConfigured() {
+        String host = Main.plugin.getConfig().getString("database.host");
+        return Main.plugin.getConfig().getBoolean("useDatabase") && host != null && !host.isEmpty();
+    }
+
+    /**
+     * Checks whether the database can be used, meaning a pool was set up and connections aren't currently failing.
+     * @return Whether the database is connected
+     */
+    public static boolean isConnected() {
+        return pool != null && !pool.isBackingOff();
+    }
+
     public static void connect() {
+        // Let go of any earlier connections in the background, so reconnecting doesn't wait on queued work
+        disconnectInBackground();
+
         // Gather database info
         String host = Main.plugin.getConfig().getString("database.host");
         String port = Main.plugin.getConfig().getString("database.port");
@@ -31,32 +50,158 @@ public class DatabaseManager {
         String username = Main.plugin.getConfig().getString("database.username");
         String password = Main.plugin.getConfig().getString("database.password");
         boolean disableSSL = Main.plugin.getConfig().getBoolean("database.disableSSL");
+        int poolSize = Math.max(Main.plugin.getConfig().getInt("database.poolSize", 4), 1);
+        long timeout = Math.max(Main.plugin.getConfig().getLong("database.connectionTimeout", 5000), 1);
+        int queueSize = getQueueSize();
 
         String url = "jdbc:mysql://" + host + ":" + port + "/" + database +
-            "?rewriteBatchedStatements=true&autoReconnect=true" + (disableSSL ? "&useSSL=false" : "");
+            "?rewriteBatchedStatements=true" + (disableSSL ? "&useSSL=false" : "");
 
-        try {
-            connection = DriverManager.getConnection(url, username, password);
-            connected = true;
+        pool = new ConnectionPool(url, username, password, poolSize, timeout);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize), runnable -> {
+                Thread thread = new Thread(runnable, "VillagerDefense Database");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        // Make sure the database can be reached
+        try (Connection ignored = pool.getConnection()) {
+            CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE, "Connected to the database.");
         } catch (SQLException e) {
-            connected = false;
             CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET, "Database connection failed. Check if the database is online and try again.");
         }
     }
 
-    public static void createTable(String tableName, String columnConfig) throws DatabaseConnectionException {
-        // Check for connection
-        if (!connected) {
-            throw new DatabaseConnectionException();
+    /**
+     * Waits briefly for queued database work, then closes all connections.
+     */
+    public static void disconnect() {
+        close(executor, pool);
+        executor = null;
+        pool = null;
+    }
+
+    private static void disconnectInBackground() {
+        ThreadPoolExecutor oldExecutor = executor;
+        ConnectionPool oldPool = pool;
+        executor = null;
+        pool = null;
+        if (oldExecutor == null && oldPool == null)
+            return;
+
+        Thread thread = new Thread(() -> close(oldExecutor, oldPool), "VillagerDefense Database Closer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void close(ThreadPoolExecutor oldExecutor, ConnectionPool oldPool) {
+        if (oldExecutor != null) {
+            oldExecutor.shutdown();
+            try {
+                if (!oldExecutor.awaitTermination(10, TimeUnit.SECONDS))
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                        "Timed out waiting for database work to finish.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+        if (oldPool != null)
+            oldPool.close();
+    }
 
-        // Try executing statement to create table if it doesn't exist
+    /**
+     * Borrows a connection from the pool. Closing it gives it back, so always close it when done.
+     * @return Database connection
+     * @throws SQLException Thrown if the database couldn't be reached or no connection freed up in time
+     */
+    public static Connection getConnection() throws SQLException {
+        if (pool == null)
+            throw new SQLException("The database was never connected.");
+        return pool.getConnection();
+    }
+
+    /**
+     * The executor database work is run on.
+     * @return Database executor
+     */
+    public static Executor getExecutor() {
+        return runnable -> {
+            if (executor == null)
+                throw new RejectedExecutionException("The database was never connected.");
+            executor.execute(runnable);
+        };
+    }
+
+    /**
+     * Runs a query on a pooled connection off the main thread.
+     * @param query Work to do with the connection
+     * @return Future completing with the query result, or exceptionally if the query failed or the backlog is full
+     */
+    public static <T> CompletableFuture<T> submit(Query<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
         try {
-            Statement s = connection.createStatement();
+            getExecutor().execute(() -> {
+                try (Connection connection = getConnection()) {
+                    future.complete(query.run(connection));
+                } catch (SQLException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public static int getActiveConnections() {
+        return pool == null ? 0 : pool.getActiveCount();
+    }
+
+    public static int getIdleConnections() {
+        return pool == null ? 0 : pool.getIdleCount();
+    }
+
+    /**
+     * Retrieves the maximum number of tasks that may wait for the database before new ones are turned away.
+     * @return Backlog limit
+     */
+    static int getQueueSize() {
+        return Math.max(Main.plugin.getConfig().getInt("database.queueSize", 1024), 1);
+    }
+
+    /**
+     * Retrieves the number of queries and player data writes waiting for the database.
+     * @return Backlog size
+     */
+    public static int getQueueDepth() {
+        return (executor == null ? 0 : executor.getQueue().size()) + PlayerDataManager.getWriteQueueDepth();
+    }
+
+    /**
+     * Retrieves a percentile of recent query latency, measured as how long connections were held.
+     * @param percentile Percentile between 0 and 1, such as 0.99
+     * @return Latency in milliseconds
+     */
+    public static double getLatency(double percentile) {
+        return pool == null ? 0 : pool.getLatency(percentile);
+    }
+
+    public static void createTable(String tableName, String columnConfig) throws DatabaseConnectionException {
+        // Try executing statement to create table if it doesn't exist
+        try (Connection connection = getConnection();
+             Statement s = connection.createStatement()) {
             s.execute("CREATE TABLE IF NOT EXISTS `" + tableName + "` ( " + columnConfig + " ) ENGINE = InnoDB;");
         } catch (SQLException e) {
-            connected = false;
             throw new DatabaseConnectionException();
         }
     }
+
+    /**
+     * Work done with a database connection.
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+        T run(Connection connection) throws SQLException;
+    }
 }
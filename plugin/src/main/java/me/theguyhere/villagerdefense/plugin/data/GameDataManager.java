@@ -14,9 +14,21 @@ public class GameDataManager {
     private static YAMLManager yamlManager;
 
     public static void init() {
+        // Keep pending changes from being dropped on reload
+        if (yamlManager != null)
+            yamlManager.flush(true);
+
         yamlManager = new YAMLManager("gameData.yml");
     }
 
+    /**
+     * Writes any batched changes to disk immediately.
+     */
+    public static void flush() {
+        if (yamlManager != null)
+            yamlManager.flush(true);
+    }
+
     public static boolean hasLobby() {
         return yamlManager.hasPath("lobby");
     }
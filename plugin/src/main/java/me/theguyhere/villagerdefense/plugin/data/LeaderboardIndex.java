@@ -0,0 +1,223 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.plugin.Main;
+import me.theguyhere.villagerdefense.plugin.game.GameManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Player rankings for each leaderboard stat, kept sorted and updated as stats change so leaderboards never have to
+ * scan every player. Leaderboards are only rebuilt when their top entries actually change.
+ */
+public class LeaderboardIndex {
+    /** Stats that have leaderboards.*/
+    public static final List<String> TYPES = Collections.unmodifiableList(Arrays.asList("totalKills", "topKills",
+        "totalGems", "topBalance", "topWave"));
+    /** Number of players shown on a leaderboard.*/
+    public static final int SIZE = 10;
+
+    /** Rankings by stat, highest first.*/
+    private static final Map<String, TreeSet<Entry>> rankings = new HashMap<>();
+    /** Current ranked value of each player by stat.*/
+    private static final Map<String, Map<UUID, Integer>> values = new HashMap<>();
+    /** Last computed top entries by stat.*/
+    private static final Map<String, List<Entry>> tops = new HashMap<>();
+    /** Known player names, so rankings don't look them up over and over. Unknown names are empty.*/
+    private static final Map<UUID, String> names = new HashMap<>();
+    /** Stats with a leaderboard rebuild already scheduled.*/
+    private static final Set<String> pending = new HashSet<>();
+
+    private LeaderboardIndex() {}
+
+    /**
+     * Builds the rankings from the stored player data. Only needs to happen on load and reload. Stats kept in a
+     * database are read in the background, and leaderboards stay empty until they arrive.
+     */
+    public static void init() {
+        rankings.clear();
+        values.clear();
+        tops.clear();
+        PlayerDataManager.loadPlayerStats(TYPES, LeaderboardIndex::build);
+    }
+
+    // Rank the stat values of every tracked player and show the new top entries
+    private static void build(Map<String, Map<UUID, Integer>> stats) {
+        for (String type : TYPES) {
+            TreeSet<Entry> ranking = new TreeSet<>();
+            Map<UUID, Integer> typeValues = new HashMap<>();
+            stats.get(type).forEach((uuid, value) -> {
+                if (value > 0) {
+                    ranking.add(new Entry(uuid, value));
+                    typeValues.put(uuid, value);
+                }
+            });
+            rankings.put(type, ranking);
+            values.put(type, typeValues);
+            tops.put(type, computeTop(type));
+            scheduleRefresh(type);
+        }
+    }
+
+    /**
+     * Records a new stat value for a player, rebuilding the leaderboard later if its top entries changed.
+     * @param uuid Player UUID
+     * @param type Stat name
+     * @param value New stat value
+     */
+    public static void update(UUID uuid, String type, int value) {
+        TreeSet<Entry> ranking = rankings.get(type);
+        if (ranking == null)
+            return;
+
+        // Move the player to their new place
+        Integer old = values.get(type).get(uuid);
+        if (old != null && old == value)
+            return;
+        if (old != null)
+            ranking.remove(new Entry(uuid, old));
+        if (value > 0) {
+            ranking.add(new Entry(uuid, value));
+            values.get(type).put(uuid, value);
+        }
+        else values.get(type).remove(uuid);
+
+        checkTop(type);
+    }
+
+    /**
+     * Removes a player from all rankings.
+     * @param uuid Player UUID
+     */
+    public static void remove(UUID uuid) {
+        for (String type : TYPES) {
+            Map<UUID, Integer> typeValues = values.get(type);
+            if (typeValues == null)
+                continue;
+            Integer old = typeValues.remove(uuid);
+            if (old != null) {
+                rankings.get(type).remove(new Entry(uuid, old));
+                checkTop(type);
+            }
+        }
+    }
+
+    /**
+     * Keeps the known name of a player current, in case they changed it.
+     * @param player Player who joined
+     */
+    public static void updateName(Player player) {
+        UUID uuid = player.getUniqueId();
+        String old = names.put(uuid, player.getName());
+        if (player.getName().equals(old))
+            return;
+
+        for (String type : TYPES) {
+            if (values.get(type) == null || !values.get(type).containsKey(uuid))
+                continue;
+
+            // Rebuild leaderboards showing the old name, and let players without a known name onto them
+            if (getTop(type).stream().anyMatch(entry -> entry.uuid.equals(uuid)))
+                scheduleRefresh(type);
+            else checkTop(type);
+        }
+    }
+
+    /**
+     * Retrieves the top players of a stat in order, skipping players without a known name.
+     * @param type Stat name
+     * @return Top entries, at most {@link #SIZE}
+     */
+    public static List<Entry> getTop(String type) {
+        List<Entry> top = tops.get(type);
+        return top == null ? Collections.emptyList() : top;
+    }
+
+    // Recompute the top entries and schedule a rebuild if they changed
+    private static void checkTop(String type) {
+        List<Entry> top = computeTop(type);
+        if (top.equals(tops.get(type)))
+            return;
+
+        tops.put(type, top);
+        scheduleRefresh(type);
+    }
+
+    private static List<Entry> computeTop(String type) {
+        List<Entry> top = new ArrayList<>(SIZE);
+        for (Entry entry : rankings.get(type)) {
+            if (top.size() >= SIZE)
+                break;
+            if (getName(entry.uuid) != null)
+                top.add(entry);
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    // Rebuild once per tick no matter how many updates came in
+    private static void scheduleRefresh(String type) {
+        if (!pending.add(type))
+            return;
+
+        Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> {
+            pending.remove(type);
+            GameManager.refreshLeaderboardIfPresent(type);
+        });
+    }
+
+    /**
+     * Retrieves the name of a player, looking it up only the first time.
+     * @param uuid Player UUID
+     * @return Player name, or null if unknown
+     */
+    public static String getName(UUID uuid) {
+        String name = names.computeIfAbsent(uuid, id -> {
+            String found = Bukkit.getOfflinePlayer(id).getName();
+            return found == null ? "" : found;
+        });
+        return name.isEmpty() ? null : name;
+    }
+
+    /**
+     * A player and their stat value in a ranking.
+     */
+    public static class Entry implements Comparable<Entry> {
+        private final UUID uuid;
+        private final int value;
+
+        private Entry(UUID uuid, int value) {
+            this.uuid = uuid;
+            this.value = value;
+        }
+
+        public UUID getID() {
+            return uuid;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int result = Integer.compare(o.value, value);
+            return result != 0 ? result : uuid.compareTo(o.uuid);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Entry))
+                return false;
+            Entry entry = (Entry) o;
+            return value == entry.value && uuid.equals(entry.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uuid, value);
+        }
+    }
+}
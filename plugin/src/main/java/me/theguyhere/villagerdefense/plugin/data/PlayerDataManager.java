@@ -1,37 +1,483 @@
 package me.theguyhere.villagerdefense.plugin.data;
 
+import me.theguyhere.villagerdefense.common.Calculator;
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
+import me.theguyhere.villagerdefense.plugin.data.exceptions.DataStoreException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.UpdateFailedException;
+import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementChecker;
 import me.theguyhere.villagerdefense.plugin.game.kits.Kit;
 import org.bukkit.Bukkit;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class PlayerDataManager {
     private static YAMLManager yamlManager;
+    /** Where player profiles are kept.*/
+    private static PlayerDataStore store;
+    /** Minutes to keep the profile of a player who is offline.*/
+    private static final int PROFILE_TTL = 5;
+    /** Path in the player data file marking that profiles were copied to the database.*/
+    private static final String MIGRATED = "migratedToDatabase";
+    /** Path in the player data file marking that profiles were copied to the binary player data file.*/
+    private static final String MIGRATED_BINARY = "migratedToBinary";
+    /** Profiles of players held in memory.*/
+    private static final Map<UUID, PlayerProfile> profiles = new HashMap<>();
+    /** Profiles with changes that haven't been saved yet.*/
+    private static final Set<PlayerProfile> dirtyProfiles = new LinkedHashSet<>();
+    /** ID of task saving changed profiles.*/
+    private static int saveTaskID = 0;
+    /** Tasks waiting for profiles being read in the background, by player UUID.*/
+    private static final Map<UUID, List<Runnable>> pendingLoads = new HashMap<>();
+    /** Completes once the store replaced by the last reload has finished its writes.*/
+    private static CompletableFuture<Void> previousStoreClosed = CompletableFuture.completedFuture(null);
 
     public static void init() {
+        // Keep pending changes from being dropped on reload
+        if (yamlManager != null) {
+            saveProfiles();
+            closeStore(store);
+            yamlManager.flush(true);
+        }
+
         yamlManager = new YAMLManager("playerData.yml");
+        store = openStore();
+        profiles.clear();
+
+        // Players still online need their profiles again
+        Bukkit.getOnlinePlayers().forEach(player -> loadProfile(player.getUniqueId()));
+        LeaderboardIndex.init();
+    }
+
+    // The database can take a while to finish writes, so let the old store finish them in the background. Reads and
+    // saves of the new store wait for it, so they don't overtake those writes.
+    private static void closeStore(PlayerDataStore oldStore) {
+        if (!oldStore.isRemote()) {
+            oldStore.close();
+            return;
+        }
+
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            oldStore.close();
+            closed.complete(null);
+        }, "VillagerDefense Player Data Closer");
+        thread.setDaemon(true);
+        thread.start();
+        previousStoreClosed = closed;
+    }
+
+    // Use the database if it's set up and reachable, otherwise the player data file or binary file
+    private static PlayerDataStore openStore() {
+        YAMLPlayerDataStore yamlStore = new YAMLPlayerDataStore(yamlManager);
+        if (!DatabaseManager.isConfigured())
+            return openFileStore(yamlStore);
+
+        DatabaseManager.connect();
+        if (!DatabaseManager.isConnected()) {
+            DatabaseManager.disconnect();
+            return openFileStore(yamlStore);
+        }
+
+        SQLPlayerDataStore sqlStore;
+        try {
+            sqlStore = new SQLPlayerDataStore(DatabaseManager::getConnection, DatabaseManager.getExecutor(),
+                DatabaseManager.getQueueSize());
+        } catch (SQLException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to set up player data tables. Falling back to playerData.yml.", false, e);
+            DatabaseManager.disconnect();
+            return yamlStore;
+        }
+
+        // Copy existing player data into the database the first time it's used
+        if (!yamlManager.hasPath(MIGRATED)) {
+            PlayerDataStore source = yamlStore;
+            boolean migrated = false;
+            try {
+                // Player data copied to playerData.dat earlier is only kept there
+                if (yamlManager.hasPath(MIGRATED_BINARY))
+                    source = openBinaryStore();
+
+                int count = PlayerDataMigrator.migrate(source, sqlStore);
+                yamlManager.setBoolean(MIGRATED, true);
+                migrated = true;
+                CommunicationManager.debugInfo(CommunicationManager.DebugLevel.NORMAL,
+                    "Copied data of %s players to the database.", Integer.toString(count));
+                if (source == yamlStore && count > 0)
+                    clearMigratedProfiles(yamlStore);
+            } catch (DataStoreException | IOException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to copy all player data to the database. Falling back to the player data file.", false,
+                    e);
+            } finally {
+                if (source != yamlStore)
+                    source.close();
+            }
+
+            // Keep using the old player data until all of it is copied, trying again on the next start
+            if (!migrated) {
+                sqlStore.close();
+                DatabaseManager.disconnect();
+                return openFileStore(yamlStore);
+            }
+        }
+        return sqlStore;
+    }
+
+    // Use the binary player data file if it's turned on, otherwise the player data file
+    private static PlayerDataStore openFileStore(YAMLPlayerDataStore yamlStore) {
+        if (!"binary".equalsIgnoreCase(Main.plugin.getConfig().getString("playerDataFormat", "yaml")))
+            return yamlStore;
+
+        BinaryPlayerDataStore binaryStore;
+        try {
+            binaryStore = openBinaryStore();
+        } catch (IOException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to read playerData.dat. Falling back to playerData.yml.", false, e);
+            return yamlStore;
+        }
+
+        // Copy existing player data into the binary file the first time it's used
+        if (!yamlManager.hasPath(MIGRATED_BINARY)) {
+            try {
+                int count = PlayerDataMigrator.migrate(yamlStore, binaryStore);
+                binaryStore.compact();
+                yamlManager.setBoolean(MIGRATED_BINARY, true);
+                CommunicationManager.debugInfo(CommunicationManager.DebugLevel.NORMAL,
+                    "Copied data of %s players from playerData.yml to playerData.dat.", Integer.toString(count));
+                if (count > 0)
+                    clearMigratedProfiles(yamlStore);
+            } catch (DataStoreException | IOException e) {
+                // Keep using playerData.yml until all of it is copied, trying again on the next start
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to copy all player data to playerData.dat. Falling back to playerData.yml.", false, e);
+                binaryStore.close();
+                return yamlStore;
+            }
+        }
+        return binaryStore;
+    }
+
+    private static BinaryPlayerDataStore openBinaryStore() throws IOException {
+        return new BinaryPlayerDataStore(new File(Main.plugin.getDataFolder(), "playerData.dat"),
+            new File(Main.plugin.getDataFolder(), "playerData.journal"));
+    }
+
+    // Drop profiles copied out of playerData.yml so it stays quick to load, keeping a backup of the file
+    private static void clearMigratedProfiles(YAMLPlayerDataStore yamlStore) {
+        try {
+            yamlManager.backup();
+        } catch (IOException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to back up playerData.yml, so the copied player data was left in it.", false, e);
+            return;
+        }
+        yamlStore.clearProfiles();
+        CommunicationManager.debugInfo(CommunicationManager.DebugLevel.NORMAL,
+            "Removed the copied player data from playerData.yml. The old file was kept as playerData.yml.bak.");
+    }
+
+    /**
+     * Writes any batched changes to disk immediately.
+     */
+    public static void flush() {
+        if (yamlManager != null) {
+            saveProfiles();
+            yamlManager.flush(true);
+        }
+    }
+
+    /**
+     * Writes any batched changes and waits for them to be saved, then releases the data store and database.
+     */
+    public static void close() {
+        if (yamlManager != null) {
+            previousStoreClosed.join();
+            flush();
+            store.close();
+
+            // Changes the store turned away or failed to write get one last try
+            if (!dirtyProfiles.isEmpty()) {
+                List<PlayerProfile> batch = new ArrayList<>();
+                dirtyProfiles.forEach(profile -> batch.add(profile.snapshot()));
+                if (store.saveNow(batch))
+                    dirtyProfiles.forEach(PlayerProfile::markClean);
+                else CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to save the player data of %s players.", Integer.toString(batch.size()));
+                dirtyProfiles.clear();
+                yamlManager.flush(true);
+            }
+        }
+        DatabaseManager.disconnect();
+    }
+
+    public static void loadProfile(UUID uuid) {
+        loadProfile(uuid, null);
+    }
+
+    /**
+     * Loads the profile of a player into memory ahead of use, then runs a task on the main thread. Slow stores are
+     * read in the background, so the task may run later.
+     * @param uuid Player UUID
+     * @param onLoad Task to run once the profile is in memory, or null. Isn't run if the profile couldn't be read.
+     */
+    public static void loadProfile(UUID uuid, Runnable onLoad) {
+        if (profiles.containsKey(uuid) || !store.isRemote()) {
+            getProfile(uuid);
+            if (onLoad != null)
+                onLoad.run();
+            return;
+        }
+
+        // Share a read already under way
+        List<Runnable> waiting = pendingLoads.get(uuid);
+        if (waiting != null) {
+            if (onLoad != null)
+                waiting.add(onLoad);
+            return;
+        }
+        waiting = new ArrayList<>();
+        if (onLoad != null)
+            waiting.add(onLoad);
+        pendingLoads.put(uuid, waiting);
+
+        PlayerDataStore source = store;
+        previousStoreClosed.thenCompose(ignored -> source.loadAsync(uuid)).whenComplete((profile, e) ->
+            Bukkit.getScheduler().runTask(Main.plugin, () -> {
+                List<Runnable> tasks = pendingLoads.remove(uuid);
+                if (e != null) {
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                        "Failed to load player data of " + uuid);
+                    return;
+                }
+
+                // Read again from stores that replaced this one in the meantime
+                if (source != store) {
+                    loadProfile(uuid);
+                    tasks.forEach(task -> loadProfile(uuid, task));
+                    return;
+                }
+
+                // Keep a profile already loaded in the meantime
+                if (profiles.putIfAbsent(uuid, profile) == null && Bukkit.getPlayer(uuid) == null)
+                    scheduleEviction(uuid);
+                tasks.forEach(Runnable::run);
+            }));
+    }
+
+    /**
+     * Schedules the profile of a player to be saved and dropped from memory if they stay offline.
+     * @param uuid Player UUID
+     */
+    public static void scheduleEviction(UUID uuid) {
+        Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> {
+            // Keep profiles of players who came back
+            if (Bukkit.getPlayer(uuid) != null)
+                return;
+
+            PlayerProfile profile = profiles.get(uuid);
+            if (profile == null)
+                return;
+
+            // Only let go once the store has every change, so failed saves can still be tried again
+            if (profile.isDirty())
+                saveProfile(profile);
+            if (profile.isDirty() || profile.isSaving())
+                scheduleEviction(uuid);
+            else profiles.remove(uuid);
+        }, Calculator.secondsToTicks(PROFILE_TTL * 60));
+    }
+
+    private static @NotNull PlayerProfile getProfile(UUID uuid) {
+        PlayerProfile profile = profiles.get(uuid);
+        if (profile != null)
+            return profile;
+
+        // Don't wait on the database. Read in the background and hand back an empty profile meanwhile, without caching
+        // it, so changes to it can't overwrite real data.
+        if (store.isRemote()) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.VERBOSE,
+                "Player data of " + uuid + " was used before it was loaded.");
+            loadProfile(uuid);
+            return new PlayerProfile(uuid);
+        }
+
+        try {
+            profile = store.load(uuid);
+        } catch (DataStoreException e) {
+            // Hand back an empty profile without caching it, so changes to it can't overwrite real data
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to load player data of " + uuid, false, e);
+            return new PlayerProfile(uuid);
+        }
+        profiles.put(uuid, profile);
+
+        // Don't hold on to offline players for long
+        if (Bukkit.getPlayer(uuid) == null)
+            scheduleEviction(uuid);
+
+        return profile;
+    }
+
+    // Change the profile of a player, waiting for it to be read first if it's only in the database
+    private static void updateProfile(UUID uuid, Consumer<PlayerProfile> update) {
+        Runnable task = () -> {
+            PlayerProfile profile = getProfile(uuid);
+            update.accept(profile);
+            markDirty(profile);
+        };
+        if (profiles.containsKey(uuid) || !store.isRemote())
+            task.run();
+        else loadProfile(uuid, task);
+    }
+
+    // Queue a changed profile for the next batched save, or save right away if batching is off
+    private static void markDirty(PlayerProfile profile) {
+        if (profiles.get(profile.getId()) != profile)
+            return;
+
+        if (!Main.plugin.getConfig().getBoolean("writeBehind", true)) {
+            saveProfile(profile);
+            return;
+        }
+
+        dirtyProfiles.add(profile);
+        scheduleSave();
+    }
+
+    // Save changed profiles after the batching interval
+    private static void scheduleSave() {
+        if (saveTaskID != 0 || !Main.plugin.isEnabled())
+            return;
+
+        int interval = Calculator.secondsToTicks(Math.max(Main.plugin.getConfig().getInt("writeBehindInterval", 5), 1));
+        saveTaskID = Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> {
+            saveTaskID = 0;
+            saveProfiles();
+        }, interval);
+    }
+
+    /**
+     * Hands the changes of all changed profiles to the store in one batch.
+     */
+    private static void saveProfiles() {
+        if (dirtyProfiles.isEmpty())
+            return;
+
+        List<PlayerProfile> saved = new ArrayList<>(dirtyProfiles);
+        dirtyProfiles.clear();
+        save(saved);
+    }
+
+    private static void saveProfile(PlayerProfile profile) {
+        dirtyProfiles.remove(profile);
+        save(Collections.singletonList(profile));
+    }
+
+    /**
+     * Hands the changes of profiles to the store. Profiles are only marked clean once the store takes the batch, and
+     * are marked changed again if it fails to store it, so no change is dropped.
+     * @param saved Profiles with changes
+     */
+    private static void save(List<PlayerProfile> saved) {
+        // Wait for the store replaced by a reload, so older writes can't overwrite these
+        if (!previousStoreClosed.isDone()) {
+            saved.forEach(PlayerDataManager::retrySave);
+            return;
+        }
+
+        List<PlayerProfile> batch = new ArrayList<>();
+        saved.forEach(profile -> batch.add(profile.snapshot()));
+        CompletableFuture<Void> result = store.save(batch);
+
+        // Keep the changes and try again later if the store turned the batch away
+        if (result.isCompletedExceptionally()) {
+            saved.forEach(PlayerDataManager::retrySave);
+            return;
+        }
+
+        saved.forEach(profile -> {
+            profile.markClean();
+            profile.startSave();
+        });
+        result.whenComplete((ignored, e) -> runOnMainThread(() -> {
+            for (int i = 0; i < saved.size(); i++) {
+                PlayerProfile profile = saved.get(i);
+                profile.finishSave();
+                if (e != null) {
+                    profile.markDirty(batch.get(i));
+                    retrySave(profile);
+                }
+            }
+        }));
+    }
+
+    // Queue a profile that failed to save for the next batched save
+    private static void retrySave(PlayerProfile profile) {
+        if (profile.isDeleted())
+            return;
+
+        // Profiles dropped from memory by a reload in the meantime are newer than what's stored, so take them back
+        UUID uuid = profile.getId();
+        if (!profiles.containsKey(uuid)) {
+            profiles.put(uuid, profile);
+            if (Main.plugin.isEnabled() && Bukkit.getPlayer(uuid) == null)
+                scheduleEviction(uuid);
+        }
+        if (profiles.get(uuid) != profile) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to save player data of " + uuid);
+            return;
+        }
+
+        dirtyProfiles.add(profile);
+        scheduleSave();
+    }
+
+    // Run a task on the main thread. While the plugin shuts down, the main thread is waiting on the store, so the task
+    // runs right away instead.
+    private static void runOnMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread() || !Main.plugin.isEnabled())
+            task.run();
+        else Bukkit.getScheduler().runTask(Main.plugin, task);
+    }
+
+    /**
+     * Retrieves the number of player data writes waiting for the database.
+     * @return Number of waiting writes, or 0 if the database isn't used
+     */
+    static int getWriteQueueDepth() {
+        return store instanceof SQLPlayerDataStore ? ((SQLPlayerDataStore) store).getQueueDepth() : 0;
     }
 
     public static boolean hasPlayer(UUID uuid) {
-        return yamlManager.hasPath(uuid.toString());
+        // Profiles in memory are up to date and may have changes the store doesn't have yet
+        PlayerProfile profile = profiles.get(uuid);
+        if (profile != null)
+            return profile.isDirty() || !profile.isEmpty();
+        return store.hasPlayer(uuid);
     }
 
     public static boolean playerOwnsKit(UUID uuid, Kit kit) {
         if (kit != null && kit.isAutoOwned()) {
             return true;
         }
-        try {
-            return yamlManager.getSoftBoolean(uuid + ".kits." + kit.getName());
-        } catch (NoSuchPathException e) {
-            return false;
-        }
+        return kit != null && getProfile(uuid).getKitLevel(kit.getName()) > 0;
     }
 
     /**
@@ -44,41 +490,31 @@ public class PlayerDataManager {
         if (kit == null) {
             return 0;
         }
-        try {
-            return yamlManager.getSoftInteger(uuid + ".kits." + kit.getName());
-        } catch (NoSuchPathException e) {
-            return 0;
-        }
+        return getProfile(uuid).getKitLevel(kit.getName());
     }
 
     public static void setPlayerKitLevel(UUID uuid, Kit kit, int level) {
-        yamlManager.setInteger(uuid + ".kits." + kit.getName(), level);
+        updateProfile(uuid, profile -> profile.setKitLevel(kit.getName(), level));
     }
 
     public static int getPlayerCrystals(UUID uuid) {
-        try {
-            return yamlManager.getInteger(uuid + ".crystalBalance");
-        }
-        catch (NoSuchPathException e) {
-            return 0;
-        }
+        return getProfile(uuid).getCrystals();
     }
 
     public static void setPlayerCrystals(UUID uuid, int balance) {
-        yamlManager.setInteger(uuid + ".crystalBalance", balance);
+        updateProfile(uuid, profile -> profile.setCrystals(balance));
     }
 
     public static int getPlayerStat(UUID uuid, @NotNull String type) {
-        try {
-            return yamlManager.getInteger(uuid + "." + type);
-        }
-        catch (NoSuchPathException e) {
-            return 0;
-        }
+        return getProfile(uuid).getStat(type);
     }
 
     public static void setPlayerStat(UUID uuid, @NotNull String type, int value) {
-        yamlManager.setInteger(uuid + "." + type, value);
+        updateProfile(uuid, profile -> {
+            profile.setStat(type, value);
+            LeaderboardIndex.update(uuid, type, value);
+            AchievementChecker.statChanged(uuid, type);
+        });
     }
 
     /**
@@ -87,16 +523,35 @@ public class PlayerDataManager {
      * @return List of achievements
      */
     public static List<String> getPlayerAchievements(UUID uuid) {
-        try {
-            return yamlManager.getStringList(uuid + ".achievements");
-        }
-        catch (NoSuchPathException e) {
-            return new ArrayList<>();
-        }
+        return new ArrayList<>(getProfile(uuid).getAchievements());
+    }
+
+    /**
+     * Checks whether a player earned an achievement without copying their achievements.
+     * @param uuid Player UUID
+     * @param achievement Achievement ID
+     * @return Whether the player has the achievement
+     */
+    public static boolean hasPlayerAchievement(UUID uuid, String achievement) {
+        return getProfile(uuid).hasAchievement(achievement);
+    }
+
+    /**
+     * Checks whether a player earned an achievement using its registry index.
+     * @param uuid Player UUID
+     * @param achievement Achievement, or null if it isn't registered
+     * @return Whether the player has the achievement
+     */
+    public static boolean hasPlayerAchievement(UUID uuid, Achievement achievement) {
+        return achievement != null && getProfile(uuid).hasAchievement(achievement);
+    }
+
+    public static void addPlayerAchievement(UUID uuid, String achievement) {
+        updateProfile(uuid, profile -> profile.addAchievement(achievement));
     }
 
     public static void setPlayerAchievements(UUID uuid, List<String> achievements) {
-        yamlManager.setStringList(uuid + ".achievements", achievements);
+        updateProfile(uuid, profile -> profile.setAchievements(achievements));
     }
 
     /**
@@ -104,22 +559,52 @@ public class PlayerDataManager {
      * @return Set of UUIDs
      */
     public static Set<UUID> getTrackedPlayers() {
-        try {
-            return yamlManager.getKeys("").stream()
-                .filter(s -> {
-                    try {
-                        UUID.fromString(s);
-                        return true;
-                    } catch (IllegalArgumentException e) {
-                        return false;
-                    }
-                })
-                .map(UUID::fromString)
-                .collect(Collectors.toSet());
-        }
-        catch (BadDataException | NoSuchPathException e) {
-            return new HashSet<>();
+        Set<UUID> players = store.getTrackedPlayers();
+        players.addAll(profiles.keySet());
+        return players;
+    }
+
+    /**
+     * Retrieves the values of stats for every tracked player, then hands them over on the main thread. Slow stores are
+     * read in the background, so the values may be handed over later.
+     * @param types Stat names
+     * @param onLoad Receives the stat values by player UUID for each stat
+     */
+    static void loadPlayerStats(List<String> types, Consumer<Map<String, Map<UUID, Integer>>> onLoad) {
+        if (!store.isRemote()) {
+            onLoad.accept(addProfileStats(readStats(store, types)));
+            return;
         }
+
+        PlayerDataStore source = store;
+        previousStoreClosed.thenRun(() -> {
+            try {
+                DatabaseManager.getExecutor().execute(() -> {
+                    Map<String, Map<UUID, Integer>> stats = readStats(source, types);
+                    Bukkit.getScheduler().runTask(Main.plugin, () -> {
+                        // Drop values of a store that was replaced in the meantime
+                        if (source == store)
+                            onLoad.accept(addProfileStats(stats));
+                    });
+                });
+            } catch (RejectedExecutionException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Failed to read player stats from the database.", false, e);
+            }
+        });
+    }
+
+    private static Map<String, Map<UUID, Integer>> readStats(PlayerDataStore source, List<String> types) {
+        Map<String, Map<UUID, Integer>> stats = new HashMap<>();
+        types.forEach(type -> stats.put(type, source.getStatValues(type)));
+        return stats;
+    }
+
+    // Profiles in memory may have changes the store doesn't have yet
+    private static Map<String, Map<UUID, Integer>> addProfileStats(Map<String, Map<UUID, Integer>> stats) {
+        stats.forEach((type, values) ->
+            profiles.values().forEach(profile -> values.put(profile.getId(), profile.getStat(type))));
+        return stats;
     }
 
     public static List<UUID> getLoggers() {
@@ -216,7 +701,14 @@ public class PlayerDataManager {
     }
 
     public static void deletePlayerData(UUID uuid) {
+        PlayerProfile profile = profiles.remove(uuid);
+        if (profile != null) {
+            dirtyProfiles.remove(profile);
+            profile.markDeleted();
+        }
+        store.delete(uuid);
         yamlManager.delete(uuid.toString());
+        LeaderboardIndex.remove(uuid);
     }
 
     /**
@@ -0,0 +1,59 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.data.exceptions.DataStoreException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies every player profile from one {@link PlayerDataStore} to another.
+ */
+class PlayerDataMigrator {
+    /** Number of profiles handed to the target store at a time.*/
+    private static final int BATCH_SIZE = 250;
+
+    private PlayerDataMigrator() {}
+
+    /**
+     * Copies all profiles from the source store into the target store. Data already in the target store for the same
+     * players is overwritten. Every batch is stored before the next one is read.
+     * @param source Store to copy from
+     * @param target Store to copy into
+     * @return Number of profiles copied
+     * @throws DataStoreException Thrown if some profiles couldn't be copied, after copying all the others
+     */
+    static int migrate(PlayerDataStore source, PlayerDataStore target) throws DataStoreException {
+        int count = 0;
+        int failed = 0;
+        List<PlayerProfile> batch = new ArrayList<>();
+        for (UUID uuid : source.getTrackedPlayers()) {
+            PlayerProfile profile;
+            try {
+                profile = source.load(uuid);
+            } catch (DataStoreException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                    "Failed to read player data of %s for migration", uuid.toString());
+                failed++;
+                continue;
+            }
+            profile.markAllDirty();
+            batch.add(profile);
+
+            if (batch.size() >= BATCH_SIZE) {
+                if (target.saveNow(batch))
+                    count += batch.size();
+                else failed += batch.size();
+                batch = new ArrayList<>();
+            }
+        }
+        if (target.saveNow(batch))
+            count += batch.size();
+        else failed += batch.size();
+
+        if (failed > 0)
+            throw new DataStoreException("Failed to copy " + failed + " of " + (count + failed) + " profiles.");
+        return count;
+    }
+}
@@ -0,0 +1,98 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.plugin.data.exceptions.DataStoreException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Where persistent player profiles are kept. Profiles handed to a store for saving are snapshots owned by the store,
+ * so stores that write in the background can hold on to them.
+ */
+public interface PlayerDataStore {
+    /**
+     * Reads the profile of a player. May block while the data is fetched.
+     * @param uuid Player UUID
+     * @return Player profile, empty if the player has no data
+     * @throws DataStoreException Thrown if the data couldn't be read
+     */
+    PlayerProfile load(UUID uuid) throws DataStoreException;
+
+    /**
+     * Reads the profile of a player without blocking the caller if the store is slow.
+     * @param uuid Player UUID
+     * @return Future completing with the player profile
+     */
+    default CompletableFuture<PlayerProfile> loadAsync(UUID uuid) {
+        CompletableFuture<PlayerProfile> future = new CompletableFuture<>();
+        try {
+            future.complete(load(uuid));
+        } catch (DataStoreException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Saves the pending changes of a batch of profiles.
+     * @param profiles Profile snapshots with changes
+     * @return Future completing once the batch is stored. Completes exceptionally right away if the store turned the
+     * batch away, or later if it failed to store it.
+     */
+    CompletableFuture<Void> save(Collection<PlayerProfile> profiles);
+
+    /**
+     * Saves a batch of profiles before returning, for when the caller has to know the data is stored.
+     * @param profiles Profile snapshots with changes
+     * @return Whether the batch was saved
+     */
+    default boolean saveNow(Collection<PlayerProfile> profiles) {
+        try {
+            save(profiles).get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes all the data of a player.
+     * @param uuid Player UUID
+     */
+    void delete(UUID uuid);
+
+    boolean hasPlayer(UUID uuid);
+
+    /**
+     * Retrieves the UUIDs of all players with data in the store.
+     * @return Set of UUIDs
+     */
+    Set<UUID> getTrackedPlayers();
+
+    /**
+     * Retrieves the value of a stat for every player that has it.
+     * @param type Stat name
+     * @return Stat values by player UUID
+     */
+    Map<UUID, Integer> getStatValues(String type);
+
+    /**
+     * Whether reads are slow enough that they should be kept off the main thread where possible.
+     * @return Whether reads should be done in the background
+     */
+    default boolean isRemote() {
+        return false;
+    }
+
+    /**
+     * Waits for pending writes and releases any resources held by the store.
+     */
+    default void close() {}
+}
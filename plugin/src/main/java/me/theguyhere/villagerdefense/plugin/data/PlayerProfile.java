@@ -0,0 +1,231 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import lombok.Getter;
+import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
+
+import java.util.*;
+
+/**
+ * The persistent data of a single player held in memory, so frequent reads don't go back to the data file. Changes
+ * are tracked so only what changed gets written back.
+ */
+public class PlayerProfile {
+    /** Path of the crystal balance among the player stats.*/
+    static final String CRYSTALS = "crystalBalance";
+
+    /** UUID of the player.*/
+    @Getter
+    private final UUID id;
+    /** Stats by name, including the crystal balance.*/
+    private final Map<String, Integer> stats = new HashMap<>();
+    /** Kit levels by kit name.*/
+    private final Map<String, Integer> kitLevels = new HashMap<>();
+    /** Achievement IDs earned by the player, in the order they were earned.*/
+    private final Set<String> achievements = new LinkedHashSet<>();
+    /** Earned achievements by registry index, rebuilt whenever the registry or the achievements change.*/
+    private final BitSet achievementBits = new BitSet();
+    /** Registry version the achievement bits were built for, or -1 if they need rebuilding.*/
+    private int achievementBitsVersion = -1;
+
+    /** Stats changed since the last save.*/
+    private final Set<String> dirtyStats = new HashSet<>();
+    /** Kits changed since the last save.*/
+    private final Set<String> dirtyKits = new HashSet<>();
+    /** Whether the achievements changed since the last save.*/
+    private boolean achievementsDirty;
+    /** Saves handed to the store that haven't finished yet.*/
+    private int pendingSaves;
+    /** Whether the data of the player was deleted, so failed saves must not bring it back.*/
+    private boolean deleted;
+
+    PlayerProfile(UUID id) {
+        this.id = id;
+    }
+
+    public int getCrystals() {
+        return getStat(CRYSTALS);
+    }
+
+    public void setCrystals(int balance) {
+        setStat(CRYSTALS, balance);
+    }
+
+    public int getStat(String type) {
+        return stats.getOrDefault(type, 0);
+    }
+
+    public void setStat(String type, int value) {
+        stats.put(type, value);
+        dirtyStats.add(type);
+    }
+
+    public int getKitLevel(String kit) {
+        return kitLevels.getOrDefault(kit, 0);
+    }
+
+    public void setKitLevel(String kit, int level) {
+        kitLevels.put(kit, level);
+        dirtyKits.add(kit);
+    }
+
+    public boolean hasAchievement(String achievement) {
+        return achievements.contains(achievement);
+    }
+
+    /**
+     * Checks whether the player earned an achievement using the achievement's registry index.
+     * @param achievement Achievement to check
+     * @return Whether the player has the achievement
+     */
+    public boolean hasAchievement(Achievement achievement) {
+        if (achievement.getIndex() < 0)
+            return hasAchievement(achievement.getID());
+
+        // Rebuild the bits if the registry changed since they were built
+        if (achievementBitsVersion != AchievementRegistry.getVersion()) {
+            achievementBits.clear();
+            achievements.forEach(id -> {
+                Achievement registered = AchievementRegistry.get(id);
+                if (registered != null)
+                    achievementBits.set(registered.getIndex());
+            });
+            achievementBitsVersion = AchievementRegistry.getVersion();
+        }
+        return achievementBits.get(achievement.getIndex());
+    }
+
+    /**
+     * Records a newly earned achievement.
+     * @param achievement Achievement ID
+     */
+    public void addAchievement(String achievement) {
+        if (achievements.add(achievement)) {
+            achievementsDirty = true;
+            achievementBitsVersion = -1;
+        }
+    }
+
+    /**
+     * @return An unmodifiable view of the achievement IDs earned by the player.
+     */
+    public Set<String> getAchievements() {
+        return Collections.unmodifiableSet(achievements);
+    }
+
+    public void setAchievements(Collection<String> achievements) {
+        this.achievements.clear();
+        this.achievements.addAll(achievements);
+        achievementsDirty = true;
+        achievementBitsVersion = -1;
+    }
+
+    /**
+     * @return Whether the player has no stats, kits or achievements.
+     */
+    public boolean isEmpty() {
+        return stats.isEmpty() && kitLevels.isEmpty() && achievements.isEmpty();
+    }
+
+    public boolean isDirty() {
+        return !dirtyStats.isEmpty() || !dirtyKits.isEmpty() || achievementsDirty;
+    }
+
+    // Loading doesn't count as a change
+    void loadStat(String type, int value) {
+        stats.put(type, value);
+    }
+
+    void loadKitLevel(String kit, int level) {
+        kitLevels.put(kit, level);
+    }
+
+    void loadAchievements(Collection<String> achievements) {
+        this.achievements.addAll(achievements);
+        achievementBitsVersion = -1;
+    }
+
+    Map<String, Integer> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    Map<String, Integer> getKitLevels() {
+        return Collections.unmodifiableMap(kitLevels);
+    }
+
+    Set<String> getDirtyStats() {
+        return Collections.unmodifiableSet(dirtyStats);
+    }
+
+    Set<String> getDirtyKits() {
+        return Collections.unmodifiableSet(dirtyKits);
+    }
+
+    boolean isAchievementsDirty() {
+        return achievementsDirty;
+    }
+
+    /**
+     * Copies the profile along with its pending changes, so it can be saved while the original keeps changing.
+     * @return A copy of the profile.
+     */
+    PlayerProfile snapshot() {
+        PlayerProfile copy = new PlayerProfile(id);
+        copy.stats.putAll(stats);
+        copy.kitLevels.putAll(kitLevels);
+        copy.achievements.addAll(achievements);
+        copy.dirtyStats.addAll(dirtyStats);
+        copy.dirtyKits.addAll(dirtyKits);
+        copy.achievementsDirty = achievementsDirty;
+        return copy;
+    }
+
+    /**
+     * Marks everything in the profile as changed, so all of it gets saved.
+     */
+    void markAllDirty() {
+        dirtyStats.addAll(stats.keySet());
+        dirtyKits.addAll(kitLevels.keySet());
+        achievementsDirty = true;
+    }
+
+    /**
+     * Marks all changes as saved.
+     */
+    void markClean() {
+        dirtyStats.clear();
+        dirtyKits.clear();
+        achievementsDirty = false;
+    }
+
+    /**
+     * Marks the changes of a snapshot that failed to save as changed again. The current values get saved, since they
+     * are at least as new as the snapshot.
+     * @param snapshot Snapshot that failed to save
+     */
+    void markDirty(PlayerProfile snapshot) {
+        dirtyStats.addAll(snapshot.dirtyStats);
+        dirtyKits.addAll(snapshot.dirtyKits);
+        achievementsDirty |= snapshot.achievementsDirty;
+    }
+
+    void startSave() {
+        pendingSaves++;
+    }
+
+    void finishSave() {
+        pendingSaves--;
+    }
+
+    boolean isSaving() {
+        return pendingSaves > 0;
+    }
+
+    boolean isDeleted() {
+        return deleted;
+    }
+
+    void markDeleted() {
+        deleted = true;
+    }
+}
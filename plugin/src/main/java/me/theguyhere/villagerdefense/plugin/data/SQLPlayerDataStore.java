@@ -0,0 +1,353 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.data.exceptions.DataStoreException;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Keeps player profiles in an SQL database, with a table each for stats, kit levels and achievements. Writes are
+ * batched and done on a background thread so the server never waits on the database.
+ */
+class SQLPlayerDataStore implements PlayerDataStore {
+    private static final String STATS = "vd_player_stats";
+    private static final String KITS = "vd_player_kits";
+    private static final String ACHIEVEMENTS = "vd_player_achievements";
+
+    private final ConnectionSource source;
+    /** Where reads that shouldn't block the caller are run.*/
+    private final Executor reader;
+    private final Dialect dialect;
+    /** Single background thread so writes reach the database in the order they were made.*/
+    private final ThreadPoolExecutor writer;
+
+    /**
+     * @param source Where to get database connections from. Connections are closed after use.
+     * @param reader Where to run background reads
+     * @param queueSize Maximum number of writes waiting for the database before new ones are turned away
+     * @throws SQLException Thrown if the tables couldn't be set up
+     */
+    SQLPlayerDataStore(ConnectionSource source, Executor reader, int queueSize) throws SQLException {
+        this.source = source;
+        this.reader = reader;
+        writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "VillagerDefense SQL Writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement()) {
+            dialect = Dialect.of(connection.getMetaData().getDatabaseProductName());
+            statement.execute("CREATE TABLE IF NOT EXISTS " + STATS + " (uuid CHAR(36) NOT NULL, " +
+                "stat VARCHAR(64) NOT NULL, amount INT NOT NULL, PRIMARY KEY (uuid, stat))");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + KITS + " (uuid CHAR(36) NOT NULL, " +
+                "kit VARCHAR(64) NOT NULL, kit_level INT NOT NULL, PRIMARY KEY (uuid, kit))");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + ACHIEVEMENTS + " (uuid CHAR(36) NOT NULL, " +
+                "achievement VARCHAR(64) NOT NULL, PRIMARY KEY (uuid, achievement))");
+        }
+    }
+
+    @Override
+    public PlayerProfile load(UUID uuid) throws DataStoreException {
+        PlayerProfile profile = new PlayerProfile(uuid);
+        try (Connection connection = source.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT stat, amount FROM " + STATS + " WHERE uuid = ?")) {
+                statement.setString(1, uuid.toString());
+                try (ResultSet results = statement.executeQuery()) {
+                    while (results.next())
+                        profile.loadStat(results.getString(1), results.getInt(2));
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT kit, kit_level FROM " + KITS + " WHERE uuid = ?")) {
+                statement.setString(1, uuid.toString());
+                try (ResultSet results = statement.executeQuery()) {
+                    while (results.next())
+                        profile.loadKitLevel(results.getString(1), results.getInt(2));
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT achievement FROM " + ACHIEVEMENTS + " WHERE uuid = ?")) {
+                statement.setString(1, uuid.toString());
+                List<String> achievements = new ArrayList<>();
+                try (ResultSet results = statement.executeQuery()) {
+                    while (results.next())
+                        achievements.add(results.getString(1));
+                }
+                profile.loadAchievements(achievements);
+            }
+        } catch (SQLException e) {
+            throw new DataStoreException(e);
+        }
+        return profile;
+    }
+
+    @Override
+    public CompletableFuture<PlayerProfile> loadAsync(UUID uuid) {
+        CompletableFuture<PlayerProfile> future = new CompletableFuture<>();
+        try {
+            reader.execute(() -> {
+                try {
+                    future.complete(load(uuid));
+                } catch (DataStoreException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Collection<PlayerProfile> profiles) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (profiles.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+
+        List<PlayerProfile> batch = new ArrayList<>(profiles);
+        try {
+            writer.execute(() -> {
+                if (write(batch))
+                    result.complete(null);
+                else result.completeExceptionally(new DataStoreException("Failed to save player data."));
+            });
+        } catch (RejectedExecutionException e) {
+            // The caller keeps the changes and tries again later
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Too many player data writes are waiting for the database. Saving later instead.");
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Writes on the calling thread, without waiting for writes queued earlier.
+     */
+    @Override
+    public boolean saveNow(Collection<PlayerProfile> profiles) {
+        return profiles.isEmpty() || write(new ArrayList<>(profiles));
+    }
+
+    /**
+     * Writes a batch of profile changes in a single transaction.
+     * @param profiles Profile snapshots with changes
+     * @return Whether the changes were written
+     */
+    boolean write(List<PlayerProfile> profiles) {
+        try (Connection connection = source.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement stats = connection.prepareStatement(dialect.upsert(STATS,
+                     new String[]{"uuid", "stat"}, "amount"));
+                 PreparedStatement kits = connection.prepareStatement(dialect.upsert(KITS,
+                     new String[]{"uuid", "kit"}, "kit_level"));
+                 PreparedStatement clearAchievements = connection.prepareStatement(
+                     "DELETE FROM " + ACHIEVEMENTS + " WHERE uuid = ?");
+                 PreparedStatement achievements = connection.prepareStatement(
+                     "INSERT INTO " + ACHIEVEMENTS + " (uuid, achievement) VALUES (?, ?)")) {
+                for (PlayerProfile profile : profiles) {
+                    String uuid = profile.getId().toString();
+                    for (String type : profile.getDirtyStats()) {
+                        stats.setString(1, uuid);
+                        stats.setString(2, type);
+                        stats.setInt(3, profile.getStat(type));
+                        stats.addBatch();
+                    }
+                    for (String kit : profile.getDirtyKits()) {
+                        kits.setString(1, uuid);
+                        kits.setString(2, kit);
+                        kits.setInt(3, profile.getKitLevel(kit));
+                        kits.addBatch();
+                    }
+                    if (profile.isAchievementsDirty()) {
+                        clearAchievements.setString(1, uuid);
+                        clearAchievements.addBatch();
+                        for (String achievement : profile.getAchievements()) {
+                            achievements.setString(1, uuid);
+                            achievements.setString(2, achievement);
+                            achievements.addBatch();
+                        }
+                    }
+                }
+
+                // Deletes must land before the achievements are inserted again
+                stats.executeBatch();
+                kits.executeBatch();
+                clearAchievements.executeBatch();
+                achievements.executeBatch();
+                connection.commit();
+                return true;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to save player data to the database.", false, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        try {
+            writer.execute(() -> {
+                try (Connection connection = source.getConnection()) {
+                    for (String table : new String[]{STATS, KITS, ACHIEVEMENTS})
+                        try (PreparedStatement statement = connection.prepareStatement(
+                            "DELETE FROM " + table + " WHERE uuid = ?")) {
+                            statement.setString(1, uuid.toString());
+                            statement.executeUpdate();
+                        }
+                } catch (SQLException e) {
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                        "Failed to delete player data from the database.", false, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Too many player data writes are waiting for the database. Player data of " + uuid +
+                    " wasn't deleted.");
+        }
+    }
+
+    @Override
+    public boolean hasPlayer(UUID uuid) {
+        try (Connection connection = source.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM " + STATS +
+                 " WHERE uuid = ? UNION SELECT 1 FROM " + KITS + " WHERE uuid = ? UNION SELECT 1 FROM " +
+                 ACHIEVEMENTS + " WHERE uuid = ?")) {
+            for (int i = 1; i <= 3; i++)
+                statement.setString(i, uuid.toString());
+            try (ResultSet results = statement.executeQuery()) {
+                return results.next();
+            }
+        } catch (SQLException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to read player data from the database.", false, e);
+            return false;
+        }
+    }
+
+    @Override
+    public Set<UUID> getTrackedPlayers() {
+        Set<UUID> players = new HashSet<>();
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet results = statement.executeQuery("SELECT uuid FROM " + STATS + " UNION SELECT uuid FROM " +
+                 KITS + " UNION SELECT uuid FROM " + ACHIEVEMENTS)) {
+            while (results.next())
+                try {
+                    players.add(UUID.fromString(results.getString(1)));
+                } catch (IllegalArgumentException ignored) {}
+        } catch (SQLException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to read player data from the database.", false, e);
+        }
+        return players;
+    }
+
+    @Override
+    public Map<UUID, Integer> getStatValues(String type) {
+        Map<UUID, Integer> values = new HashMap<>();
+        try (Connection connection = source.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT uuid, amount FROM " + STATS + " WHERE stat = ?")) {
+            statement.setString(1, type);
+            try (ResultSet results = statement.executeQuery()) {
+                while (results.next())
+                    try {
+                        values.put(UUID.fromString(results.getString(1)), results.getInt(2));
+                    } catch (IllegalArgumentException ignored) {}
+            }
+        } catch (SQLException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                "Failed to read player data from the database.", false, e);
+        }
+        return values;
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS))
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                    "Timed out waiting for player data to be saved to the database.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the number of writes waiting for the database.
+     * @return Number of waiting writes
+     */
+    int getQueueDepth() {
+        return writer.getQueue().size();
+    }
+
+    /**
+     * Supplies database connections to a store.
+     */
+    @FunctionalInterface
+    interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    /**
+     * The SQL flavors the store knows how to write upserts for.
+     */
+    enum Dialect {
+        MYSQL,
+        H2,
+        SQLITE;
+
+        static Dialect of(String productName) {
+            String name = productName.toLowerCase(Locale.ROOT);
+            if (name.contains("h2"))
+                return H2;
+            if (name.contains("sqlite"))
+                return SQLITE;
+            return MYSQL;
+        }
+
+        /**
+         * Builds an insert-or-update statement taking the key columns followed by the value column as parameters.
+         * @param table Table name
+         * @param keys Primary key columns
+         * @param value Value column
+         * @return Upsert statement
+         */
+        String upsert(String table, String[] keys, String value) {
+            String columns = String.join(", ", keys) + ", " + value;
+            String parameters = String.join(", ", Collections.nCopies(keys.length + 1, "?"));
+            switch (this) {
+                case H2:
+                    return "MERGE INTO " + table + " (" + columns + ") KEY (" + String.join(", ", keys) +
+                        ") VALUES (" + parameters + ")";
+                case SQLITE:
+                    return "INSERT INTO " + table + " (" + columns + ") VALUES (" + parameters + ") ON CONFLICT (" +
+                        String.join(", ", keys) + ") DO UPDATE SET " + value + " = excluded." + value;
+                default:
+                    return "INSERT INTO " + table + " (" + columns + ") VALUES (" + parameters +
+                        ") ON DUPLICATE KEY UPDATE " + value + " = VALUES(" + value + ")";
+            }
+        }
+    }
+}
@@ -1,125 +1,231 @@
 package me.theguyhere.villagerdefense.plugin.data;
 
 import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
-
-import java.util.ArrayList;
-import java.util.List;
-
+import me.theguyhere.villagerdefense.plugin.game.WeightedRandom;
+import org.bukkit.entity.EntityType;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A spawn table parsed once into per-wave counts and type selectors. Tables are cached by name and recompiled when
+ * their file changes.
+ */
 public class SpawnTableDataManager {
     private static final String FREEPLAY = "freePlay";
-    private final YAMLManager yamlManager;
-
-    public SpawnTableDataManager(String name) {
-        yamlManager = new YAMLManager("spawnTables/" + name + ".yml");
+    /** Milliseconds to trust a cached table before checking its file for changes.*/
+    private static final long CHECK_INTERVAL = 1000;
+    /** Compiled spawn tables by name.*/
+    private static final Map<String, SpawnTableDataManager> tables = new HashMap<>();
+    /** Short names for monster types usable in spawn tables.*/
+    private static final Map<String, EntityType> entityTypeAbbvs = new HashMap<>();
+
+    static {
+        entityTypeAbbvs.put("zomb", EntityType.ZOMBIE);
+        entityTypeAbbvs.put("husk", EntityType.HUSK);
+        entityTypeAbbvs.put("wskl", EntityType.WITHER_SKELETON);
+        entityTypeAbbvs.put("brut", EntityType.PIGLIN_BRUTE);
+        entityTypeAbbvs.put("vind", EntityType.VINDICATOR);
+        entityTypeAbbvs.put("spid", EntityType.SPIDER);
+        entityTypeAbbvs.put("cspd", EntityType.CAVE_SPIDER);
+        entityTypeAbbvs.put("wtch", EntityType.WITCH);
+        entityTypeAbbvs.put("skel", EntityType.SKELETON);
+        entityTypeAbbvs.put("stry", EntityType.STRAY);
+        entityTypeAbbvs.put("drwd", EntityType.DROWNED);
+        entityTypeAbbvs.put("blze", EntityType.BLAZE);
+        entityTypeAbbvs.put("ghst", EntityType.GHAST);
+        entityTypeAbbvs.put("pill", EntityType.PILLAGER);
+        entityTypeAbbvs.put("slim", EntityType.SLIME);
+        entityTypeAbbvs.put("mslm", EntityType.MAGMA_CUBE);
+        entityTypeAbbvs.put("crpr", EntityType.CREEPER);
+        entityTypeAbbvs.put("phtm", EntityType.PHANTOM);
+        entityTypeAbbvs.put("evok", EntityType.EVOKER);
+        entityTypeAbbvs.put("hgln", EntityType.ZOGLIN);
+        entityTypeAbbvs.put("rvgr", EntityType.RAVAGER);
+        entityTypeAbbvs.put("w", EntityType.WITHER);
     }
 
-    public int getVillagersToSpawn(int wave, int current, double multiplier) throws NoSuchPathException {
-        // Find the right wave to pull data from
-        String spawnWave = String.valueOf(wave);
-        if (!yamlManager.hasPath(spawnWave)) {
-            if (yamlManager.hasPath(FREEPLAY)) {
-                spawnWave = FREEPLAY;
-            }
-            else {
-                spawnWave = "1";
+    private final File file;
+    private final long lastModified;
+    private long lastChecked;
+    private final Map<Integer, SpawnWave> waves = new HashMap<>();
+    private final SpawnWave freePlay;
+
+    private SpawnTableDataManager(String name) {
+        file = new File(Main.plugin.getDataFolder().getPath(), "spawnTables/" + name + ".yml");
+        lastModified = file.lastModified();
+        lastChecked = System.currentTimeMillis();
+
+        // Parse every wave up front
+        YAMLManager yamlManager = new YAMLManager("spawnTables/" + name + ".yml");
+        SpawnWave freePlayWave = null;
+        try {
+            for (String key : yamlManager.getKeys("")) {
+                if (key.equals(FREEPLAY)) {
+                    freePlayWave = new SpawnWave(yamlManager, key);
+                    continue;
+                }
+                try {
+                    waves.put(Integer.parseInt(key), new SpawnWave(yamlManager, key));
+                }
+                catch (NumberFormatException e) {
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                        "Invalid wave %s in spawn table %s", key, name);
+                }
             }
         }
+        catch (BadDataException | NoSuchPathException e) {
+            CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                "Spawn table %s could not be read", name);
+        }
+        freePlay = freePlayWave;
+    }
+
+    /**
+     * Retrieves a compiled spawn table, parsing the file only if it hasn't been parsed yet or has changed.
+     * @param name Spawn table name
+     * @return Compiled spawn table
+     */
+    public static SpawnTableDataManager get(String name) {
+        SpawnTableDataManager table = tables.get(name);
+
+        // Check for file changes every so often
+        long now = System.currentTimeMillis();
+        if (table != null && now - table.lastChecked >= CHECK_INTERVAL) {
+            table.lastChecked = now;
+            if (table.file.lastModified() != table.lastModified)
+                table = null;
+        }
 
+        // Compile if needed
+        if (table == null) {
+            table = new SpawnTableDataManager(name);
+            tables.put(name, table);
+        }
+        return table;
+    }
+
+    /**
+     * Forgets all compiled spawn tables so they get parsed again on next use.
+     */
+    public static void clearCache() {
+        tables.clear();
+    }
+
+    public int getVillagersToSpawn(int wave, int current, double multiplier) throws NoSuchPathException {
         // Calculate amount to spawn
-        return Math.max((int) (yamlManager.getInteger(spawnWave + ".count.v") * multiplier), 1) - current;
+        return Math.max((int) (getWave(wave).getCount(SpawnWave.VILLAGERS) * multiplier), 1) - current;
     }
 
     public int getMonstersToSpawn(int wave, double multiplier) throws NoSuchPathException {
-        // Find the right wave to pull data from
-        String spawnWave = String.valueOf(wave);
-        if (!yamlManager.hasPath(spawnWave)) {
-            if (yamlManager.hasPath(FREEPLAY)) {
-                spawnWave = FREEPLAY;
-            }
-            else {
-                spawnWave = "1";
-            }
-        }
-
         // Calculate amount to spawn
-        int raw = yamlManager.getInteger(spawnWave + ".count.m");
+        int raw = getWave(wave).getCount(SpawnWave.MONSTERS);
         if (raw == 0) {
             return raw;
         }
         return Math.max((int) (raw * multiplier), 1);
     }
 
-    public List<String> getMonsterTypes(int wave) throws NoSuchPathException, BadDataException {
-        // Find the right wave to pull data from
-        String spawnWave = String.valueOf(wave);
-        if (!yamlManager.hasPath(spawnWave)) {
-            if (yamlManager.hasPath(FREEPLAY)) {
-                spawnWave = FREEPLAY;
-            }
-            else {
-                spawnWave = "1";
-            }
-        }
+    public WeightedRandom<EntityType> getMonsterTypes(int wave) throws NoSuchPathException {
+        WeightedRandom<EntityType> types = getWave(wave).monsterTypes;
+        if (types == null)
+            throw new NoSuchPathException();
+        return types;
+    }
 
-        // Create proportional type list
-        List<String> typeRatio = new ArrayList<>();
-        String finalSpawnWave = spawnWave;
-        yamlManager.getKeys(spawnWave + ".mtypes").forEach(type -> {
-            try {
-                for (int i = 0; i < yamlManager.getInteger(finalSpawnWave + ".mtypes." + type); i++) {
-                    typeRatio.add(type);
-                }
-            } catch (NoSuchPathException e) {
-                CommunicationManager.debugErrorShouldNotHappen();
-            }
-        });
+    public int getBossesToSpawn(int wave) throws NoSuchPathException {
+        // Get amount to spawn
+        return getWave(wave).getCount(SpawnWave.BOSSES);
+    }
 
-        return typeRatio;
+    public WeightedRandom<EntityType> getBossTypes(int wave) throws NoSuchPathException {
+        WeightedRandom<EntityType> types = getWave(wave).bossTypes;
+        if (types == null)
+            throw new NoSuchPathException();
+        return types;
     }
 
-    public int getBossesToSpawn(int wave) throws NoSuchPathException {
-        // Find the right wave to pull data from
-        String spawnWave = String.valueOf(wave);
-        if (!yamlManager.hasPath(spawnWave)) {
-            if (yamlManager.hasPath(FREEPLAY)) {
-                spawnWave = FREEPLAY;
-            }
-            else {
-                spawnWave = "1";
-            }
-        }
+    // Find the right wave to pull data from
+    private SpawnWave getWave(int wave) throws NoSuchPathException {
+        SpawnWave spawnWave = waves.get(wave);
+        if (spawnWave == null)
+            spawnWave = freePlay;
+        if (spawnWave == null)
+            spawnWave = waves.get(1);
+        if (spawnWave == null)
+            throw new NoSuchPathException();
+        return spawnWave;
+    }
 
-        // Get amount to spawn
-        return yamlManager.getInteger(spawnWave + ".count.b");
+    private static EntityType parseType(String typename) {
+        try {
+            return EntityType.valueOf(typename.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            return entityTypeAbbvs.get(typename);
+        }
     }
 
-    public List<String> getBossTypes(int wave) throws NoSuchPathException, BadDataException {
-        // Find the right wave to pull data from
-        String spawnWave = String.valueOf(wave);
-        if (!yamlManager.hasPath(spawnWave)) {
-            if (yamlManager.hasPath(FREEPLAY)) {
-                spawnWave = FREEPLAY;
-            }
-            else {
-                spawnWave = "1";
+    /**
+     * Counts and type selectors for a single wave of a spawn table.
+     */
+    private static class SpawnWave {
+        private static final int VILLAGERS = 0;
+        private static final int MONSTERS = 1;
+        private static final int BOSSES = 2;
+        private static final String[] COUNT_KEYS = {"v", "m", "b"};
+
+        /** Counts indexed by spawn kind, or -1 if not set.*/
+        private final int[] counts = new int[COUNT_KEYS.length];
+        private final WeightedRandom<EntityType> monsterTypes;
+        private final WeightedRandom<EntityType> bossTypes;
+
+        private SpawnWave(YAMLManager yamlManager, String wave) {
+            for (int i = 0; i < COUNT_KEYS.length; i++) {
+                try {
+                    counts[i] = yamlManager.getInteger(wave + ".count." + COUNT_KEYS[i]);
+                }
+                catch (NoSuchPathException e) {
+                    counts[i] = -1;
+                }
             }
+            monsterTypes = parseTypes(yamlManager, wave + ".mtypes");
+            bossTypes = parseTypes(yamlManager, wave + ".btypes");
         }
 
-        // Create proportional type list
-        List<String> typeRatio = new ArrayList<>();
-        String finalSpawnWave = spawnWave;
-        yamlManager.getKeys(spawnWave + ".btypes").forEach(type -> {
+        private int getCount(int kind) throws NoSuchPathException {
+            if (counts[kind] < 0)
+                throw new NoSuchPathException();
+            return counts[kind];
+        }
+
+        private static WeightedRandom<EntityType> parseTypes(YAMLManager yamlManager, String path) {
+            if (!yamlManager.hasPath(path))
+                return null;
+
+            Map<EntityType, Integer> weights = new LinkedHashMap<>();
             try {
-                for (int i = 0; i < yamlManager.getInteger(finalSpawnWave + ".btypes." + type); i++) {
-                    typeRatio.add(type);
+                for (String typename : yamlManager.getKeys(path)) {
+                    EntityType type = parseType(typename);
+                    if (type == null) {
+                        CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                            "Failed to parse type %s at %s", typename, path);
+                        continue;
+                    }
+                    weights.merge(type, yamlManager.getInteger(path + "." + typename), Integer::sum);
                 }
-            } catch (NoSuchPathException e) {
-                CommunicationManager.debugErrorShouldNotHappen();
             }
-        });
-
-        return typeRatio;
+            catch (BadDataException | NoSuchPathException e) {
+                CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL,
+                    "Invalid spawn types at %s", path);
+                return null;
+            }
+            return new WeightedRandom<>(weights);
+        }
     }
 }
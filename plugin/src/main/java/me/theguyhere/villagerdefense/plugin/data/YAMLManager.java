@@ -4,8 +4,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import me.theguyhere.villagerdefense.common.Calculator;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
@@ -18,15 +29,40 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 class YAMLManager {
+	/** Managers with changes waiting for the next batched write.*/
+	private static final Set<YAMLManager> dirtyManagers = new LinkedHashSet<>();
+	/** Background thread writing snapshots to disk in the order they were taken. Exits when idle.*/
+	private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS,
+		new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "VillagerDefense YAML Writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	/** ID of task writing batched changes.*/
+	private static int flushTaskID = 0;
+	/** Number of changes made to any data file, to tell whether files parsed earlier are still current.*/
+	private static long changeCount;
+
 	private FileConfiguration dataConfig;
 	private File configFile;
 	private final String fileName;
+	/** Whether the in-memory data has changes that have not been written.*/
+	private boolean dirty;
+	/** Version of the latest snapshot taken for writing.*/
+	private long snapshotVersion;
+	/** Version of the latest snapshot written to disk.*/
+	private long writtenVersion;
+	/** Latest snapshot handed to the background writer.*/
+	private Future<?> pendingWrite;
 
 	YAMLManager(String fileName) {
 		this.fileName = fileName;
 
 		// Saves/initializes the config
 		saveDefaultConfig();
+
+		// Use the file parsed ahead of time if there is one
+		dataConfig = DataLoader.take(fileName);
 	}
 
 	private void reloadConfig() {
@@ -35,14 +71,31 @@ class YAMLManager {
 			configFile = new File(Main.plugin.getDataFolder().getPath(), fileName);
 
 		// Refresh file configuration object
-		dataConfig = YamlConfiguration.loadConfiguration(configFile);
+		dataConfig = parse(configFile, fileName);
+	}
+
+	/**
+	 * Parses a data file, saving the default file first if it doesn't exist. Safe to call off the main thread.
+	 * @param fileName Name of the file in the plugin folder
+	 * @return Parsed data
+	 */
+	static FileConfiguration parse(String fileName) {
+		File file = new File(Main.plugin.getDataFolder().getPath(), fileName);
+		if (!file.exists())
+			Main.plugin.saveResource(fileName, false);
+		return parse(file, fileName);
+	}
+
+	private static FileConfiguration parse(File file, String fileName) {
+		FileConfiguration config = YamlConfiguration.loadConfiguration(file);
 
 		// Write data into default file
 		InputStream defaultStream = Main.plugin.getResource(fileName);
 		if (defaultStream != null) {
 			YamlConfiguration defaultConfig = YamlConfiguration.loadConfiguration(new InputStreamReader(defaultStream));
-			dataConfig.setDefaults(defaultConfig);
+			config.setDefaults(defaultConfig);
 		}
+		return config;
 	}
 
 	private @NotNull FileConfiguration getConfig() {
@@ -58,9 +111,86 @@ class YAMLManager {
 		if (dataConfig == null || configFile == null)
 			return;
 
-		// Try saving
+		dirty = true;
+		changeCount++;
+
+		// Write immediately if batching is off
+		if (!Main.plugin.getConfig().getBoolean("writeBehind", true)) {
+			flush(true);
+			return;
+		}
+
+		// Otherwise wait for the next batched write
+		dirtyManagers.add(this);
+		startFlushTask();
+	}
+
+	/**
+	 * Writes any changes held in memory to disk. The data is always serialized on the calling thread, but the file
+	 * write itself can be done in the background. Writing on the calling thread also waits for any background write
+	 * still in progress, so the file is current once this returns.
+	 * @param sync Whether to write the file on the calling thread
+	 */
+	void flush(boolean sync) {
+		dirtyManagers.remove(this);
+		if (dataConfig == null || configFile == null)
+			return;
+
+		// Nothing new to write, but an earlier snapshot may still be on its way to disk
+		if (!dirty) {
+			if (sync)
+				awaitPendingWrite();
+			return;
+		}
+
+		// Take a snapshot of the current data
+		dirty = false;
+		String contents = dataConfig.saveToString();
+		long version = ++snapshotVersion;
+
+		// Write the snapshot
+		if (sync)
+			write(contents, version);
+		else pendingWrite = writer.submit(() -> write(contents, version));
+	}
+
+	// Wait for the latest background write of this file to finish
+	private void awaitPendingWrite() {
+		if (pendingWrite == null)
+			return;
+
 		try {
-			getConfig().save(configFile);
+			pendingWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+				"Could not save config to " + configFile, false, e);
+		}
+		pendingWrite = null;
+	}
+
+	/**
+	 * Writes a snapshot to a temporary file then swaps it in, so a crash mid-write leaves the old file intact.
+	 * @param contents Serialized data
+	 * @param version Version of the snapshot
+	 */
+	private synchronized void write(String contents, long version) {
+		// Skip snapshots that have already been superseded
+		if (version <= writtenVersion)
+			return;
+
+		Path target = configFile.toPath();
+		Path temp = new File(configFile.getPath() + ".tmp").toPath();
+		try {
+			Files.createDirectories(target.toAbsolutePath().getParent());
+			Files.write(temp, contents.getBytes(StandardCharsets.UTF_8));
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			writtenVersion = version;
 		} catch (IOException e) {
 			CommunicationManager.debugError(
 				CommunicationManager.DebugLevel.QUIET, "Could not save config to " + configFile,
@@ -70,6 +200,40 @@ class YAMLManager {
 		}
 	}
 
+	/**
+	 * Stops the background writer once every queued snapshot is on disk, for when the plugin shuts down.
+	 */
+	static void shutdownWriter() {
+		writer.shutdown();
+		try {
+			if (!writer.awaitTermination(30, TimeUnit.SECONDS))
+				CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+					"Timed out waiting for data files to be written.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static long getChangeCount() {
+		return changeCount;
+	}
+
+	/**
+	 * Writes all batched changes in the background.
+	 */
+	private static void flushDirty() {
+		new ArrayList<>(dirtyManagers).forEach(manager -> manager.flush(false));
+	}
+
+	private static void startFlushTask() {
+		if (flushTaskID != 0)
+			return;
+
+		int interval = Calculator.secondsToTicks(Math.max(Main.plugin.getConfig().getInt("writeBehindInterval", 5), 1));
+		flushTaskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, YAMLManager::flushDirty,
+			interval, interval);
+	}
+
 	private void saveDefaultConfig() {
 		// Create config file object
 		if (configFile == null)
@@ -351,6 +515,27 @@ class YAMLManager {
 		saveConfig();
 	}
 
+	/**
+	 * Deletes several paths, saving only once.
+	 * @param paths Data paths
+	 */
+	void delete(Collection<String> paths) {
+		if (paths.isEmpty())
+			return;
+
+		paths.forEach(path -> getConfig().set(path, null));
+		saveConfig();
+	}
+
+	/**
+	 * Writes a copy of the current data next to the data file, named after it with ".bak" added.
+	 * @throws IOException Thrown if the copy couldn't be written
+	 */
+	void backup() throws IOException {
+		File backup = new File(Main.plugin.getDataFolder().getPath(), fileName + ".bak");
+		Files.write(backup.toPath(), getConfig().saveToString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * Reads a list of strings from a configuration path.
 	 * @param path Data path
@@ -0,0 +1,123 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
+import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps player profiles in the player data file, next to the data held for players who left mid-game.
+ */
+class YAMLPlayerDataStore implements PlayerDataStore {
+    /** Player data paths that aren't part of the profile stats.*/
+    private static final Set<String> NON_STAT_PATHS = new HashSet<>(Arrays.asList("kits", "achievements",
+        "health", "absorption", "food", "saturation", "level", "exp", "inventory"));
+    /** Player data paths held for players who left mid-game, which aren't part of the profile.*/
+    private static final Set<String> LOGGER_PATHS = new HashSet<>(Arrays.asList("health", "absorption", "food",
+        "saturation", "level", "exp", "inventory"));
+
+    private final YAMLManager yamlManager;
+
+    YAMLPlayerDataStore(YAMLManager yamlManager) {
+        this.yamlManager = yamlManager;
+    }
+
+    @Override
+    public PlayerProfile load(UUID uuid) {
+        PlayerProfile profile = new PlayerProfile(uuid);
+        try {
+            for (String key : yamlManager.getKeys(uuid.toString())) {
+                if (!NON_STAT_PATHS.contains(key))
+                    try {
+                        profile.loadStat(key, yamlManager.getInteger(uuid + "." + key));
+                    } catch (NoSuchPathException ignored) {}
+            }
+        } catch (BadDataException | NoSuchPathException ignored) {}
+        try {
+            for (String kit : yamlManager.getKeys(uuid + ".kits"))
+                try {
+                    profile.loadKitLevel(kit, yamlManager.getSoftInteger(uuid + ".kits." + kit));
+                } catch (NoSuchPathException ignored) {}
+        } catch (BadDataException | NoSuchPathException ignored) {}
+        try {
+            profile.loadAchievements(yamlManager.getStringList(uuid + ".achievements"));
+        } catch (NoSuchPathException ignored) {}
+        return profile;
+    }
+
+    @Override
+    public CompletableFuture<Void> save(Collection<PlayerProfile> profiles) {
+        for (PlayerProfile profile : profiles) {
+            UUID uuid = profile.getId();
+            profile.getDirtyStats().forEach(type ->
+                yamlManager.setInteger(uuid + "." + type, profile.getStat(type)));
+            profile.getDirtyKits().forEach(kit ->
+                yamlManager.setInteger(uuid + ".kits." + kit, profile.getKitLevel(kit)));
+            if (profile.isAchievementsDirty())
+                yamlManager.setStringList(uuid + ".achievements", new ArrayList<>(profile.getAchievements()));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        yamlManager.delete(uuid.toString());
+    }
+
+    @Override
+    public boolean hasPlayer(UUID uuid) {
+        return yamlManager.hasPath(uuid.toString());
+    }
+
+    @Override
+    public Set<UUID> getTrackedPlayers() {
+        try {
+            return yamlManager.getKeys("").stream()
+                .filter(s -> {
+                    try {
+                        UUID.fromString(s);
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        return false;
+                    }
+                })
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+        }
+        catch (BadDataException | NoSuchPathException e) {
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * Removes every profile from the player data file, such as after they were copied to another store. Data held
+     * for players who left mid-game is kept.
+     */
+    void clearProfiles() {
+        List<String> paths = new ArrayList<>();
+        for (UUID uuid : getTrackedPlayers()) {
+            try {
+                Set<String> keys = yamlManager.getKeys(uuid.toString());
+                List<String> profileKeys = keys.stream().filter(key -> !LOGGER_PATHS.contains(key))
+                    .collect(Collectors.toList());
+                if (profileKeys.size() == keys.size())
+                    paths.add(uuid.toString());
+                else profileKeys.forEach(key -> paths.add(uuid + "." + key));
+            } catch (BadDataException | NoSuchPathException ignored) {}
+        }
+        yamlManager.delete(paths);
+    }
+
+    @Override
+    public Map<UUID, Integer> getStatValues(String type) {
+        Map<UUID, Integer> values = new HashMap<>();
+        for (UUID uuid : getTrackedPlayers()) {
+            try {
+                values.put(uuid, yamlManager.getInteger(uuid + "." + type));
+            } catch (NoSuchPathException ignored) {}
+        }
+        return values;
+    }
+}
@@ -0,0 +1,15 @@
+package me.theguyhere.villagerdefense.plugin.data.exceptions;
+
+public class DataStoreException extends Exception {
+    public DataStoreException(String message) {
+        super(message);
+    }
+
+    public DataStoreException(Throwable cause) {
+        super(cause);
+    }
+
+    public DataStoreException() {
+        super();
+    }
+}
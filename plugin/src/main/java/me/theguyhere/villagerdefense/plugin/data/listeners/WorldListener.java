@@ -5,7 +5,6 @@ import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 
 public class WorldListener implements Listener {
@@ -21,9 +20,4 @@ public class WorldListener implements Listener {
             GameManager.refreshAll();
         }
     }
-
-    @EventHandler
-    public void onPlayerChangeWorldEvent(PlayerChangedWorldEvent e) {
-        GameManager.displayEverything(e.getPlayer());
-    }
 }
@@ -0,0 +1,133 @@
+package me.theguyhere.villagerdefense.plugin.entities;
+
+import lombok.Getter;
+import me.theguyhere.villagerdefense.plugin.Main;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Marks an entity as belonging to an arena. Tags are looked up from memory, and are also stored on the entity itself
+ * so they are found again if the entity gets reloaded.
+ */
+public class ArenaMobTag {
+    /** Value of the game ID or wave for mobs that aren't tied to one.*/
+    public static final int NONE = -1;
+
+    private static final NamespacedKey ARENA = new NamespacedKey(Main.plugin, "arena");
+    private static final NamespacedKey GAME = new NamespacedKey(Main.plugin, "game");
+    private static final NamespacedKey WAVE = new NamespacedKey(Main.plugin, "wave");
+    private static final NamespacedKey ROLE = new NamespacedKey(Main.plugin, "role");
+
+    /** Tags of loaded arena mobs by entity UUID.*/
+    private static final Map<UUID, ArenaMobTag> tags = new HashMap<>();
+
+    /** ID of the arena the mob belongs to.*/
+    @Getter
+    private final int arenaID;
+    /** ID of the game the mob was spawned for, or {@link #NONE}.*/
+    @Getter
+    private final int gameID;
+    /** Wave the mob was spawned in, or {@link #NONE}.*/
+    @Getter
+    private final int wave;
+    /** What side the mob is on.*/
+    @Getter
+    private final Role role;
+
+    private ArenaMobTag(int arenaID, int gameID, int wave, Role role) {
+        this.arenaID = arenaID;
+        this.gameID = gameID;
+        this.wave = wave;
+        this.role = role;
+    }
+
+    /**
+     * Tags an entity as belonging to an arena.
+     * @param entity Entity to tag
+     * @param arenaID Arena ID
+     * @param gameID Game ID, or {@link #NONE}
+     * @param wave Wave, or {@link #NONE}
+     * @param role What side the mob is on
+     */
+    public static void tag(Entity entity, int arenaID, int gameID, int wave, Role role) {
+        PersistentDataContainer data = entity.getPersistentDataContainer();
+        data.set(ARENA, PersistentDataType.INTEGER, arenaID);
+        data.set(GAME, PersistentDataType.INTEGER, gameID);
+        data.set(WAVE, PersistentDataType.INTEGER, wave);
+        data.set(ROLE, PersistentDataType.STRING, role.name());
+        tags.put(entity.getUniqueId(), new ArenaMobTag(arenaID, gameID, wave, role));
+    }
+
+    /**
+     * Retrieves the tag of an entity.
+     * @param entity Entity to check
+     * @return The tag, or null if the entity doesn't belong to an arena
+     */
+    public static ArenaMobTag get(Entity entity) {
+        if (entity == null || entity instanceof Player)
+            return null;
+
+        ArenaMobTag tag = tags.get(entity.getUniqueId());
+        if (tag != null)
+            return tag;
+
+        // Fall back to the tag stored on the entity, for entities that were reloaded
+        PersistentDataContainer data = entity.getPersistentDataContainer();
+        Integer arenaID = data.get(ARENA, PersistentDataType.INTEGER);
+        if (arenaID == null)
+            return null;
+
+        Integer gameID = data.get(GAME, PersistentDataType.INTEGER);
+        Integer wave = data.get(WAVE, PersistentDataType.INTEGER);
+        Role role;
+        try {
+            role = Role.valueOf(data.get(ROLE, PersistentDataType.STRING));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            role = Role.OTHER;
+        }
+        tag = new ArenaMobTag(arenaID, gameID == null ? NONE : gameID, wave == null ? NONE : wave, role);
+        tags.put(entity.getUniqueId(), tag);
+        return tag;
+    }
+
+    public static boolean has(Entity entity) {
+        return get(entity) != null;
+    }
+
+    public static boolean isMonster(Entity entity) {
+        ArenaMobTag tag = get(entity);
+        return tag != null && tag.role == Role.MONSTER;
+    }
+
+    public static boolean isAlly(Entity entity) {
+        ArenaMobTag tag = get(entity);
+        return tag != null && tag.role == Role.ALLY;
+    }
+
+    /**
+     * Lets go of the in-memory tag of an entity that died or was unloaded. The tag stored on the entity stays.
+     * @param entity Entity to forget
+     */
+    public static void forget(Entity entity) {
+        tags.remove(entity.getUniqueId());
+    }
+
+    /**
+     * What side an arena mob is on.
+     */
+    public enum Role {
+        /** Mobs fighting the players.*/
+        MONSTER,
+        /** Mobs fighting for the players.*/
+        ALLY,
+        /** Other mobs spawned in the arena, like those summoned by monsters.*/
+        OTHER
+    }
+}
@@ -16,14 +16,19 @@ import org.bukkit.entity.*;
 import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.EquipmentSlotGroup;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.scoreboard.Team;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 
 public class Mobs {
+    /** Colors of the health bar, from most to least health left.*/
+    private static final String[] HEALTH_COLORS = {"&a", "&e", "&c"};
+    /** Formatted health bars by size, indexed by color and then filled bars.*/
+    private static final Map<Integer, String[][]> HEALTH_BARS = new HashMap<>();
+
     private enum ItemType {
         HELMET,
         CHESTPLATE,
@@ -51,37 +56,37 @@ public class Mobs {
     private static void setMinion(Arena arena, LivingEntity livingEntity) {
         livingEntity.setCustomName(healthBar(1, 1, 5));
         livingEntity.setCustomNameVisible(true);
-        livingEntity.setMetadata("game", new FixedMetadataValue(Main.plugin, arena.getGameID()));
-        livingEntity.setMetadata("wave", new FixedMetadataValue(Main.plugin, arena.getCurrentWave()));
         if (livingEntity.isInsideVehicle())
             Objects.requireNonNull(livingEntity.getVehicle()).remove();
         for (Entity passenger : livingEntity.getPassengers())
             passenger.remove();
 
-        commonMobSetup(arena, livingEntity);
+        commonMobSetup(arena, livingEntity, true);
     }
 
     private static void setBoss(Arena arena, LivingEntity livingEntity) {
-        commonMobSetup(arena, livingEntity);
+        commonMobSetup(arena, livingEntity, false);
     }
 
     private static void setLargeMinion(Arena arena, LivingEntity livingEntity) {
         livingEntity.setCustomName(healthBar(1, 1, 10));
         livingEntity.setCustomNameVisible(true);
-        commonMobSetup(arena, livingEntity);
+        commonMobSetup(arena, livingEntity, false);
     }
 
-    private static void commonMobSetup(Arena arena, LivingEntity livingEntity) {
+    // Only minions are tied to the game and wave they were spawned in
+    private static void commonMobSetup(Arena arena, LivingEntity livingEntity, boolean minion) {
         Team monsters = Objects.requireNonNull(Bukkit.getScoreboardManager()).getMainScoreboard()
                 .getTeam("monsters");
         assert monsters != null;
 
         monsters.addEntry(livingEntity.getUniqueId().toString());
-        livingEntity.setMetadata("VD", new FixedMetadataValue(Main.plugin, arena.getId()));
-        livingEntity.setMetadata("VD_Monster", new FixedMetadataValue(Main.plugin, true));
+        ArenaMobTag.tag(livingEntity, arena.getId(), minion ? arena.getGameID() : ArenaMobTag.NONE,
+                minion ? arena.getCurrentWave() : ArenaMobTag.NONE, ArenaMobTag.Role.MONSTER);
         livingEntity.setRemoveWhenFarAway(false);
         livingEntity.setCanPickupItems(false);
         livingEntity.setPersistent(false);
+        arena.getEntities().addMonster(livingEntity);
 
         EntityEquipment equipment = livingEntity.getEquipment();
         if (equipment != null && (equipment.getHelmet() == null || equipment.getHelmet().getType() == Material.AIR)) {
@@ -389,9 +394,9 @@ public class Mobs {
         villagers.addEntry(villager.getUniqueId().toString());
         villager.setCustomName(healthBar(1, 1, 5));
         villager.setCustomNameVisible(true);
-        villager.setMetadata("VD", new FixedMetadataValue(Main.plugin, arena.getId()));
-        villager.setMetadata("VD_Ally", new FixedMetadataValue(Main.plugin, true));
+        ArenaMobTag.tag(villager, arena.getId(), ArenaMobTag.NONE, ArenaMobTag.NONE, ArenaMobTag.Role.ALLY);
         villager.setPersistent(false);
+        arena.getEntities().addOther(villager);
     }
 
     public static void setZombie(Arena arena, Zombie zombie) {
@@ -519,23 +524,22 @@ public class Mobs {
         wolf.setAdult();
         wolf.setOwner(vdPlayer.getPlayer());
         wolf.setBreed(false);
-        wolf.setMetadata("VD", new FixedMetadataValue(plugin, arena.getId()));
-        wolf.setMetadata("VD_Ally", new FixedMetadataValue(plugin, true));
+        ArenaMobTag.tag(wolf, arena.getId(), ArenaMobTag.NONE, ArenaMobTag.NONE, ArenaMobTag.Role.ALLY);
         wolf.setCustomName(vdPlayer.getPlayer().getName() + "'s Wolf");
         wolf.setCustomNameVisible(true);
         wolf.setPersistent(false);
+        arena.getEntities().addOther(wolf);
         vdPlayer.incrementWolves();
 
         setAttributeModifiers(arena, wolf);
     }
 
     public static void setGolem(Main plugin, Arena arena, IronGolem ironGolem) {
-        ironGolem.setMetadata("VD", new FixedMetadataValue(plugin, arena.getId()));
-        ironGolem.setMetadata("VD_Ally", new FixedMetadataValue(plugin, true));
+        ArenaMobTag.tag(ironGolem, arena.getId(), ArenaMobTag.NONE, ArenaMobTag.NONE, ArenaMobTag.Role.ALLY);
         ironGolem.setCustomName(healthBar(1, 1, 10));
         ironGolem.setCustomNameVisible(true);
         ironGolem.setPersistent(false);
-        arena.incrementGolems();
+        arena.getEntities().addOther(ironGolem);
 
         setAttributeModifiers(arena, ironGolem);
     }
@@ -578,19 +582,29 @@ public class Mobs {
 
     // Returns a formatted health bar
     public static String healthBar(double max, double remaining, int size) {
-        String toFormat;
+        int color;
         double healthLeft = remaining / max;
         int healthBars = (int) (healthLeft * size + .99);
         if (healthBars < 0) healthBars = 0;
+        if (healthBars > size) healthBars = size;
 
         if (healthLeft > .5)
-            toFormat = "&a";
+            color = 0;
         else if (healthLeft > .25)
-            toFormat = "&e";
-        else toFormat = "&c";
+            color = 1;
+        else color = 2;
+
+        return HEALTH_BARS.computeIfAbsent(size, Mobs::buildHealthBars)[color][healthBars];
+    }
 
-        return CommunicationManager.format(toFormat +
-                new String(new char[healthBars]).replace("\0", "▒") +
-                new String(new char[size - healthBars]).replace("\0", "  "));
+    // Formats every health bar of a size ahead of time, since there are only a few of them
+    private static String[][] buildHealthBars(int size) {
+        String[][] bars = new String[HEALTH_COLORS.length][size + 1];
+        for (int color = 0; color < HEALTH_COLORS.length; color++)
+            for (int filled = 0; filled <= size; filled++)
+                bars[color][filled] = CommunicationManager.format(HEALTH_COLORS[color] +
+                        new String(new char[filled]).replace("\0", "▒") +
+                        new String(new char[size - filled]).replace("\0", "  "));
+        return bars;
     }
 }
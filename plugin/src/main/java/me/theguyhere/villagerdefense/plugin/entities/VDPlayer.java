@@ -3,9 +3,11 @@ package me.theguyhere.villagerdefense.plugin.entities;
 import lombok.Getter;
 import lombok.Setter;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
+import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
 import me.theguyhere.villagerdefense.plugin.game.kits.Kit;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitNone;
+import me.theguyhere.villagerdefense.plugin.visuals.Sidebar;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -21,9 +23,11 @@ public class VDPlayer {
     /** UUID of corresponding {@link Player}.*/
     private final UUID player;
     /** Status of the this {@link VDPlayer}.*/
-    @Setter
     @Getter
     private Status status;
+    /** The {@link Arena} this {@link VDPlayer} is in, kept informed of status changes.*/
+    @Setter
+    private Arena arena;
     /** Gem balance.*/
     @Getter
     private int gems;
@@ -47,6 +51,10 @@ public class VDPlayer {
     @Getter
     @Setter
     private Kit kit2;
+    /** Sidebar shown to the player while in the arena.*/
+    @Getter
+    @Setter
+    private Sidebar sidebar;
     /** The list of {@link Challenge}'s the player will take on.*/
     private List<Challenge> challenge = new ArrayList<>();
     /** The list of UUIDs of those that damaged the player.*/
@@ -90,6 +98,13 @@ public class VDPlayer {
         return Bukkit.getPlayer(player);
     }
 
+    public void setStatus(Status status) {
+        Status old = this.status;
+        this.status = status;
+        if (arena != null && old != status)
+            arena.updateRoster(this, old);
+    }
+
     public void addGems(int change) {
         gems += change;
     }
@@ -9,6 +9,7 @@ import me.theguyhere.villagerdefense.plugin.data.*;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.InvalidLocationException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.PlayerNotFoundException;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
 import me.theguyhere.villagerdefense.plugin.game.events.GameEndEvent;
@@ -28,9 +29,7 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.enchantments.Enchantment;
-import org.bukkit.entity.IronGolem;
-import org.bukkit.entity.Player;
-import org.bukkit.entity.Villager;
+import org.bukkit.entity.*;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.BoundingBox;
@@ -40,12 +39,14 @@ import java.io.File;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A class managing data about a Villager Defense arena.
  */
 public class Arena implements Comparable<Arena> {
+    /** Seconds between audits of the tracked entities against the world.*/
+    public static final int AUDIT_INTERVAL = 30;
+
     /** Arena id.*/
     @Getter
     private final int id;
@@ -56,52 +57,38 @@ public class Arena implements Comparable<Arena> {
     /** Status of the arena.*/
     @Getter
     private ArenaStatus status = ArenaStatus.WAITING;
-    /** Whether the arena is in the process of spawning monsters.*/
-    @Getter
-    @Setter
-    private boolean spawningMonsters;
-    /** Whether the arena is in the process of spawning villagers.*/
-    @Getter
-    @Setter
-    private boolean spawningVillagers;
     /** The ID of the game currently in progress.*/
     @Getter
     private int gameID;
     /** Current wave of the active game.*/
     @Getter
     private int currentWave;
-    /** Villager count.*/
-    @Getter
-    private int villagers;
-    /** Enemy count.*/
-    @Getter
-    private int enemies;
-    /** Iron golem count.*/
+    /** Living entities spawned for the arena.*/
     @Getter
-    private int golems;
-    /** ID of task managing player spawn particles.*/
-    private int playerParticlesID = 0;
-    /** ID of task managing monster spawn particles.*/
-    private int monsterParticlesID = 0;
-    /** ID of task managing villager spawn particles.*/
-    private int villagerParticlesID = 0;
-    /** ID of task managing corner particles.*/
-    private int cornerParticlesID = 0;
+    private final ArenaEntities entities = new ArenaEntities(this);
     /** A list of {@link VDPlayer} in the arena.*/
-    @Getter
     private final List<VDPlayer> players = new ArrayList<>();
-    /** Weapon shop inventory.*/
-    @Getter
+    /** The {@link VDPlayer} in the arena by player UUID.*/
+    private final Map<UUID, VDPlayer> playerIndex = new HashMap<>();
+    /** The {@link VDPlayer} in the arena split by {@link VDPlayer.Status}, kept up to date by status changes.*/
+    private final Map<VDPlayer.Status, List<VDPlayer>> rosters = new EnumMap<>(VDPlayer.Status.class);
+    {
+        for (VDPlayer.Status status : VDPlayer.Status.values())
+            rosters.put(status, new ArrayList<>());
+    }
+    /** Items of the weapon shop, rolled each time the shops update.*/
+    private ShopCatalog weaponCatalog;
+    /** Items of the armor shop, rolled each time the shops update.*/
+    private ShopCatalog armorCatalog;
+    /** Items of the consumables shop, rolled each time the shops update.*/
+    private ShopCatalog consumeCatalog;
+    /** Weapon shop inventory, built when first opened.*/
     private Menu weaponShop;
-    /** Armor shop inventory.*/
-    @Getter
+    /** Armor shop inventory, built when first opened.*/
     private Menu armorShop;
-    /** Consumables shop inventory.*/
-    @Getter
+    /** Consumables shop inventory, built when first opened.*/
     private Menu consumeShop;
-    @Getter
     private Menu enchantShop;
-    @Getter
     private Menu customShop;
     /** Community chest inventory.*/
     private Inventory communityChest;
@@ -123,6 +110,9 @@ public class Arena implements Comparable<Arena> {
     /** Arena scoreboard object for the arena.*/
     @Getter
     private ArenaBoard arenaBoard;
+    /** Snapshot of the arena settings saved in the arena file.*/
+    @Getter
+    private volatile ArenaConfig config;
 
     /**
      * Load existing data for the given arena
@@ -130,6 +120,7 @@ public class Arena implements Comparable<Arena> {
      */
     public Arena(int arenaID) {
         id = arenaID;
+        config = ArenaConfig.load(id);
         task = new Tasks(this);
         refreshArenaBoard();
         refreshPlayerSpawn();
@@ -146,6 +137,7 @@ public class Arena implements Comparable<Arena> {
      */
     public Arena(String name) throws InvalidNameException {
         id = GameManager.newArenaID();
+        config = ArenaConfig.load(id);
         setName(name);
         task = new Tasks(this);
         refreshArenaBoard();
@@ -157,18 +149,37 @@ public class Arena implements Comparable<Arena> {
         checkClose();
     }
 
+    /**
+     * Reloads the snapshot of the arena settings from the arena file. Must be called after every change to the
+     * arena's settings in the arena file.
+     */
+    public void reloadConfig() {
+        config = ArenaConfig.load(id);
+    }
+
+    private static Location copyOf(Location location) {
+        return location == null ? null : location.clone();
+    }
+
+    /**
+     * Checks whether a location is inside the arena bounds.
+     * @param location Location to check.
+     * @return Whether the location is in the same world and within the arena bounds.
+     */
+    public boolean isInBounds(Location location) {
+        ArenaConfig snapshot = config;
+        BoundingBox bounds = snapshot.getBounds();
+        return bounds != null && location != null &&
+                Objects.equals(location.getWorld(), snapshot.getCorner1().getWorld()) &&
+                bounds.contains(location.getX(), location.getY(), location.getZ());
+    }
+
     /**
      * Retrieves the name of the arena from the arena file.
      * @return Arena name.
      */
     public String getName() {
-        try {
-            return ArenaDataManager.getArenaName(id);
-        }
-        catch (NoSuchPathException e) {
-            CommunicationManager.debugErrorShouldNotHappen();
-            return null;
-        }
+        return config.getName();
     }
 
     /**
@@ -190,6 +201,8 @@ public class Arena implements Comparable<Arena> {
 
         // Save name
         ArenaDataManager.setArenaName(id, name);
+        reloadConfig();
+        GameManager.indexArenaName(this);
 
         // Refresh portal
         if (getPortalLocation() != null)
@@ -201,7 +214,7 @@ public class Arena implements Comparable<Arena> {
      * @return Arena difficulty label.
      */
     public String getDifficultyLabel() {
-        return ArenaDataManager.getDifficultyLabel(id);
+        return config.getDifficultyLabel();
     }
 
     /**
@@ -210,6 +223,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setDifficultyLabel(String label) {
         ArenaDataManager.setDifficultyLabel(id, label);
+        reloadConfig();
         refreshPortal();
     }
 
@@ -218,13 +232,7 @@ public class Arena implements Comparable<Arena> {
      * @return Maximum player count.
      */
     public int getMaxPlayers() {
-        try {
-            return ArenaDataManager.getMaxPlayers(id);
-        }
-        catch (NoSuchPathException e) {
-            setMaxPlayers(12);
-            return 12;
-        }
+        return config.getMaxPlayers();
     }
 
     /**
@@ -233,6 +241,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setMaxPlayers(int maxPlayers) {
         ArenaDataManager.setMaxPlayers(id, maxPlayers);
+        reloadConfig();
     }
 
     /**
@@ -240,13 +249,7 @@ public class Arena implements Comparable<Arena> {
      * @return Minimum player count.
      */
     public int getMinPlayers() {
-        try {
-            return ArenaDataManager.getMinPlayers(id);
-        }
-        catch (NoSuchPathException e) {
-            setMinPlayers(1);
-            return 1;
-        }
+        return config.getMinPlayers();
     }
 
     /**
@@ -255,6 +258,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setMinPlayers(int minPlayers) {
         ArenaDataManager.setMinPlayers(id, minPlayers);
+        reloadConfig();
     }
 
     /**
@@ -262,13 +266,7 @@ public class Arena implements Comparable<Arena> {
      * @return Wolf cap per player.
      */
     public int getWolfCap() {
-        try {
-            return ArenaDataManager.getWolfCap(id);
-        }
-        catch (NoSuchPathException e) {
-            setMaxPlayers(5);
-            return 5;
-        }
+        return config.getWolfCap();
     }
 
     /**
@@ -277,6 +275,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setWolfCap(int wolfCap) {
         ArenaDataManager.setWolfCap(id, wolfCap);
+        reloadConfig();
     }
 
     /**
@@ -284,13 +283,7 @@ public class Arena implements Comparable<Arena> {
      * @return Iron golem cap.
      */
     public int getGolemCap() {
-        try {
-            return ArenaDataManager.getGolemCap(id);
-        }
-        catch (NoSuchPathException e) {
-            setGolemCap(2);
-            return 2;
-        }
+        return config.getGolemCap();
     }
 
     /**
@@ -299,6 +292,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setGolemCap(int golemCap) {
         ArenaDataManager.setGolemCap(id, golemCap);
+        reloadConfig();
     }
 
     /**
@@ -306,13 +300,7 @@ public class Arena implements Comparable<Arena> {
      * @return Maximum waves.
      */
     public int getMaxWaves() {
-        try {
-            return ArenaDataManager.getMaxWaves(id);
-        }
-        catch (NoSuchPathException e) {
-            setMaxWaves(-1);
-            return -1;
-        }
+        return config.getMaxWaves();
     }
 
     /**
@@ -321,6 +309,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setMaxWaves(int maxWaves) {
         ArenaDataManager.setMaxWaves(id, maxWaves);
+        reloadConfig();
     }
 
     /**
@@ -328,13 +317,7 @@ public class Arena implements Comparable<Arena> {
      * @return Nominal time limit per wave.
      */
     public int getWaveTimeLimit() {
-        try {
-            return ArenaDataManager.getWaveTimeLimit(id);
-        }
-        catch (NoSuchPathException e) {
-            setWaveTimeLimit(-1);
-            return -1;
-        }
+        return config.getWaveTimeLimit();
     }
 
     /**
@@ -343,6 +326,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setWaveTimeLimit(int timeLimit) {
         ArenaDataManager.setWaveTimeLimit(id, timeLimit);
+        reloadConfig();
     }
 
     /**
@@ -350,13 +334,7 @@ public class Arena implements Comparable<Arena> {
      * @return Difficulty multiplier.
      */
     public int getDifficultyMultiplier() {
-        try {
-            return ArenaDataManager.getDifficultyMultiplier(id);
-        }
-        catch (NoSuchPathException e) {
-            setDifficultyMultiplier(1);
-            return 1;
-        }
+        return config.getDifficultyMultiplier();
     }
 
     /**
@@ -365,6 +343,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setDifficultyMultiplier(int multiplier) {
         ArenaDataManager.setDifficultyMultiplier(id, multiplier);
+        reloadConfig();
     }
 
     /**
@@ -496,13 +475,7 @@ public class Arena implements Comparable<Arena> {
      * @return Waiting music code.
      */
     public String getWaitingSoundCode() {
-        try {
-            return ArenaDataManager.getWaitingSound(id);
-        }
-        catch (NoSuchPathException e) {
-            setWaitingSound("none");
-            return "none";
-        }
+        return config.getWaitingSoundCode();
     }
 
     /**
@@ -511,10 +484,11 @@ public class Arena implements Comparable<Arena> {
      */
     public void setWaitingSound(String sound) {
         ArenaDataManager.setWaitingSound(id, sound);
+        reloadConfig();
     }
 
     public Location getPortalLocation() {
-        return ArenaDataManager.getArenaPortal(id);
+        return copyOf(config.getPortalLocation());
     }
 
     /**
@@ -524,23 +498,36 @@ public class Arena implements Comparable<Arena> {
     public void setPortal(Location location) {
         // Save config location
         ArenaDataManager.setArenaPortal(id, location);
+        reloadConfig();
 
         // Recreate the portal
         refreshPortal();
     }
 
     /**
-     * Recreates the portal in game based on the location in the arena file.
+     * Brings the portal in game up to date with the arena file. The text of the portal is updated in place, and the
+     * portal is only recreated when its location changed.
      */
     public void refreshPortal() {
         // Try recreating the portal
         try {
+            Location location = Objects.requireNonNull(getPortalLocation());
+
+            // Update the text of the portal if it hasn't moved
+            if (portal != null && portal.getLocation().equals(location)) {
+                portal.update(this);
+                return;
+            }
+
             // Delete old portal if needed
-            if (portal != null)
+            if (portal != null) {
+                GameManager.unindexPortal(portal.getNpc().getEntityID(), this);
                 portal.remove();
+            }
 
             // Create a new portal and display it
-            portal = new Portal(Objects.requireNonNull(getPortalLocation()), this);
+            portal = new Portal(location, this);
+            GameManager.indexPortal(portal.getNpc().getEntityID(), this);
             portal.displayForOnline();
         } catch (Exception e) {
             CommunicationManager.debugError(CommunicationManager.DebugLevel.NORMAL, String.format("Invalid location for %s's portal ", getName()),
@@ -558,6 +545,7 @@ public class Arena implements Comparable<Arena> {
         try {
             // Center the location
             ArenaDataManager.centerArenaPortal(id);
+            reloadConfig();
 
             // Recreate the portal
             refreshPortal();
@@ -570,15 +558,17 @@ public class Arena implements Comparable<Arena> {
      */
     public void removePortal() {
         if (portal != null) {
+            GameManager.unindexPortal(portal.getNpc().getEntityID(), this);
             portal.remove();
             portal = null;
         }
         ArenaDataManager.removeArenaPortal(id);
+        reloadConfig();
         checkClose();
     }
 
     public Location getArenaBoardLocation() {
-        return ArenaDataManager.getArenaBoard(id);
+        return copyOf(config.getArenaBoardLocation());
     }
 
     /**
@@ -588,17 +578,24 @@ public class Arena implements Comparable<Arena> {
     public void setArenaBoard(Location location) {
         // Save config location
         ArenaDataManager.setArenaBoard(id, location);
+        reloadConfig();
 
         // Recreate the board
         refreshArenaBoard();
     }
 
     /**
-     * Recreates the arena leaderboard in game based on the location in the arena file.
+     * Brings the arena leaderboard in game up to date with the arena file. The text of the board is updated in place
+     * when it has as many lines as before, and the board is only recreated otherwise or when its location changed.
      */
     public void refreshArenaBoard() {
         // Try recreating the board
         try {
+            // Update the text of the board if it hasn't moved
+            if (arenaBoard != null && arenaBoard.getLocation().equals(getArenaBoardLocation()) &&
+                arenaBoard.update(this))
+                return;
+
             // Delete old board if needed
             if (arenaBoard != null) {
                 arenaBoard.remove();
@@ -626,6 +623,7 @@ public class Arena implements Comparable<Arena> {
         try {
             // Center the location
             ArenaDataManager.centerArenaBoard(id);
+            reloadConfig();
 
             // Recreate the board
             refreshArenaBoard();
@@ -642,6 +640,7 @@ public class Arena implements Comparable<Arena> {
             arenaBoard = null;
         }
         ArenaDataManager.removeArenaBoard(id);
+        reloadConfig();
     }
 
     /**
@@ -698,7 +697,7 @@ public class Arena implements Comparable<Arena> {
      * @return Player spawn location.
      */
     public Location getWaitingRoom() {
-        return ArenaDataManager.getWaitingRoom(id);
+        return copyOf(config.getWaitingRoom());
     }
 
     /**
@@ -707,6 +706,7 @@ public class Arena implements Comparable<Arena> {
      */
     public void setWaitingRoom(Location location) {
         ArenaDataManager.setWaitingRoom(id, location);
+        reloadConfig();
     }
 
     /**
@@ -716,6 +716,7 @@ public class Arena implements Comparable<Arena> {
         try {
             // Center the location
             ArenaDataManager.centerWaitingRoom(id);
+            reloadConfig();
 
             // Recreate the board
             refreshPlayerSpawn();
@@ -866,37 +867,33 @@ public class Arena implements Comparable<Arena> {
     }
 
     public List<String> getBannedKits() {
-        return ArenaDataManager.getBannedKits(id);
+        return new ArrayList<>(config.getBannedKits());
     }
 
     public void setBannedKits(List<String> bannedKits) {
         ArenaDataManager.setBannedKits(id, bannedKits);
+        reloadConfig();
     }
 
     public List<String> getForcedChallenges() {
-        return ArenaDataManager.getForcedChallenges(id);
+        return new ArrayList<>(config.getForcedChallenges());
     }
 
     public void setForcedChallenges(List<String> forcedChallenges) {
         ArenaDataManager.setForcedChallenges(id, forcedChallenges);
+        reloadConfig();
     }
 
     public String getSpawnTableName() {
-        try {
-            return ArenaDataManager.getSpawnTableName(id);
-        }
-        catch (NoSuchPathException e) {
-            setSpawnTableFile("default");
-            return "default";
-        }
+        return config.getSpawnTableName();
     }
 
     public SpawnTableDataManager getSpawnTable() {
         if (getSpawnTableName().equals("custom")) {
-            return new SpawnTableDataManager("arena." + id);
+            return SpawnTableDataManager.get("arena." + id);
         }
         else {
-            return new SpawnTableDataManager(getSpawnTableName());
+            return SpawnTableDataManager.get(getSpawnTableName());
         }
     }
 
@@ -909,6 +906,7 @@ public class Arena implements Comparable<Arena> {
         if (new File(Main.plugin.getDataFolder().getPath(), "spawnTables/" + file).exists() ||
                 option.equals("default")) {
             ArenaDataManager.setSpawnTableName(id, option);
+            reloadConfig();
             return true;
         }
 
@@ -916,17 +914,12 @@ public class Arena implements Comparable<Arena> {
     }
 
     public boolean hasSpawnParticles() {
-        try {
-            return ArenaDataManager.hasSpawnParticles(id);
-        }
-        catch (NoSuchPathException e) {
-            setSpawnParticles(true);
-            return true;
-        }
+        return config.isSpawnParticles();
     }
 
     public void setSpawnParticles(boolean spawnParticles) {
         ArenaDataManager.setSpawnParticles(id, spawnParticles);
+        reloadConfig();
     }
 
     public void startSpawnParticles() {
@@ -938,35 +931,11 @@ public class Arena implements Comparable<Arena> {
         if (isClosed())
             getPlayerSpawn().turnOnIndicator();
 
-        if (playerParticlesID != 0)
+        if (ParticleScheduler.isShowing(this, ParticleScheduler.Kind.PLAYER_SPAWN))
             return;
 
-        playerParticlesID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, new Runnable() {
-            double var = 0;
-            double var2 = 0;
-            Location first, second;
-
-            @Override
-            public void run() {
-                try {
-                    // Update particle locations
-                    var += Math.PI / 12;
-                    var2 -= Math.PI / 12;
-                    first = getPlayerSpawn().getLocation().clone().add(Math.cos(var), Math.sin(var) + 1, Math.sin(var));
-                    second = getPlayerSpawn().getLocation().clone().add(Math.cos(var2 + Math.PI), Math.sin(var2) + 1,
-                            Math.sin(var2 + Math.PI));
-
-                    // Spawn particles
-                    Objects.requireNonNull(getPlayerSpawn().getLocation().getWorld())
-                            .spawnParticle(spawnParticle, first, 0);
-                    getPlayerSpawn().getLocation().getWorld().spawnParticle(spawnParticle, second, 0);
-                } catch (Exception e) {
-                    CommunicationManager.debugError(
-                        CommunicationManager.DebugLevel.VERBOSE, String.format("Player spawn particle generation error for %s.", getName())
-                    );
-                }
-            }
-        }, 0 , 2);
+        ParticleScheduler.show(this, ParticleScheduler.Kind.PLAYER_SPAWN, ParticleScheduler.ParticleSet.rings(
+                spawnParticle, Collections.singletonList(getPlayerSpawn().getLocation()), Math.PI / 12, true), 2);
     }
 
     public void cancelSpawnParticles() {
@@ -974,201 +943,84 @@ public class Arena implements Comparable<Arena> {
             return;
 
         getPlayerSpawn().turnOffIndicator();
-
-        if (playerParticlesID != 0)
-            Bukkit.getScheduler().cancelTask(playerParticlesID);
-        playerParticlesID = 0;
+        ParticleScheduler.hide(this, ParticleScheduler.Kind.PLAYER_SPAWN);
     }
 
     public boolean hasMonsterParticles() {
-        try {
-            return ArenaDataManager.hasMonsterParticles(id);
-        }
-        catch (NoSuchPathException e) {
-            setMonsterParticles(true);
-            return true;
-        }
+        return config.isMonsterParticles();
     }
 
     public void setMonsterParticles(boolean monsterParticles) {
         ArenaDataManager.setMonsterParticles(id, monsterParticles);
+        reloadConfig();
     }
 
     public void startMonsterParticles() {
         Particle monsterParticle = Particle.valueOf(NMSVersion.getCurrent().getNmsManager().getMonsterParticleName());
 
-        if (monsterParticlesID == 0 && !getMonsterSpawns().isEmpty())
-            monsterParticlesID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, new Runnable() {
-                double var = 0;
-                Location first, second;
-                boolean init = false;
-
-                @Override
-                public void run() {
-                    var -= Math.PI / 12;
-                    getMonsterSpawns().forEach(spawn -> {
-                        if (isClosed() && !init)
-                            spawn.turnOnIndicator();
-
-                        Location location = spawn.getLocation();
-                        try {
-                            // Update particle locations
-                            first = location.clone().add(Math.cos(var), Math.sin(var) + 1, Math.sin(var));
-                            second = location.clone().add(Math.cos(var + Math.PI), Math.sin(var) + 1,
-                                    Math.sin(var + Math.PI));
-
-                            // Spawn particles
-                            Objects.requireNonNull(location.getWorld())
-                                    .spawnParticle(monsterParticle, first, 0);
-                            location.getWorld().spawnParticle(monsterParticle, second, 0);
-                        } catch (Exception e) {
-                            CommunicationManager.debugError(
-                                CommunicationManager.DebugLevel.VERBOSE, String.format("Monster particle generation error for %s.", getName())
-                            );
-                        }
-                    });
-                    init = true;
-                }
-            }, 0 , 2);
+        if (ParticleScheduler.isShowing(this, ParticleScheduler.Kind.MONSTER_SPAWNS) || getMonsterSpawns().isEmpty())
+            return;
+
+        if (isClosed())
+            getMonsterSpawns().forEach(ArenaSpawn::turnOnIndicator);
+        ParticleScheduler.show(this, ParticleScheduler.Kind.MONSTER_SPAWNS, ParticleScheduler.ParticleSet.rings(
+                monsterParticle, getMonsterSpawns().stream().map(ArenaSpawn::getLocation).collect(Collectors.toList()),
+                -Math.PI / 12, false), 2);
     }
 
     public void cancelMonsterParticles() {
         getMonsterSpawns().forEach(ArenaSpawn::turnOffIndicator);
-        if (monsterParticlesID != 0)
-            Bukkit.getScheduler().cancelTask(monsterParticlesID);
-        monsterParticlesID = 0;
+        ParticleScheduler.hide(this, ParticleScheduler.Kind.MONSTER_SPAWNS);
     }
 
     public boolean hasVillagerParticles() {
-        try {
-            return ArenaDataManager.hasVillagerParticles(id);
-        }
-        catch (NoSuchPathException e) {
-            setVillagerParticles(true);
-            return true;
-        }
+        return config.isVillagerParticles();
     }
 
     public void setVillagerParticles(boolean villagerParticles) {
         ArenaDataManager.setVillagerParticles(id, villagerParticles);
+        reloadConfig();
     }
 
     public void startVillagerParticles() {
         Particle villagerParticle = Particle.valueOf(NMSVersion.getCurrent().getNmsManager().getVillagerParticleName());
 
-        if (villagerParticlesID == 0 && !getVillagerSpawns().isEmpty())
-            villagerParticlesID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, new Runnable() {
-                double var = 0;
-                Location first, second;
-                boolean init = false;
-
-                @Override
-                public void run() {
-                    var += Math.PI / 12;
-                    getVillagerSpawns().forEach(spawn -> {
-                        if (isClosed() && !init)
-                            spawn.turnOnIndicator();
-
-                        Location location = spawn.getLocation();
-                        try {
-                            // Update particle locations
-                            first = location.clone().add(Math.cos(var), Math.sin(var) + 1, Math.sin(var));
-                            second = location.clone().add(Math.cos(var + Math.PI), Math.sin(var) + 1,
-                                    Math.sin(var + Math.PI));
-
-                            // Spawn particles
-                            Objects.requireNonNull(location.getWorld())
-                                    .spawnParticle(villagerParticle, first, 0);
-                            location.getWorld().spawnParticle(villagerParticle, second, 0);
-                        } catch (Exception e) {
-                            CommunicationManager.debugError(
-                                CommunicationManager.DebugLevel.VERBOSE, String.format("Villager particle generation error for %s.", getName())
-                            );
-                        }
-                    });
-                    init = true;
-                }
-            }, 0 , 2);
+        if (ParticleScheduler.isShowing(this, ParticleScheduler.Kind.VILLAGER_SPAWNS) || getVillagerSpawns().isEmpty())
+            return;
+
+        if (isClosed())
+            getVillagerSpawns().forEach(ArenaSpawn::turnOnIndicator);
+        ParticleScheduler.show(this, ParticleScheduler.Kind.VILLAGER_SPAWNS, ParticleScheduler.ParticleSet.rings(
+                villagerParticle, getVillagerSpawns().stream().map(ArenaSpawn::getLocation).collect(Collectors.toList()),
+                Math.PI / 12, false), 2);
     }
 
     public void cancelVillagerParticles() {
         getVillagerSpawns().forEach(ArenaSpawn::turnOffIndicator);
-        if (villagerParticlesID != 0)
-            Bukkit.getScheduler().cancelTask(villagerParticlesID);
-        villagerParticlesID = 0;
+        ParticleScheduler.hide(this, ParticleScheduler.Kind.VILLAGER_SPAWNS);
     }
 
     public boolean hasBorderParticles() {
-        try {
-            return ArenaDataManager.hasBorderParticles(id);
-        }
-        catch (NoSuchPathException e) {
-            setBorderParticles(false);
-            return false;
-        }
+        return config.isBorderParticles();
     }
 
     public void setBorderParticles(boolean bool) {
         ArenaDataManager.setBorderParticles(id, bool);
+        reloadConfig();
     }
 
     public void startBorderParticles() {
         Particle borderParticle = Particle.valueOf(NMSVersion.getCurrent().getNmsManager().getBorderParticleName());
         Particle.DustOptions dust = new Particle.DustOptions(Color.RED, 2);
 
-        if (cornerParticlesID == 0 && getCorner1() != null && getCorner2() != null)
-            cornerParticlesID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, new Runnable() {
-                World world;
-                Location first, second;
-
-                @Override
-                public void run() {
-                    // Spawn particles
-                    try {
-                        world = getCorner1().getWorld();
-                        assert world != null;
-
-                        first = new Location(world, Math.max(getCorner1().getX(), getCorner2().getX()),
-                                Math.max(getCorner1().getY(), getCorner2().getY()),
-                                Math.max(getCorner1().getZ(), getCorner2().getZ()));
-                        second = new Location(world, Math.min(getCorner1().getX(), getCorner2().getX()),
-                                Math.min(getCorner1().getY(), getCorner2().getY()),
-                                Math.min(getCorner1().getZ(), getCorner2().getZ()));
-
-                        for (double x = second.getX(); x <= first.getX(); x += 5)
-                            for (double y = second.getY(); y <= first.getY(); y += 5)
-                                world.spawnParticle(borderParticle, x, y, first.getZ(), 0, dust);
-                        for (double x = second.getX(); x <= first.getX(); x += 5)
-                            for (double y = second.getY(); y <= first.getY(); y += 5)
-                                world.spawnParticle(borderParticle, x, y, second.getZ(), 0, dust);
-                        for (double x = second.getX(); x <= first.getX(); x += 5)
-                            for (double z = second.getZ(); z <= first.getZ(); z += 5)
-                                world.spawnParticle(borderParticle, x, first.getY(), z, 0, dust);
-                        for (double x = second.getX(); x <= first.getX(); x += 5)
-                            for (double z = second.getZ(); z <= first.getZ(); z += 5)
-                                world.spawnParticle(borderParticle, x, second.getY(), z, 0, dust);
-                        for (double z = second.getZ(); z <= first.getZ(); z += 5)
-                            for (double y = second.getY(); y <= first.getY(); y += 5)
-                                world.spawnParticle(borderParticle, first.getX(), y, z, 0, dust);
-                        for (double z = second.getZ(); z <= first.getZ(); z += 5)
-                            for (double y = second.getY(); y <= first.getY(); y += 5)
-                                world.spawnParticle(borderParticle, second.getX(), y, z, 0, dust);
-
-                    } catch (Exception e) {
-                        CommunicationManager.debugError(
-                            CommunicationManager.DebugLevel.NORMAL, String.format("Border particle generation error for %s.", getName()),
-                            true,
-                                e
-                        );
-                    }
-                }
-            }, 0 , 20);
+        if (!ParticleScheduler.isShowing(this, ParticleScheduler.Kind.BORDER) && getCorner1() != null &&
+                getCorner2() != null)
+            ParticleScheduler.show(this, ParticleScheduler.Kind.BORDER, ParticleScheduler.ParticleSet.box(
+                    borderParticle, dust, getCorner1(), getCorner2(), 5), 20);
     }
 
     public void cancelBorderParticles() {
-        if (cornerParticlesID != 0)
-            Bukkit.getScheduler().cancelTask(cornerParticlesID);
-        cornerParticlesID = 0;
+        ParticleScheduler.hide(this, ParticleScheduler.Kind.BORDER);
     }
 
     private void checkClosedParticles() {
@@ -1189,127 +1041,138 @@ public class Arena implements Comparable<Arena> {
      * Whether the weapon shop is enabled on the arena
      */
     public boolean hasNormal() {
-        try {
-            return ArenaDataManager.hasNormal(id);
-        }
-        catch (NoSuchPathException e) {
-            setNormal(true);
-            return true;
-        }
+        return config.isNormal();
     }
 
     public void setNormal(boolean normal) {
         ArenaDataManager.setNormal(id, normal);
+        reloadConfig();
     }
 
     public boolean hasArmor() {
-        try {
-            return ArenaDataManager.hasArmor(id);
-        }
-        catch (NoSuchPathException e) {
-            setArmor(hasNormal());
-            return hasNormal();
-        }
+        return config.isArmor();
     }
 
     public void setArmor(boolean armor) {
         ArenaDataManager.setArmor(id, armor);
+        reloadConfig();
     }
 
     public boolean hasConsumables() {
-        try {
-            return ArenaDataManager.hasConsumables(id);
-        }
-        catch (NoSuchPathException e) {
-            setConsumables(hasNormal());
-            return hasNormal();
-        }
+        return config.isConsumables();
     }
 
     public void setConsumables(boolean consumables) {
         ArenaDataManager.setConsumables(id, consumables);
+        reloadConfig();
     }
 
     public boolean hasEnchants() {
-        try {
-            return ArenaDataManager.hasEnchants(id);
-        }
-        catch (NoSuchPathException e) {
-            setEnchants(true);
-            return true;
-        }
+        return config.isEnchants();
     }
 
     public void setEnchants(boolean enchants) {
         ArenaDataManager.setEnchants(id, enchants);
+        reloadConfig();
     }
 
+    /**
+     * Rolls new items for the levelled shops. Shops are only built once someone opens them, and shops whose items
+     * came out the same keep the inventory they already built.
+     * @param level Level of the shops
+     */
     public void updateShops(int level) {
-        weaponShop = new WeaponShopMenu(this, level);
-        armorShop = new ArmorShopMenu(this, level);
-        consumeShop = new ConsumableShopMenu(this, level);
-        enchantShop = new EnchantShopMenu(this);
-        customShop = new CustomShopMenu(this);
-    }
+        double priceModifier = LevelledShopMenu.getPriceModifier(this);
 
-    public boolean hasCustom() {
-        try {
-            return ArenaDataManager.hasCustom(id);
+        ShopCatalog weapons = new ShopCatalog(level, priceModifier, WeaponShopMenu.ROWS);
+        if (!weapons.equals(weaponCatalog)) {
+            weaponCatalog = weapons;
+            weaponShop = null;
         }
-        catch (NoSuchPathException e) {
-            setCustom(false);
-            return false;
+        ShopCatalog armor = new ShopCatalog(level, priceModifier, ArmorShopMenu.ROWS);
+        if (!armor.equals(armorCatalog)) {
+            armorCatalog = armor;
+            armorShop = null;
+        }
+        ShopCatalog consumables = new ShopCatalog(level, priceModifier, ConsumableShopMenu.ROWS);
+        if (!consumables.equals(consumeCatalog)) {
+            consumeCatalog = consumables;
+            consumeShop = null;
         }
+
+        // Custom items may have been edited since the last game
+        customShop = null;
+    }
+
+    public Menu getWeaponShop() {
+        if (weaponShop == null && weaponCatalog != null)
+            weaponShop = new WeaponShopMenu(this, weaponCatalog);
+        return weaponShop;
+    }
+
+    public Menu getArmorShop() {
+        if (armorShop == null && armorCatalog != null)
+            armorShop = new ArmorShopMenu(this, armorCatalog);
+        return armorShop;
+    }
+
+    public Menu getConsumeShop() {
+        if (consumeShop == null && consumeCatalog != null)
+            consumeShop = new ConsumableShopMenu(this, consumeCatalog);
+        return consumeShop;
+    }
+
+    public Menu getEnchantShop() {
+        // The enchant shop never changes, so it is kept once built
+        if (enchantShop == null)
+            enchantShop = new EnchantShopMenu(this);
+        return enchantShop;
+    }
+
+    public Menu getCustomShop() {
+        if (customShop == null)
+            customShop = new CustomShopMenu(this);
+        return customShop;
+    }
+
+    public boolean hasCustom() {
+        return config.isCustom();
     }
 
     public void setCustom(boolean custom) {
         ArenaDataManager.setCustom(id, custom);
+        reloadConfig();
     }
 
     public boolean hasCommunity() {
-        try {
-            return ArenaDataManager.hasCommunity(id);
-        }
-        catch (NoSuchPathException e) {
-            setCommunity(true);
-            return true;
-        }
+        return config.isCommunity();
     }
 
     public void setCommunity(boolean community) {
         ArenaDataManager.setCommunity(id, community);
+        reloadConfig();
     }
 
     public boolean hasGemDrop() {
-        try {
-            return ArenaDataManager.hasGemDrop(id);
-        }
-        catch (NoSuchPathException e) {
-            setGemDrop(true);
-            return true;
-        }
+        return config.isGemDrop();
     }
 
     public void setGemDrop(boolean gemDrop) {
         ArenaDataManager.setGemDrop(id, gemDrop);
+        reloadConfig();
     }
 
     public boolean hasExpDrop() {
-        try {
-            return ArenaDataManager.hasExpDrop(id);
-        }
-        catch (NoSuchPathException e) {
-            setExpDrop(true);
-            return true;
-        }
+        return config.isExpDrop();
     }
 
     public void setExpDrop(boolean expDrop) {
         ArenaDataManager.setExpDrop(id, expDrop);
+        reloadConfig();
     }
 
     public Location getCorner1() {
-        return ArenaDataManager.getCorner1(id);
+        return copyOf(config.getCorner1());
     }
 
     public void setCorner1(Location location) {
@@ -1318,6 +1181,7 @@ public class Arena implements Comparable<Arena> {
 
         // Set location
         ArenaDataManager.setCorner1(id, location);
+        reloadConfig();
 
         // Turn on particles if appropriate
         if (isClosed())
@@ -1325,7 +1189,7 @@ public class Arena implements Comparable<Arena> {
     }
 
     public Location getCorner2() {
-        return ArenaDataManager.getCorner2(id);
+        return copyOf(config.getCorner2());
     }
 
     public void setCorner2(Location location) {
@@ -1334,6 +1198,7 @@ public class Arena implements Comparable<Arena> {
 
         // Set location
         ArenaDataManager.setCorner2(id, location);
+        reloadConfig();
 
         // Turn on particles if appropriate
         if (isClosed())
@@ -1341,185 +1206,120 @@ public class Arena implements Comparable<Arena> {
     }
 
     public BoundingBox getBounds() {
-        return new BoundingBox(getCorner1().getX(), getCorner1().getY(), getCorner1().getZ(),
-                getCorner2().getX(), getCorner2().getY(), getCorner2().getZ());
+        BoundingBox bounds = config.getBounds();
+        return bounds == null ? null : bounds.clone();
     }
 
     public boolean hasWinSound() {
-        try {
-            return ArenaDataManager.hasWinSound(id);
-        }
-        catch (NoSuchPathException e) {
-            setWinSound(true);
-            return true;
-        }
+        return config.isWinSound();
     }
 
     public void setWinSound(boolean bool) {
         ArenaDataManager.setWinSound(id, bool);
+        reloadConfig();
     }
 
     public boolean hasLoseSound() {
-        try {
-            return ArenaDataManager.hasLoseSound(id);
-        }
-        catch (NoSuchPathException e) {
-            setLoseSound(true);
-            return true;
-        }
+        return config.isLoseSound();
     }
 
     public void setLoseSound(boolean bool) {
         ArenaDataManager.setLoseSound(id, bool);
+        reloadConfig();
     }
 
     public boolean hasWaveStartSound() {
-        try {
-            return ArenaDataManager.hasWaveStart(id);
-        }
-        catch (NoSuchPathException e) {
-            setWaveStartSound(true);
-            return true;
-        }
+        return config.isWaveStartSound();
     }
 
     public void setWaveStartSound(boolean bool) {
         ArenaDataManager.setWaveStart(id, bool);
+        reloadConfig();
     }
 
     public boolean hasWaveEndSound() {
-        try {
-            return ArenaDataManager.hasWaveEnd(id);
-        }
-        catch (NoSuchPathException e) {
-            setWaveEndSound(true);
-            return true;
-        }
+        return config.isWaveEndSound();
     }
 
     public void setWaveEndSound(boolean bool) {
         ArenaDataManager.setWaveEnd(id, bool);
+        reloadConfig();
     }
 
     public boolean hasGemSound() {
-        try {
-            return ArenaDataManager.hasGemSound(id);
-        }
-        catch (NoSuchPathException e) {
-            setGemSound(true);
-            return true;
-        }
+        return config.isGemSound();
     }
 
     public void setGemSound(boolean bool) {
         ArenaDataManager.setGemSound(id, bool);
+        reloadConfig();
     }
 
     public boolean hasPlayerDeathSound() {
-        try {
-            return ArenaDataManager.hasDeathSound(id);
-        }
-        catch (NoSuchPathException e) {
-            setPlayerDeathSound(true);
-            return true;
-        }
+        return config.isPlayerDeathSound();
     }
 
     public void setPlayerDeathSound(boolean bool) {
         ArenaDataManager.setDeathSound(id, bool);
+        reloadConfig();
     }
 
     public boolean hasAbilitySound() {
-        try {
-            return ArenaDataManager.hasAbilitySound(id);
-        }
-        catch (NoSuchPathException e) {
-            setAbilitySound(true);
-            return true;
-        }
+        return config.isAbilitySound();
     }
 
     public void setAbilitySound(boolean bool) {
         ArenaDataManager.setAbilitySound(id, bool);
+        reloadConfig();
     }
 
     public boolean hasDynamicCount() {
-        try {
-            return ArenaDataManager.hasDynamicCount(id);
-        }
-        catch (NoSuchPathException e) {
-            setDynamicCount(false);
-            return false;
-        }
+        return config.isDynamicCount();
     }
 
     public void setDynamicCount(boolean bool) {
         ArenaDataManager.setDynamicCount(id, bool);
+        reloadConfig();
     }
 
     public boolean hasDynamicDifficulty() {
-        try {
-            return ArenaDataManager.hasDynamicDifficulty(id);
-        }
-        catch (NoSuchPathException e) {
-            setDynamicDifficulty(false);
-            return false;
-        }
+        return config.isDynamicDifficulty();
     }
 
     public void setDynamicDifficulty(boolean bool) {
         ArenaDataManager.setDynamicDifficulty(id, bool);
+        reloadConfig();
     }
 
     public boolean hasDynamicPrices() {
-        try {
-            return ArenaDataManager.hasDynamicPrices(id);
-        }
-        catch (NoSuchPathException e) {
-            setDynamicPrices(false);
-            return false;
-        }
+        return config.isDynamicPrices();
     }
 
     public void setDynamicPrices(boolean bool) {
         ArenaDataManager.setDynamicPrices(id, bool);
+        reloadConfig();
     }
 
     public boolean hasDynamicLimit() {
-        try {
-            return ArenaDataManager.hasDynamicLimit(id);
-        }
-        catch (NoSuchPathException e) {
-            setDynamicLimit(false);
-            return false;
-        }
+        return config.isDynamicLimit();
     }
 
     public void setDynamicLimit(boolean bool) {
         ArenaDataManager.setDynamicLimit(id, bool);
+        reloadConfig();
     }
 
     public boolean hasLateArrival() {
-        try {
-            return ArenaDataManager.hasLateArrival(id);
-        }
-        catch (NoSuchPathException e) {
-            setLateArrival(false);
-            return false;
-        }
+        return config.isLateArrival();
     }
 
     public void setLateArrival(boolean bool) {
         ArenaDataManager.setLateArrival(id, bool);
+        reloadConfig();
     }
 
     public boolean hasDefaultWeapon() {
-        try {
-            return ArenaDataManager.hasDefaultWeapon(id);
-        }
-        catch (NoSuchPathException e) {
-            return true;
-        }
+        return config.isDefaultWeapon();
     }
 
     /**
@@ -1566,14 +1366,7 @@ public class Arena implements Comparable<Arena> {
     }
 
     public boolean isClosed() {
-        try {
-            return ArenaDataManager.getArenaClosed(id);
-        }
-
-        // Default to closed
-        catch (NoSuchPathException e) {
-            return true;
-        }
+        return config.isClosed();
     }
 
     public void setClosed(boolean closed) {
@@ -1581,6 +1374,7 @@ public class Arena implements Comparable<Arena> {
 
         // Set closed and handle particles/holographics
         ArenaDataManager.setArenaClosed(id, closed);
+        reloadConfig();
         refreshPortal();
         checkClosedParticles();
     }
@@ -1650,55 +1444,118 @@ public class Arena implements Comparable<Arena> {
         refreshPortal();
     }
 
-    public void resetVillagers() {
-        villagers = 0;
+    /**
+     * @return Whether the arena is in the process of spawning monsters.
+     */
+    public boolean isSpawningMonsters() {
+        return SpawnScheduler.isSpawning(this, SpawnScheduler.Kind.MONSTER);
     }
 
-    public void resetEnemies() {
-        enemies = 0;
+    /**
+     * @return Whether the arena is in the process of spawning villagers.
+     */
+    public boolean isSpawningVillagers() {
+        return SpawnScheduler.isSpawning(this, SpawnScheduler.Kind.VILLAGER);
     }
 
-    public void incrementGolems() {
-        golems++;
+    public int getVillagers() {
+        return entities.getVillagerCount();
     }
 
-    public void decrementGolems() {
-        golems--;
+    public int getEnemies() {
+        return entities.getMonsterCount();
     }
 
-    public void resetGolems() {
-        golems = 0;
+    public int getGolems() {
+        return entities.getGolemCount();
     }
 
     /**
      * @return A list of {@link VDPlayer} of the {@link VDPlayer.Status} ALIVE.
      */
     public List<VDPlayer> getAlives() {
-        return players.stream().filter(Objects::nonNull).filter(p -> p.getStatus() == VDPlayer.Status.ALIVE)
-                .collect(Collectors.toList());
+        return new ArrayList<>(rosters.get(VDPlayer.Status.ALIVE));
     }
 
     /**
      * @return A list of {@link VDPlayer} of the {@link VDPlayer.Status} GHOST.
      */
     public List<VDPlayer> getGhosts() {
-        return players.stream().filter(Objects::nonNull).filter(p -> p.getStatus() == VDPlayer.Status.GHOST)
-                .collect(Collectors.toList());
+        return new ArrayList<>(rosters.get(VDPlayer.Status.GHOST));
     }
 
     /**
      * @return A list of {@link VDPlayer} of the {@link VDPlayer.Status} SPECTATOR.
      */
     public List<VDPlayer> getSpectators() {
-        return players.stream().filter(Objects::nonNull).filter(p -> p.getStatus() == VDPlayer.Status.SPECTATOR)
-                .collect(Collectors.toList());
+        return new ArrayList<>(rosters.get(VDPlayer.Status.SPECTATOR));
     }
 
     /**
      * @return A list of {@link VDPlayer} of the {@link VDPlayer.Status} ALIVE or GHOST.
      */
     public List<VDPlayer> getActives() {
-        return Stream.concat(getAlives().stream(), getGhosts().stream()).collect(Collectors.toList());
+        List<VDPlayer> actives = new ArrayList<>(getActiveCount());
+        actives.addAll(rosters.get(VDPlayer.Status.ALIVE));
+        actives.addAll(rosters.get(VDPlayer.Status.GHOST));
+        return actives;
+    }
+
+    /**
+     * A live view of the {@link VDPlayer} in the arena with a certain {@link VDPlayer.Status}. Use this over the
+     * list-returning methods when the players only need to be read, and copy it before changing player status while
+     * iterating.
+     * @param status The {@link VDPlayer.Status} in question.
+     * @return An unmodifiable view of the matching {@link VDPlayer}.
+     */
+    public List<VDPlayer> getRoster(VDPlayer.Status status) {
+        return Collections.unmodifiableList(rosters.get(status));
+    }
+
+    /**
+     * Moves a {@link VDPlayer} to the roster of its new status. Called by {@link VDPlayer#setStatus}.
+     * @param player The {@link VDPlayer} whose status changed.
+     * @param old The previous {@link VDPlayer.Status}.
+     */
+    public void updateRoster(VDPlayer player, VDPlayer.Status old) {
+        if (!hasPlayer(player))
+            return;
+
+        rosters.get(old).remove(player);
+        rosters.get(player.getStatus()).add(player);
+    }
+
+    /**
+     * @return An unmodifiable view of the {@link VDPlayer} in the arena.
+     */
+    public List<VDPlayer> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Adds a {@link VDPlayer} to the arena and records the player in the player lookup indexes.
+     * @param player The {@link VDPlayer} joining the arena.
+     */
+    public void addPlayer(VDPlayer player) {
+        players.add(player);
+        playerIndex.put(player.getID(), player);
+        rosters.get(player.getStatus()).add(player);
+        player.setArena(this);
+        GameManager.indexPlayer(player.getID(), this);
+    }
+
+    /**
+     * Removes a {@link VDPlayer} from the arena and from the player lookup indexes.
+     * @param player The {@link VDPlayer} leaving the arena.
+     */
+    public void removePlayer(VDPlayer player) {
+        if (!players.remove(player))
+            return;
+
+        playerIndex.remove(player.getID(), player);
+        rosters.get(player.getStatus()).remove(player);
+        player.setArena(null);
+        GameManager.unindexPlayer(player.getID(), this);
     }
 
     /**
@@ -1708,12 +1565,10 @@ public class Arena implements Comparable<Arena> {
      * @throws PlayerNotFoundException Thrown when the arena doesn't have a corresponding {@link VDPlayer}.
      */
     public @NotNull VDPlayer getPlayer(Player player) throws PlayerNotFoundException {
-        try {
-            return players.stream().filter(Objects::nonNull).filter(p -> p.getID().equals(player.getUniqueId()))
-                    .collect(Collectors.toList()).get(0);
-        } catch (Exception e) {
+        VDPlayer result = player == null ? null : playerIndex.get(player.getUniqueId());
+        if (result == null)
             throw new PlayerNotFoundException("Player not in this arena.");
-        }
+        return result;
     }
 
     /**
@@ -1722,31 +1577,27 @@ public class Arena implements Comparable<Arena> {
      * @return Whether a corresponding {@link VDPlayer} was found.
      */
     public boolean hasPlayer(Player player) {
-        try {
-            return players.stream().filter(Objects::nonNull).anyMatch(p -> p.getID().equals(player.getUniqueId()));
-        } catch (Exception e) {
-            return false;
-        }
+        return player != null && playerIndex.containsKey(player.getUniqueId());
     }
 
     public boolean hasPlayer(VDPlayer player) {
-        return players.stream().filter(Objects::nonNull).anyMatch(p -> p.equals(player));
+        return player != null && playerIndex.get(player.getID()) == player;
     }
 
     public int getActiveCount() {
-        return getActives().size();
+        return getAlive() + getGhostCount();
     }
 
     public int getAlive() {
-        return getActiveCount() - getGhostCount();
+        return rosters.get(VDPlayer.Status.ALIVE).size();
     }
 
     public int getGhostCount() {
-        return getGhosts().size();
+        return rosters.get(VDPlayer.Status.GHOST).size();
     }
 
     public int getSpectatorCount() {
-        return getSpectators().size();
+        return rosters.get(VDPlayer.Status.SPECTATOR).size();
     }
 
     /**
@@ -1817,10 +1668,36 @@ public class Arena implements Comparable<Arena> {
      * Sets remaining monsters glowing.
      */
     public void setMonsterGlow() {
-        Objects.requireNonNull(getPlayerSpawn().getLocation().getWorld())
-                .getNearbyEntities(getBounds()).stream().filter(Objects::nonNull)
-                .filter(entity -> entity.hasMetadata("VD_Monster"))
-                .forEach(entity -> entity.setGlowing(true));
+        entities.getMonsters().forEach(entity -> entity.setGlowing(true));
+    }
+
+    /**
+     * Checks the tracked entities against the entities actually in the arena, picking up arena mobs that were missed
+     * and removing stray hostile mobs. This scans the whole arena, so it only runs once in a while as a safety net.
+     */
+    public void reconcileEntities() {
+        World world = getCorner1() == null ? null : getCorner1().getWorld();
+        if (world == null)
+            return;
+
+        for (Entity entity : world.getNearbyEntities(getBounds())) {
+            if (!(entity instanceof LivingEntity) || entity instanceof Player)
+                continue;
+
+            ArenaMobTag tag = ArenaMobTag.get(entity);
+            if (tag != null) {
+                if (tag.getArenaID() != id || entities.contains(entity))
+                    continue;
+                if (tag.getRole() == ArenaMobTag.Role.MONSTER)
+                    entities.addMonster((LivingEntity) entity);
+                else entities.addOther((LivingEntity) entity);
+            }
+
+            // Hostile mobs that don't belong to the game
+            else if (status == ArenaStatus.ACTIVE && (entity instanceof Monster || entity instanceof Hoglin ||
+                    entity instanceof Phantom || entity instanceof Slime))
+                entity.remove();
+        }
     }
 
     /**
@@ -1866,57 +1743,77 @@ public class Arena implements Comparable<Arena> {
     }
 
     /**
-     * Checks mobs within its boundaries to make sure mob counts are accurate.
+     * Checks the tracked entities against the world, fixing and reporting anything that went out of sync. Counts are
+     * kept up to date as entities come and go, so this is only a safety net.
      */
     public void calibrate() {
-        int monsters;
-        int villagers;
-        int golems;
-
-        // Get accurate numbers
-        monsters = (int) Objects.requireNonNull(getPlayerSpawn().getLocation().getWorld())
-                .getNearbyEntities(getBounds()).stream()
-                .filter(Objects::nonNull)
-                .filter(entity -> entity.hasMetadata("VD_Monster")).count();
-        villagers = (int) getPlayerSpawn().getLocation().getWorld().getNearbyEntities(getBounds()).stream()
-                .filter(Objects::nonNull)
-                .filter(entity -> entity.hasMetadata("VD")).filter(entity -> entity instanceof Villager).count();
-        golems = (int) getPlayerSpawn().getLocation().getWorld().getNearbyEntities(getBounds()).stream()
-                .filter(Objects::nonNull)
-                .filter(entity -> entity.hasMetadata("VD")).filter(entity -> entity instanceof IronGolem).count();
-        boolean calibrated = false;
-
-        // Update if out of cal
-        if (monsters != enemies) {
-            enemies = monsters;
-            calibrated = true;
-        }
-        if (villagers != this.villagers) {
-            this.villagers = villagers;
-            calibrated = true;
-        }
-        if (golems != this.golems)
-            this.golems = golems;
+        int enemies = getEnemies();
+        int villagers = getVillagers();
 
-        // Skip if no visible calibration was performed
-        if (!calibrated)
+        int pruned = entities.prune();
+        reconcileEntities();
+        if (pruned > 0 || enemies != getEnemies() || villagers != getVillagers())
+            CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE,
+                "%s had entity counts out of sync. Enemies: %s -> %s, villagers: %s -> %s.", getName(),
+                Integer.toString(enemies), Integer.toString(getEnemies()), Integer.toString(villagers),
+                Integer.toString(getVillagers()));
+    }
+
+    /**
+     * Ends the wave or game if there are no enemies or villagers left and none are on the way.
+     */
+    public void checkProgress() {
+        if (!checkVillagers())
+            checkEnemies();
+    }
+
+    // Trigger game end if all villagers are gone
+    private boolean checkVillagers() {
+        if (getVillagers() > 0 || status != ArenaStatus.ACTIVE || isSpawningVillagers())
+            return false;
+
+        Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
+                Bukkit.getPluginManager().callEvent(new GameEndEvent(this)));
+        return true;
+    }
+
+    // Trigger wave end if all monsters are gone
+    private void checkEnemies() {
+        if (getEnemies() > 0 || status != ArenaStatus.ACTIVE || isSpawningMonsters())
             return;
 
-        // Update scoreboards
         Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
-                Bukkit.getPluginManager().callEvent(new ReloadBoardsEvent(this)));
+                Bukkit.getPluginManager().callEvent(new WaveEndEvent(this)));
+    }
+
+    /**
+     * Reacts to tracked entities coming or going.
+     * @param kind Kind of entity that changed, or null for other allies
+     * @param removed Whether the entity went away
+     */
+    void entitiesChanged(SpawnScheduler.Kind kind, boolean removed) {
+        if (status != ArenaStatus.ACTIVE)
+            return;
 
-        // Trigger game end if all villagers are gone
-        if (this.villagers <= 0 && status == ArenaStatus.ACTIVE && !isSpawningVillagers()) {
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
-                    Bukkit.getPluginManager().callEvent(new GameEndEvent(this)));
+        // Update scoreboards
+        getTask().updateBoards.run();
+
+        if (!removed)
             return;
-        }
+        if (kind == SpawnScheduler.Kind.VILLAGER)
+            checkVillagers();
+        else if (kind == SpawnScheduler.Kind.MONSTER)
+            checkEnemies();
+    }
 
-        // Trigger wave end if all monsters are gone
-        if (enemies <= 0 && status == ArenaStatus.ACTIVE && !isSpawningMonsters())
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
-                    Bukkit.getPluginManager().callEvent(new WaveEndEvent(this)));
+    /**
+     * Reacts to the last queued mob of a kind having spawned.
+     * @param kind Kind of mob that finished spawning
+     */
+    void spawningFinished(SpawnScheduler.Kind kind) {
+        if (kind == SpawnScheduler.Kind.VILLAGER)
+            checkVillagers();
+        else checkEnemies();
     }
 
     /**
@@ -1987,8 +1884,10 @@ public class Arena implements Comparable<Arena> {
         // Remove holographics
         if (getArenaBoard() != null)
             getArenaBoard().remove();
-        if (getPortal() != null)
+        if (getPortal() != null) {
+            GameManager.unindexPortal(getPortal().getNpc().getEntityID(), this);
             getPortal().remove();
+        }
         cancelSpawnParticles();
         cancelMonsterParticles();
         cancelVillagerParticles();
@@ -2027,6 +1926,7 @@ public class Arena implements Comparable<Arena> {
         // Kick players
         getPlayers().forEach(vdPlayer -> Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
                 Bukkit.getPluginManager().callEvent(new LeaveArenaEvent(vdPlayer.getPlayer()))));
+        entities.removeAll();
         if (getCorner1() != null && getCorner2() != null) {
             WorldManager.clear(getCorner1(), getCorner2());
         }
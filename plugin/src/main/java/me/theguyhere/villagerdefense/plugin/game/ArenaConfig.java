@@ -0,0 +1,150 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import lombok.Getter;
+import me.theguyhere.villagerdefense.plugin.data.ArenaDataManager;
+import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
+import org.bukkit.Location;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable snapshot of the persistent settings of an arena, read from the arena file once so hot paths don't have
+ * to go back to the file. A new snapshot should be loaded whenever the arena file changes.
+ */
+@Getter
+public class ArenaConfig {
+    private final String name;
+    private final boolean closed;
+    private final String difficultyLabel;
+    private final int maxPlayers;
+    private final int minPlayers;
+    private final int wolfCap;
+    private final int golemCap;
+    private final int maxWaves;
+    private final int waveTimeLimit;
+    private final int difficultyMultiplier;
+    private final String waitingSoundCode;
+    private final String spawnTableName;
+
+    private final boolean normal;
+    private final boolean armor;
+    private final boolean consumables;
+    private final boolean enchants;
+    private final boolean custom;
+    private final boolean community;
+    private final boolean gemDrop;
+    private final boolean expDrop;
+
+    private final boolean spawnParticles;
+    private final boolean monsterParticles;
+    private final boolean villagerParticles;
+    private final boolean borderParticles;
+
+    private final boolean winSound;
+    private final boolean loseSound;
+    private final boolean waveStartSound;
+    private final boolean waveEndSound;
+    private final boolean gemSound;
+    private final boolean playerDeathSound;
+    private final boolean abilitySound;
+
+    private final boolean dynamicCount;
+    private final boolean dynamicDifficulty;
+    private final boolean dynamicPrices;
+    private final boolean dynamicLimit;
+    private final boolean lateArrival;
+    private final boolean defaultWeapon;
+
+    private final List<String> bannedKits;
+    private final List<String> forcedChallenges;
+
+    /** Locations are shared, so callers must copy them before making changes.*/
+    private final Location portalLocation;
+    private final Location arenaBoardLocation;
+    private final Location waitingRoom;
+    private final Location corner1;
+    private final Location corner2;
+    /** Arena bounds, or null if either corner is missing. Shared, so callers must copy before making changes.*/
+    private final BoundingBox bounds;
+
+    private ArenaConfig(int id) {
+        name = read(() -> ArenaDataManager.getArenaName(id), null);
+        closed = read(() -> ArenaDataManager.getArenaClosed(id), true);
+        difficultyLabel = ArenaDataManager.getDifficultyLabel(id);
+        maxPlayers = read(() -> ArenaDataManager.getMaxPlayers(id), 12);
+        minPlayers = read(() -> ArenaDataManager.getMinPlayers(id), 1);
+        wolfCap = read(() -> ArenaDataManager.getWolfCap(id), 5);
+        golemCap = read(() -> ArenaDataManager.getGolemCap(id), 2);
+        maxWaves = read(() -> ArenaDataManager.getMaxWaves(id), -1);
+        waveTimeLimit = read(() -> ArenaDataManager.getWaveTimeLimit(id), -1);
+        difficultyMultiplier = read(() -> ArenaDataManager.getDifficultyMultiplier(id), 1);
+        waitingSoundCode = read(() -> ArenaDataManager.getWaitingSound(id), "none");
+        spawnTableName = read(() -> ArenaDataManager.getSpawnTableName(id), "default");
+
+        normal = read(() -> ArenaDataManager.hasNormal(id), true);
+        armor = read(() -> ArenaDataManager.hasArmor(id), normal);
+        consumables = read(() -> ArenaDataManager.hasConsumables(id), normal);
+        enchants = read(() -> ArenaDataManager.hasEnchants(id), true);
+        custom = read(() -> ArenaDataManager.hasCustom(id), false);
+        community = read(() -> ArenaDataManager.hasCommunity(id), true);
+        gemDrop = read(() -> ArenaDataManager.hasGemDrop(id), true);
+        expDrop = read(() -> ArenaDataManager.hasExpDrop(id), true);
+
+        spawnParticles = read(() -> ArenaDataManager.hasSpawnParticles(id), true);
+        monsterParticles = read(() -> ArenaDataManager.hasMonsterParticles(id), true);
+        villagerParticles = read(() -> ArenaDataManager.hasVillagerParticles(id), true);
+        borderParticles = read(() -> ArenaDataManager.hasBorderParticles(id), false);
+
+        winSound = read(() -> ArenaDataManager.hasWinSound(id), true);
+        loseSound = read(() -> ArenaDataManager.hasLoseSound(id), true);
+        waveStartSound = read(() -> ArenaDataManager.hasWaveStart(id), true);
+        waveEndSound = read(() -> ArenaDataManager.hasWaveEnd(id), true);
+        gemSound = read(() -> ArenaDataManager.hasGemSound(id), true);
+        playerDeathSound = read(() -> ArenaDataManager.hasDeathSound(id), true);
+        abilitySound = read(() -> ArenaDataManager.hasAbilitySound(id), true);
+
+        dynamicCount = read(() -> ArenaDataManager.hasDynamicCount(id), false);
+        dynamicDifficulty = read(() -> ArenaDataManager.hasDynamicDifficulty(id), false);
+        dynamicPrices = read(() -> ArenaDataManager.hasDynamicPrices(id), false);
+        dynamicLimit = read(() -> ArenaDataManager.hasDynamicLimit(id), false);
+        lateArrival = read(() -> ArenaDataManager.hasLateArrival(id), false);
+        defaultWeapon = read(() -> ArenaDataManager.hasDefaultWeapon(id), true);
+
+        bannedKits = Collections.unmodifiableList(ArenaDataManager.getBannedKits(id));
+        forcedChallenges = Collections.unmodifiableList(ArenaDataManager.getForcedChallenges(id));
+
+        portalLocation = ArenaDataManager.getArenaPortal(id);
+        arenaBoardLocation = ArenaDataManager.getArenaBoard(id);
+        waitingRoom = ArenaDataManager.getWaitingRoom(id);
+        corner1 = ArenaDataManager.getCorner1(id);
+        corner2 = ArenaDataManager.getCorner2(id);
+        if (corner1 != null && corner2 != null)
+            bounds = BoundingBox.of(corner1, corner2);
+        else bounds = null;
+    }
+
+    /**
+     * Loads a fresh snapshot of an arena's settings from the arena file.
+     * @param id Arena id.
+     * @return Arena settings snapshot.
+     */
+    public static ArenaConfig load(int id) {
+        return new ArenaConfig(id);
+    }
+
+    private static <T> T read(Reader<T> reader, T fallback) {
+        try {
+            return reader.read();
+        }
+        catch (NoSuchPathException e) {
+            return fallback;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read() throws NoSuchPathException;
+    }
+}
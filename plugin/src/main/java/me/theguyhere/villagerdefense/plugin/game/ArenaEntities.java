@@ -0,0 +1,131 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.IronGolem;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Villager;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The living entities spawned for an arena, tracked as they are set up and let go of when they die or get removed,
+ * so counting or clearing them never has to scan the arena. Counts are kept as entities come and go, and the arena
+ * is told whenever they change.
+ */
+public class ArenaEntities {
+    private final Arena arena;
+    /** Tracked monsters by entity UUID.*/
+    private final Map<UUID, LivingEntity> monsters = new LinkedHashMap<>();
+    /** Tracked villagers, golems, wolves and other arena mobs by entity UUID.*/
+    private final Map<UUID, LivingEntity> others = new LinkedHashMap<>();
+    private int villagers;
+    private int golems;
+
+    ArenaEntities(Arena arena) {
+        this.arena = arena;
+    }
+
+    public void addMonster(LivingEntity entity) {
+        if (others.containsKey(entity.getUniqueId()))
+            remove(entity);
+        if (monsters.put(entity.getUniqueId(), entity) == null)
+            arena.entitiesChanged(SpawnScheduler.Kind.MONSTER, false);
+    }
+
+    public void addOther(LivingEntity entity) {
+        if (monsters.containsKey(entity.getUniqueId()) || others.put(entity.getUniqueId(), entity) != null)
+            return;
+
+        if (entity instanceof Villager)
+            villagers++;
+        else if (entity instanceof IronGolem)
+            golems++;
+        arena.entitiesChanged(entity instanceof Villager ? SpawnScheduler.Kind.VILLAGER : null, false);
+    }
+
+    public void remove(Entity entity) {
+        if (monsters.remove(entity.getUniqueId()) != null) {
+            arena.entitiesChanged(SpawnScheduler.Kind.MONSTER, true);
+            return;
+        }
+
+        if (others.remove(entity.getUniqueId()) == null)
+            return;
+        if (entity instanceof Villager)
+            villagers--;
+        else if (entity instanceof IronGolem)
+            golems--;
+        arena.entitiesChanged(entity instanceof Villager ? SpawnScheduler.Kind.VILLAGER : null, true);
+    }
+
+    public boolean contains(Entity entity) {
+        return monsters.containsKey(entity.getUniqueId()) || others.containsKey(entity.getUniqueId());
+    }
+
+    /**
+     * @return An unmodifiable view of the tracked monsters.
+     */
+    public Collection<LivingEntity> getMonsters() {
+        return Collections.unmodifiableCollection(monsters.values());
+    }
+
+    public int getMonsterCount() {
+        return monsters.size();
+    }
+
+    public int getVillagerCount() {
+        return villagers;
+    }
+
+    public int getGolemCount() {
+        return golems;
+    }
+
+    /**
+     * Runs an action on every tracked entity.
+     * @param action Action to run
+     */
+    public void forEach(Consumer<LivingEntity> action) {
+        new ArrayList<>(monsters.values()).forEach(action);
+        new ArrayList<>(others.values()).forEach(action);
+    }
+
+    /**
+     * Removes every tracked entity from the world and stops tracking them, without telling the arena.
+     */
+    public void removeAll() {
+        List<LivingEntity> tracked = new ArrayList<>(monsters.values());
+        tracked.addAll(others.values());
+        clear();
+        tracked.forEach(entity -> {
+            ArenaMobTag.forget(entity);
+            entity.remove();
+        });
+    }
+
+    public void clear() {
+        monsters.clear();
+        others.clear();
+        villagers = 0;
+        golems = 0;
+    }
+
+    /**
+     * Lets go of entities that went away without being reported, which shouldn't happen.
+     * @return Number of entities let go of
+     */
+    public int prune() {
+        List<LivingEntity> gone = new ArrayList<>();
+        forEach(entity -> {
+            if (!entity.isValid())
+                gone.add(entity);
+        });
+        gone.forEach(entity -> {
+            ArenaMobTag.forget(entity);
+            remove(entity);
+        });
+        return gone.size();
+    }
+}
@@ -3,6 +3,7 @@ package me.theguyhere.villagerdefense.plugin.game;
 import lombok.Getter;
 import me.theguyhere.villagerdefense.common.Calculator;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.nms.common.ViewerTracker;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.ArenaDataManager;
 import me.theguyhere.villagerdefense.plugin.data.GameDataManager;
@@ -16,20 +17,30 @@ import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
 import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
 import me.theguyhere.villagerdefense.plugin.structures.InfoBoard;
 import me.theguyhere.villagerdefense.plugin.structures.Leaderboard;
+import me.theguyhere.villagerdefense.plugin.visuals.Sidebar;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.*;
+import org.bukkit.scoreboard.ScoreboardManager;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GameManager {
 	@Getter
     private static final Map<Integer, Arena> arenas = new HashMap<>();
+	/** Arenas by name, kept in sync with {@link #arenas} and arena renames.*/
+	private static final Map<String, Arena> arenaNames = new HashMap<>();
+	/** The arena each player in a game is in, by player UUID.*/
+	private static final Map<UUID, Arena> playerArenas = new HashMap<>();
+	/** Arenas by the entity ID of their portal NPC. Read from network threads, so it has to be thread safe.*/
+	private static final Map<Integer, Arena> portalNPCs = new ConcurrentHashMap<>();
 	private static final Map<Integer, InfoBoard> infoBoards = new HashMap<>();
 	private static final Map<String, Leaderboard> leaderboards = new HashMap<>();
+	/** Players whose sidebar needs refreshing on the next tick, by arena.*/
+	private static final Map<Arena, Set<VDPlayer>> pendingBoards = new LinkedHashMap<>();
+	private static boolean boardFlushScheduled;
 	@Getter
     private static final List<String> validSounds = new LinkedList<>(Arrays.asList("blocks", "cat", "chirp", "far",
 			"mall", "mellohi", "pigstep", "stal", "strad", "wait", "ward"));
@@ -40,7 +51,11 @@ public class GameManager {
 		if (NMSVersion.isGreaterEqualThan(NMSVersion.v1_18_R1))
 			validSounds.add("otherside");
 
+		// Fresh arenas start without players
+		playerArenas.clear();
 		ArenaDataManager.getArenaIDs().forEach(id -> arenas.put(id, new Arena(id)));
+		arenaNames.clear();
+		arenas.values().stream().filter(Objects::nonNull).forEach(GameManager::indexArenaName);
 
 		try {
 			for (Integer id : GameDataManager.getInfoBoardIDs()) {
@@ -79,64 +94,149 @@ public class GameManager {
 	}
 
 	public static @NotNull Arena getArena(String arenaName) throws ArenaNotFoundException {
-		try {
-			return arenas.values().stream().filter(Objects::nonNull).filter(a -> a.getName() != null)
-					.filter(a -> a.getName().equals(arenaName)).collect(Collectors.toList()).get(0);
-		} catch (Exception e) {
+		Arena result = arenaNames.get(arenaName);
+		if (result == null)
 			throw new ArenaNotFoundException();
-		}
+		return result;
 	}
 
 	public static @NotNull Arena getArena(Player player) throws ArenaNotFoundException {
-		try {
-			return arenas.values().stream().filter(Objects::nonNull).filter(a -> a.hasPlayer(player))
-					.collect(Collectors.toList()).get(0);
-		} catch (Exception e) {
+		Arena result = player == null ? null : playerArenas.get(player.getUniqueId());
+		if (result == null)
 			throw new ArenaNotFoundException();
-		}
+		return result;
 	}
 
 	public static void addArena(int id, Arena arena) {
-		arenas.put(id, arena);
+		Arena previous = arenas.put(id, arena);
+		if (previous != null)
+			unindexArena(previous);
+		indexArenaName(arena);
 	}
 
 	public static void removeArena(int arenaID) {
-		arenas.get(arenaID).remove();
+		Arena arena = arenas.get(arenaID);
+		arena.remove();
 		arenas.remove(arenaID);
+		unindexArena(arena);
 	}
 
 	public static boolean checkPlayer(Player player) {
-		return arenas.values().stream().filter(Objects::nonNull).anyMatch(arena -> arena.hasPlayer(player));
+		return player != null && playerArenas.containsKey(player.getUniqueId());
 	}
 
-    /**
-	 * Creates a scoreboard for a player.
-	 * @param player Player to give a scoreboard
+	/**
+	 * Updates the name index for an arena after it was added or renamed. Arenas that aren't registered yet are
+	 * ignored, since they get indexed when added.
+	 * @param arena Arena to index.
 	 */
-	public static void createBoard(VDPlayer player) {
-		ScoreboardManager manager = Bukkit.getScoreboardManager();
-		if (manager == null)
+	static void indexArenaName(Arena arena) {
+		if (arenas.get(arena.getId()) != arena)
 			return;
-		Scoreboard board = manager.getNewScoreboard();
+
+		arenaNames.values().removeIf(a -> a == arena);
+		if (arena.getName() != null)
+			arenaNames.putIfAbsent(arena.getName(), arena);
+	}
+
+	/**
+	 * Records which arena a player is in. Called whenever a player is added to an arena.
+	 * @param id UUID of the player.
+	 * @param arena Arena the player joined.
+	 */
+	static void indexPlayer(UUID id, Arena arena) {
+		playerArenas.put(id, arena);
+	}
+
+	/**
+	 * Forgets which arena a player is in. Called whenever a player is removed from an arena.
+	 * @param id UUID of the player.
+	 * @param arena Arena the player left.
+	 */
+	static void unindexPlayer(UUID id, Arena arena) {
+		playerArenas.remove(id, arena);
+	}
+
+	/**
+	 * Records which arena a portal NPC belongs to. Called whenever a portal is created.
+	 * @param npcID Entity ID of the portal NPC.
+	 * @param arena Arena the portal leads to.
+	 */
+	static void indexPortal(int npcID, Arena arena) {
+		portalNPCs.put(npcID, arena);
+	}
+
+	/**
+	 * Forgets which arena a portal NPC belongs to. Called whenever a portal is removed.
+	 * @param npcID Entity ID of the portal NPC.
+	 * @param arena Arena the portal led to.
+	 */
+	static void unindexPortal(int npcID, Arena arena) {
+		portalNPCs.remove(npcID, arena);
+	}
+
+	/**
+	 * Finds the arena a portal NPC belongs to. Safe to call from any thread.
+	 * @param npcID Entity ID of the NPC.
+	 * @return The arena, or null if the entity isn't a portal NPC.
+	 */
+	public static Arena getPortalArena(int npcID) {
+		return portalNPCs.get(npcID);
+	}
+
+	// Drop every index entry pointing at an arena that is no longer registered
+	private static void unindexArena(Arena arena) {
+		arenaNames.values().removeIf(a -> a == arena);
+		playerArenas.values().removeIf(a -> a == arena);
+		portalNPCs.values().removeIf(a -> a == arena);
+	}
+
+	/**
+	 * Requests a refresh of the sidebar of a player. Requests are collected and handled together on the next tick.
+	 * @param player Player whose sidebar should be refreshed
+	 */
+	public static void createBoard(VDPlayer player) {
 		Arena arena;
 		try {
-				arena = getArena(player.getPlayer());
+			arena = getArena(player.getPlayer());
 		} catch (ArenaNotFoundException e) {
 			return;
 		}
 
-		// Create score board
-		Objective obj = board.registerNewObjective("VillagerDefense", "dummy",
-				CommunicationManager.format("&6&l   " + arena.getName() + "  "));
-		obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+		pendingBoards.computeIfAbsent(arena, a -> new LinkedHashSet<>()).add(player);
+		if (!boardFlushScheduled) {
+			boardFlushScheduled = true;
+			Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, GameManager::flushBoards);
+		}
+	}
+
+	// Refresh every requested sidebar once
+	private static void flushBoards() {
+		boardFlushScheduled = false;
+		Map<Arena, Set<VDPlayer>> pending = new LinkedHashMap<>(pendingBoards);
+		pendingBoards.clear();
+		pending.forEach((arena, players) -> players.forEach(player -> updateBoard(arena, player)));
+	}
+
+	private static void updateBoard(Arena arena, VDPlayer player) {
+		ScoreboardManager manager = Bukkit.getScoreboardManager();
+		if (manager == null || player.getPlayer() == null || !arena.hasPlayer(player))
+			return;
 
-		Score score13 = obj.getScore(CommunicationManager.format("&e" + LanguageManager.messages.wave + ": " +
-				arena.getCurrentWave()));
-		score13.setScore(13);
+		// Create the sidebar only once per player
+		String title = CommunicationManager.format("&6&l   " + arena.getName() + "  ");
+		Sidebar sidebar = player.getSidebar();
+		if (sidebar == null) {
+			sidebar = new Sidebar(manager, title);
+			player.setSidebar(sidebar);
+		}
+		else sidebar.setTitle(title);
 
-		Score score12 = obj.getScore(CommunicationManager.format("&a" + LanguageManager.messages.gems + ": " +
-				player.getGems()));
-		score12.setScore(12);
+		Map<String, Integer> lines = new LinkedHashMap<>();
+		lines.put(CommunicationManager.format("&e" + LanguageManager.messages.wave + ": " +
+				arena.getCurrentWave()), 13);
+		lines.put(CommunicationManager.format("&a" + LanguageManager.messages.gems + ": " +
+				player.getGems()), 12);
 
 		StringBuilder kit = new StringBuilder(player.getKit().getName());
 		StringBuilder kit2 = new StringBuilder("    ");
@@ -154,62 +254,41 @@ public class GameManager {
 					kit2.append("I");
 			}
 		}
-		Score score11 = obj.getScore(CommunicationManager.format("&b" + LanguageManager.messages.kit + ": " +
-				kit));
-		score11.setScore(11);
-		Score score10 = obj.getScore(CommunicationManager.format("&b" + kit2));
-		score10.setScore(10);
+		lines.put(CommunicationManager.format("&b" + LanguageManager.messages.kit + ": " + kit), 11);
+		lines.put(CommunicationManager.format("&b" + kit2), 10);
 
 		int bonus = 0;
 		for (Challenge challenge : player.getChallenges())
 			bonus += challenge.getBonus();
-		Score score9 = obj.getScore(CommunicationManager.format(String.format("&5" +
-				LanguageManager.messages.challenges + ": (+%d%%)", bonus)));
-		score9.setScore(9);
+		lines.put(CommunicationManager.format(String.format("&5" +
+				LanguageManager.messages.challenges + ": (+%d%%)", bonus)), 9);
 
 		if (player.getChallenges().size() < (player.getKit2() != null ? 3 : 4))
-			for (Challenge challenge : player.getChallenges()) {
-				Score score8 = obj.getScore(CommunicationManager.format("  &5" + challenge.getName()));
-				score8.setScore(8);
-			}
+			for (Challenge challenge : player.getChallenges())
+				lines.put(CommunicationManager.format("  &5" + challenge.getName()), 8);
 		else {
 			StringBuilder challenges = new StringBuilder();
 			for (Challenge challenge : player.getChallenges())
 				challenges.append(challenge.getName().toCharArray()[0]);
-			Score score8 = obj.getScore(CommunicationManager.format("  &5" + challenges));
-			score8.setScore(8);
+			lines.put(CommunicationManager.format("  &5" + challenges), 8);
 		}
 
-		Score score7 = obj.getScore("");
-		score7.setScore(7);
-
-		Score score6 = obj.getScore(CommunicationManager.format("&d" + LanguageManager.messages.players + ": " +
-				arena.getAlive()));
-		score6.setScore(6);
-
-		Score score5 = obj.getScore(LanguageManager.messages.ghosts + ": " + arena.getGhostCount());
-		score5.setScore(5);
-
-		Score score4 = obj.getScore(CommunicationManager.format("&7" + LanguageManager.messages.spectators +
-				": " + arena.getSpectatorCount()));
-		score4.setScore(4);
-
-		Score score3 = obj.getScore(" ");
-		score3.setScore(3);
-
-		Score score2 = obj.getScore(CommunicationManager.format("&2" + LanguageManager.messages.villagers + ": " +
-				arena.getVillagers()));
-		score2.setScore(2);
-
-		Score score1 = obj.getScore(CommunicationManager.format("&c" + LanguageManager.messages.enemies + ": " +
-				arena.getEnemies()));
-		score1.setScore(1);
-
-		Score score = obj.getScore(CommunicationManager.format("&4" + LanguageManager.messages.kills + ": " +
-				player.getKills()));
-		score.setScore(0);
-
-		player.getPlayer().setScoreboard(board);
+		lines.put("", 7);
+		lines.put(CommunicationManager.format("&d" + LanguageManager.messages.players + ": " +
+				arena.getAlive()), 6);
+		lines.put(LanguageManager.messages.ghosts + ": " + arena.getGhostCount(), 5);
+		lines.put(CommunicationManager.format("&7" + LanguageManager.messages.spectators +
+				": " + arena.getSpectatorCount()), 4);
+		lines.put(" ", 3);
+		lines.put(CommunicationManager.format("&2" + LanguageManager.messages.villagers + ": " +
+				arena.getVillagers()), 2);
+		lines.put(CommunicationManager.format("&c" + LanguageManager.messages.enemies + ": " +
+				arena.getEnemies()), 1);
+		lines.put(CommunicationManager.format("&4" + LanguageManager.messages.kills + ": " +
+				player.getKills()), 0);
+
+		sidebar.setLines(lines);
+		sidebar.show(player.getPlayer());
 	}
 
 	public static Location getLobby() {
@@ -351,6 +430,14 @@ public class GameManager {
 		}
 	}
 
+	/**
+	 * Recreates a leaderboard in game only if it has been placed.
+	 */
+	public static void refreshLeaderboardIfPresent(String type) {
+		if (leaderboards.containsKey(type))
+			refreshLeaderboard(type);
+	}
+
 	/**
 	 * Centers the leaderboard location along the x and z axis.
 	 */
@@ -379,67 +466,11 @@ public class GameManager {
 	}
 
 	/**
-	 * Display all portals to a player.
-	 * @param player - The player to display all portals to.
-	 */
-	public static void displayAllPortals(Player player) {
-		arenas.values().stream().filter(Objects::nonNull).map(Arena::getPortal)
-				.filter(Objects::nonNull).forEach(portal -> portal.displayForPlayer(player));
-	}
-
-	/**
-	 * Display all arena boards to a player.
-	 * @param player - The player to display all arena boards to.
-	 */
-	public static void displayAllArenaBoards(Player player) {
-		arenas.values().stream().filter(Objects::nonNull).map(Arena::getArenaBoard)
-				.filter(Objects::nonNull).forEach(arenaBoard -> arenaBoard.displayForPlayer(player));
-	}
-
-	/**
-	 * Display all info boards to a player.
-	 * @param player - The player to display all info boards to.
-	 */
-	public static void displayAllInfoBoards(Player player) {
-		infoBoards.values().stream().filter(Objects::nonNull).forEach(infoBoard -> infoBoard.displayForPlayer(player));
-	}
-
-	/**
-	 * Display all leaderboards to a player.
-	 * @param player - The player to display all leaderboards to.
-	 */
-	public static void displayAllLeaderboards(Player player) {
-		leaderboards.forEach((type, board) -> board.displayForPlayer(player));
-	}
-
-	public static void displayAllIndicators(Player player) {
-		arenas.values().stream().filter(Objects::nonNull).forEach(arena ->
-		{
-			if (arena.getPlayerSpawn() != null && arena.getPlayerSpawn().isOn())
-				arena.getPlayerSpawn().getSpawnIndicator().displayForPlayer(player);
-		});
-		arenas.values().stream().filter(Objects::nonNull).forEach(arena ->
-				arena.getMonsterSpawns().forEach(spawn -> {
-					if (spawn.isOn())
-						spawn.getSpawnIndicator().displayForPlayer(player);
-				}));
-		arenas.values().stream().filter(Objects::nonNull).forEach(arena ->
-				arena.getVillagerSpawns().forEach(spawn -> {
-					if (spawn.isOn())
-						spawn.getSpawnIndicator().displayForPlayer(player);
-				}));
-	}
-
-	/**
-	 * Display everything displayable to a player.
+	 * Display everything displayable that is in range to a player, for when their client dropped what it was shown.
 	 * @param player - The player to display everything to.
 	 */
 	public static void displayEverything(Player player) {
-		displayAllPortals(player);
-		displayAllArenaBoards(player);
-		displayAllInfoBoards(player);
-		displayAllLeaderboards(player);
-		displayAllIndicators(player);
+		ViewerTracker.refresh(player);
 	}
 
 	/**
@@ -0,0 +1,264 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.Main;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+
+/**
+ * Shows the particle indicators of all arenas from a single repeating task. Particle points are worked out once when
+ * an indicator is shown, only a limited number of points are rendered each tick across all arenas, and particles are
+ * only sent to players close enough to see them.
+ */
+public class ParticleScheduler {
+    /** Distance in blocks within which players are sent particles, matching how far the server sends them.*/
+    private static final double VIEW_DISTANCE = 32;
+    /** Shown indicators by arena.*/
+    private static final Map<Arena, Map<Kind, Display>> displays = new LinkedHashMap<>();
+    /** ID of the task rendering the indicators, or -1 when there's nothing to show.*/
+    private static int taskID = -1;
+    /** Ticks since the rendering task started.*/
+    private static long tick;
+
+    private ParticleScheduler() {}
+
+    /**
+     * Starts showing an indicator for an arena, replacing the one of the same kind if there was one.
+     * @param arena Arena the indicator belongs to
+     * @param kind What the indicator shows
+     * @param particles Particles making up the indicator
+     * @param period Ticks between renders
+     */
+    public static void show(Arena arena, Kind kind, ParticleSet particles, int period) {
+        displays.computeIfAbsent(arena, a -> new EnumMap<>(Kind.class))
+                .put(kind, new Display(particles, Math.max(period, 1), tick));
+        if (taskID == -1)
+            taskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, ParticleScheduler::render, 0, 1);
+    }
+
+    /**
+     * Stops showing an indicator for an arena.
+     * @param arena Arena the indicator belongs to
+     * @param kind What the indicator shows
+     */
+    public static void hide(Arena arena, Kind kind) {
+        Map<Kind, Display> shown = displays.get(arena);
+        if (shown == null)
+            return;
+
+        shown.remove(kind);
+        if (shown.isEmpty())
+            displays.remove(arena);
+    }
+
+    public static boolean isShowing(Arena arena, Kind kind) {
+        Map<Kind, Display> shown = displays.get(arena);
+        return shown != null && shown.containsKey(kind);
+    }
+
+    // Render the indicators that are due, one arena at a time, until the budget runs out
+    private static void render() {
+        int budget = Math.max(Main.plugin.getConfig().getInt("particlesPerTick", 2000), 1);
+        boolean rendered = false;
+        for (Map.Entry<Arena, Map<Kind, Display>> entry : displays.entrySet()) {
+            for (Map.Entry<Kind, Display> shown : entry.getValue().entrySet()) {
+                Display display = shown.getValue();
+                if (display.due > tick)
+                    continue;
+
+                // Leave what doesn't fit for next tick, but always get something done
+                if (rendered && display.particles.getFrameSize() > budget)
+                    continue;
+
+                try {
+                    budget -= display.render();
+                } catch (Exception e) {
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.VERBOSE,
+                            "%s particle generation error for %s.", shown.getKey().name(), entry.getKey().getName());
+                }
+                display.due = tick + display.period;
+                rendered = true;
+            }
+        }
+
+        // Let the arena that went first this tick go last next tick
+        if (!displays.isEmpty()) {
+            Arena first = displays.keySet().iterator().next();
+            displays.put(first, displays.remove(first));
+        }
+
+        tick++;
+        if (displays.isEmpty()) {
+            Bukkit.getScheduler().cancelTask(taskID);
+            taskID = -1;
+            tick = 0;
+        }
+    }
+
+    /**
+     * Kinds of indicators an arena can show.
+     */
+    public enum Kind {
+        PLAYER_SPAWN,
+        MONSTER_SPAWNS,
+        VILLAGER_SPAWNS,
+        BORDER
+    }
+
+    /**
+     * The points of an indicator, worked out ahead of time as a loop of frames.
+     */
+    public static class ParticleSet {
+        private final World world;
+        private final Particle particle;
+        private final Object data;
+        /** Coordinates of each frame, as x, y and z one after another.*/
+        private final double[][] frames;
+        /** Box around every point, grown by the view distance.*/
+        private final BoundingBox viewBox;
+
+        private ParticleSet(World world, Particle particle, Object data, double[][] frames) {
+            this.world = world;
+            this.particle = particle;
+            this.data = data;
+            this.frames = frames;
+
+            BoundingBox box = null;
+            for (double[] frame : frames)
+                for (int i = 0; i < frame.length; i += 3) {
+                    Vector point = new Vector(frame[i], frame[i + 1], frame[i + 2]);
+                    if (box == null)
+                        box = BoundingBox.of(point, point);
+                    else box.union(point);
+                }
+            viewBox = box == null ? null : box.expand(VIEW_DISTANCE);
+        }
+
+        private int getFrameSize() {
+            return frames.length == 0 ? 0 : frames[0].length / 3;
+        }
+
+        /**
+         * Two particles circling each spawn, taking 24 steps to go all the way around.
+         * @param particle Particle to show
+         * @param spawns Spawn locations, all in the same world
+         * @param step Angle the particles turn each step
+         * @param counter Whether the second particle circles the other way
+         * @return The particle set, or null if there are no spawns
+         */
+        public static ParticleSet rings(Particle particle, List<Location> spawns, double step, boolean counter) {
+            if (spawns.isEmpty())
+                return null;
+
+            double[][] frames = new double[24][];
+            for (int f = 0; f < frames.length; f++) {
+                double first = step * (f + 1);
+                double second = counter ? -first : first;
+                double[] frame = new double[spawns.size() * 6];
+                int i = 0;
+                for (Location spawn : spawns) {
+                    frame[i++] = spawn.getX() + Math.cos(first);
+                    frame[i++] = spawn.getY() + Math.sin(first) + 1;
+                    frame[i++] = spawn.getZ() + Math.sin(first);
+                    frame[i++] = spawn.getX() + Math.cos(second + Math.PI);
+                    frame[i++] = spawn.getY() + Math.sin(second) + 1;
+                    frame[i++] = spawn.getZ() + Math.sin(second + Math.PI);
+                }
+                frames[f] = frame;
+            }
+            return new ParticleSet(spawns.get(0).getWorld(), particle, null, frames);
+        }
+
+        /**
+         * Particles on a grid over every face of the box between two corners.
+         * @param particle Particle to show
+         * @param data Particle data
+         * @param corner1 One corner of the box
+         * @param corner2 The opposite corner
+         * @param spacing Distance between particles
+         * @return The particle set
+         */
+        public static ParticleSet box(Particle particle, Object data, Location corner1, Location corner2,
+                                      double spacing) {
+            Vector max = Vector.getMaximum(corner1.toVector(), corner2.toVector());
+            Vector min = Vector.getMinimum(corner1.toVector(), corner2.toVector());
+
+            // Collect the points of each face, skipping those shared along the edges
+            Set<Vector> points = new LinkedHashSet<>();
+            for (double x = min.getX(); x <= max.getX(); x += spacing)
+                for (double y = min.getY(); y <= max.getY(); y += spacing) {
+                    points.add(new Vector(x, y, max.getZ()));
+                    points.add(new Vector(x, y, min.getZ()));
+                }
+            for (double x = min.getX(); x <= max.getX(); x += spacing)
+                for (double z = min.getZ(); z <= max.getZ(); z += spacing) {
+                    points.add(new Vector(x, max.getY(), z));
+                    points.add(new Vector(x, min.getY(), z));
+                }
+            for (double z = min.getZ(); z <= max.getZ(); z += spacing)
+                for (double y = min.getY(); y <= max.getY(); y += spacing) {
+                    points.add(new Vector(max.getX(), y, z));
+                    points.add(new Vector(min.getX(), y, z));
+                }
+
+            double[] frame = new double[points.size() * 3];
+            int i = 0;
+            for (Vector point : points) {
+                frame[i++] = point.getX();
+                frame[i++] = point.getY();
+                frame[i++] = point.getZ();
+            }
+            return new ParticleSet(corner1.getWorld(), particle, data, new double[][]{frame});
+        }
+    }
+
+    private static class Display {
+        private final ParticleSet particles;
+        private final int period;
+        /** Tick the next render is due on.*/
+        private long due;
+        /** Frame shown next.*/
+        private int frame;
+
+        private Display(ParticleSet particles, int period, long due) {
+            this.particles = particles;
+            this.period = period;
+            this.due = due;
+        }
+
+        // Send the next frame to players close enough to see it, returning how many points were rendered
+        private int render() {
+            double[] points = particles.frames[frame];
+            frame = (frame + 1) % particles.frames.length;
+            if (particles.viewBox == null)
+                return 0;
+
+            List<Player> viewers = new ArrayList<>();
+            for (Player player : Objects.requireNonNull(particles.world).getPlayers())
+                if (particles.viewBox.contains(player.getLocation().toVector()))
+                    viewers.add(player);
+            if (viewers.isEmpty())
+                return 0;
+
+            for (Player player : viewers) {
+                Location location = player.getLocation();
+                for (int i = 0; i < points.length; i += 3) {
+                    double x = points[i] - location.getX();
+                    double y = points[i + 1] - location.getY();
+                    double z = points[i + 2] - location.getZ();
+                    if (x * x + y * y + z * z <= VIEW_DISTANCE * VIEW_DISTANCE)
+                        player.spawnParticle(particles.particle, points[i], points[i + 1], points[i + 2], 0,
+                                particles.data);
+                }
+            }
+            return points.length / 3;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package me.theguyhere.villagerdefense.plugin.game;
 import me.theguyhere.villagerdefense.common.Calculator;
 import me.theguyhere.villagerdefense.common.ColoredMessage;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
-import me.theguyhere.villagerdefense.nms.common.PacketGroup;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
@@ -138,17 +137,6 @@ public class PlayerManager {
         player.setVelocity(new Vector());
     }
 
-    public static void sendPacketToOnline(PacketGroup packetGroup) {
-        for (Player player : Bukkit.getOnlinePlayers())
-            packetGroup.sendTo(player);
-    }
-
-    public static void sendLocationPacketToOnline(PacketGroup packetGroup, World world) {
-        for (Player player : Bukkit.getOnlinePlayers())
-            if (player.getWorld().equals(world))
-                packetGroup.sendTo(player);
-    }
-
     // Function for giving game start choice items to player
     public static void giveChoiceItems(VDPlayer player) {
         List<String> achievements = PlayerDataManager.getPlayerAchievements(player.getID());
@@ -0,0 +1,164 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.Main;
+import org.bukkit.Bukkit;
+
+import java.util.*;
+
+/**
+ * Spawns arena mobs from a queue per arena, drained by a single repeating task. Only a limited number of mobs are
+ * spawned each tick across all arenas, taking turns between arenas so waves starting together share the load.
+ */
+public class SpawnScheduler {
+    /** Spawns waiting in each arena, soonest first.*/
+    private static final Map<Arena, SpawnQueue> queues = new LinkedHashMap<>();
+    /** ID of the task draining the queues, or -1 when there's nothing to spawn.*/
+    private static int taskID = -1;
+    /** Ticks since the draining task started.*/
+    private static long tick;
+    /** Tie breaker keeping spawns due on the same tick in the order they were queued.*/
+    private static long sequence;
+
+    private SpawnScheduler() {}
+
+    /**
+     * Queues a mob to be spawned.
+     * @param arena Arena to spawn in
+     * @param kind What kind of mob will be spawned
+     * @param delay Ticks to wait at least before spawning
+     * @param spawn Spawns and sets up the mob
+     */
+    public static void schedule(Arena arena, Kind kind, int delay, Runnable spawn) {
+        queues.computeIfAbsent(arena, a -> new SpawnQueue())
+                .add(new PendingSpawn(kind, tick + Math.max(delay, 0), sequence++, spawn));
+        if (taskID == -1)
+            taskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, SpawnScheduler::drain, 0, 1);
+    }
+
+    /**
+     * Drops all spawns waiting in an arena.
+     * @param arena Arena to stop spawning in
+     */
+    public static void cancel(Arena arena) {
+        queues.remove(arena);
+    }
+
+    /**
+     * Checks whether an arena still has mobs of a kind waiting to spawn.
+     * @param arena Arena to check
+     * @param kind Kind of mob
+     * @return Whether any are waiting
+     */
+    public static boolean isSpawning(Arena arena, Kind kind) {
+        SpawnQueue queue = queues.get(arena);
+        return queue != null && queue.counts[kind.ordinal()] > 0;
+    }
+
+    public static int getQueueDepth(Arena arena) {
+        SpawnQueue queue = queues.get(arena);
+        return queue == null ? 0 : queue.spawns.size();
+    }
+
+    public static int getQueueDepth() {
+        int depth = 0;
+        for (SpawnQueue queue : queues.values())
+            depth += queue.spawns.size();
+        return depth;
+    }
+
+    // Spawn what's due this tick, one arena at a time, until the budget runs out
+    private static void drain() {
+        int budget = Math.max(Main.plugin.getConfig().getInt("spawnsPerTick", 10), 1);
+        List<Arena> order = new ArrayList<>(queues.keySet());
+        boolean spawned = true;
+        while (budget > 0 && spawned) {
+            spawned = false;
+            for (Arena arena : order) {
+                if (budget <= 0)
+                    break;
+
+                SpawnQueue queue = queues.get(arena);
+                if (queue == null || !queue.isDue())
+                    continue;
+
+                PendingSpawn pending = queue.poll();
+                try {
+                    pending.spawn.run();
+                } catch (Exception e) {
+                    // A failed spawn still counts, so the arena doesn't wait on it forever
+                    CommunicationManager.debugError(CommunicationManager.DebugLevel.QUIET,
+                        "Failed to spawn a mob in " + arena.getName() + ".", true, e);
+                }
+                if (queue.counts[pending.kind.ordinal()] == 0)
+                    arena.spawningFinished(pending.kind);
+                budget--;
+                spawned = true;
+            }
+        }
+
+        // Let the arena that went first this tick go last next tick
+        queues.values().removeIf(queue -> queue.spawns.isEmpty());
+        if (!queues.isEmpty()) {
+            Arena first = queues.keySet().iterator().next();
+            queues.put(first, queues.remove(first));
+        }
+
+        tick++;
+        if (queues.isEmpty()) {
+            Bukkit.getScheduler().cancelTask(taskID);
+            taskID = -1;
+            tick = 0;
+        }
+    }
+
+    /**
+     * Kinds of mobs the scheduler tracks spawning state for.
+     */
+    public enum Kind {
+        VILLAGER,
+        MONSTER
+    }
+
+    private static class SpawnQueue {
+        private final PriorityQueue<PendingSpawn> spawns = new PriorityQueue<>();
+        /** Number of waiting spawns by kind.*/
+        private final int[] counts = new int[Kind.values().length];
+
+        private void add(PendingSpawn pending) {
+            spawns.add(pending);
+            counts[pending.kind.ordinal()]++;
+        }
+
+        private boolean isDue() {
+            return !spawns.isEmpty() && spawns.peek().due <= tick;
+        }
+
+        private PendingSpawn poll() {
+            PendingSpawn pending = spawns.poll();
+            counts[pending.kind.ordinal()]--;
+            return pending;
+        }
+    }
+
+    private static class PendingSpawn implements Comparable<PendingSpawn> {
+        private final Kind kind;
+        /** Tick the spawn is due on.*/
+        private final long due;
+        private final long sequence;
+        private final Runnable spawn;
+
+        private PendingSpawn(Kind kind, long due, long sequence, Runnable spawn) {
+            this.kind = kind;
+            this.due = due;
+            this.sequence = sequence;
+            this.spawn = spawn;
+        }
+
+        @Override
+        public int compareTo(PendingSpawn o) {
+            int result = Long.compare(due, o.due);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+}
@@ -7,8 +7,9 @@ import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
-import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
 import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
 import me.theguyhere.villagerdefense.plugin.game.events.GameEndEvent;
 import me.theguyhere.villagerdefense.plugin.game.events.LeaveArenaEvent;
@@ -146,11 +147,10 @@ public class Tasks {
 
 		@Override
 		public void run() {
-			// Set arena to active, reset villager and enemy count, set new game ID, clear arena
+			// Set arena to active, set new game ID, clear arena
 			arena.setStatus(ArenaStatus.ACTIVE);
-			arena.resetVillagers();
-			arena.resetEnemies();
 			arena.newGameID();
+			arena.getEntities().removeAll();
 			WorldManager.clear(arena.getCorner1(), arena.getCorner2());
 
 			// Teleport players to arena if waiting room exists, otherwise clear inventory
@@ -190,7 +190,7 @@ public class Tasks {
 				Random r = new Random();
 
 				// Give second kit to players with two kit bonus
-				if (player.isBoosted() && PlayerDataManager.getPlayerAchievements(uuid).contains(Achievement.allKits().getID())) {
+				if (player.isBoosted() && PlayerDataManager.hasPlayerAchievement(uuid, AchievementRegistry.get(AchievementRegistry.ALL_KITS))) {
                     player.setKit2(Kits.randomKitOtherThan(player.getKit()));
 				}
 
@@ -213,7 +213,7 @@ public class Tasks {
                 }
 
 				// Set health for people with health boost and are boosted
-				if (player.isBoosted() && PlayerDataManager.getPlayerAchievements(uuid).contains(Achievement.topWave9().getID())) {
+				if (player.isBoosted() && PlayerDataManager.hasPlayerAchievement(uuid, AchievementRegistry.get(AchievementRegistry.TOP_WAVE_9))) {
 					Objects.requireNonNull(player.getPlayer().getAttribute(Attribute.MAX_HEALTH))
 						.addModifier(new AttributeModifier("HealthBoost", 2,
 							AttributeModifier.Operation.ADD_NUMBER));
@@ -320,14 +320,14 @@ public class Tasks {
 			// Refresh the scoreboards
 			updateBoards.run();
 
-			// Remove any unwanted mobs
-			Objects.requireNonNull(arena.getCorner1().getWorld()).getNearbyEntities(arena.getBounds())
-					.stream().filter(Objects::nonNull)
-					.filter(ent -> ent instanceof Monster || ent instanceof Hoglin || ent instanceof Phantom ||
-							ent instanceof Slime)
-					.filter(ent -> (!ent.hasMetadata("wave") ||
-							ent.getMetadata("wave").get(0).asInt() != arena.getCurrentWave()))
-					.forEach(Entity::remove);
+			// Remove any monsters left over from earlier waves
+			new ArrayList<>(arena.getEntities().getMonsters()).stream()
+					.filter(ent -> ArenaMobTag.get(ent) == null ||
+							ArenaMobTag.get(ent).getWave() != arena.getCurrentWave())
+					.forEach(ent -> {
+						ent.remove();
+						arena.getEntities().remove(ent);
+					});
 
 			// Revive dead players
 			for (VDPlayer p : arena.getGhosts()) {
@@ -360,7 +360,7 @@ public class Tasks {
                 }
 
 				// Set health for people with health boost and are boosted
-				if (p.isBoosted() && PlayerDataManager.getPlayerAchievements(p.getID()).contains(Achievement.topWave9().getID())) {
+				if (p.isBoosted() && PlayerDataManager.hasPlayerAchievement(p.getID(), AchievementRegistry.get(AchievementRegistry.TOP_WAVE_9))) {
 					Objects.requireNonNull(p.getPlayer().getAttribute(Attribute.MAX_HEALTH))
 						.addModifier(new AttributeModifier("HealthBoost", 2,
 							AttributeModifier.Operation.ADD_NUMBER));
@@ -465,7 +465,8 @@ public class Tasks {
 		@Override
 		public void run() {
 			arena.calibrate();
-			CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE, arena.getName() + " performed a calibration check.");
+			CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE, arena.getName() + " performed a calibration check. " +
+					SpawnScheduler.getQueueDepth(arena) + " spawns queued.");
 		}
 	};
 
@@ -487,12 +488,11 @@ public class Tasks {
 			// Update data
 			arena.setStatus(ArenaStatus.WAITING);
 			arena.resetCurrentWave();
-			arena.resetEnemies();
-			arena.resetVillagers();
-			arena.resetGolems();
 			arena.getTask().getTasks().clear();
+			SpawnScheduler.cancel(arena);
 
 			// Clear the arena
+			arena.getEntities().removeAll();
 			WorldManager.clear(arena.getCorner1(), arena.getCorner2());
 
 			// Remove particles
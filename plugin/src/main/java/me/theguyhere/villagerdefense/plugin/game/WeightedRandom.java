@@ -0,0 +1,53 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable weighted random selector. Choosing an item is a binary search over the cumulative weights, so the cost
+ * doesn't grow with the size of the weights.
+ */
+public class WeightedRandom<T> {
+    private final List<T> items = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    /**
+     * @param weights Items mapped to their weights. Items with a weight of 0 or less are never chosen.
+     */
+    public WeightedRandom(Map<T, Integer> weights) {
+        int[] cumulative = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() <= 0)
+                continue;
+
+            total += entry.getValue();
+            cumulative[items.size()] = total;
+            items.add(entry.getKey());
+        }
+        cumulativeWeights = Arrays.copyOf(cumulative, items.size());
+        totalWeight = total;
+    }
+
+    /**
+     * Chooses a random item according to the weights.
+     * @return The chosen item, or null if there are no items to choose from.
+     */
+    public T getRandom() {
+        if (totalWeight == 0)
+            return null;
+
+        // Find the first item whose cumulative weight passes the target
+        int target = ThreadLocalRandom.current().nextInt(totalWeight) + 1;
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        return items.get(index >= 0 ? index : -index - 1);
+    }
+
+    public boolean isEmpty() {
+        return totalWeight == 0;
+    }
+}
@@ -1,5 +1,6 @@
 package me.theguyhere.villagerdefense.plugin.game;
 
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import org.bukkit.Location;
 import org.bukkit.entity.*;
 import org.bukkit.util.BoundingBox;
@@ -23,7 +24,10 @@ public class WorldManager {
 
         // Clear the arena for living entities
         entities.stream().filter(e -> e instanceof LivingEntity && !(e instanceof Player))
-                .filter(e -> e.hasMetadata("VD")).forEach(Entity::remove);
+                .filter(ArenaMobTag::has).forEach(e -> {
+                    ArenaMobTag.forget(e);
+                    e.remove();
+                });
 
         // Clear the arena for items and experience orbs
         entities.stream().filter(e -> e instanceof Item || e instanceof ExperienceOrb).forEach(Entity::remove);
@@ -55,7 +59,7 @@ public class WorldManager {
     // Get nearby monsters
     public static List<LivingEntity> getNearbyMonsters(Player player, double range) {
         return player.getNearbyEntities(range, range, range).stream().filter(Objects::nonNull)
-                .filter(e -> e.hasMetadata("VD_Monster")).map(ent -> (LivingEntity) ent)
+                .filter(ArenaMobTag::isMonster).map(ent -> (LivingEntity) ent)
                 .collect(Collectors.toList());
     }
 }
@@ -11,6 +11,7 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -29,7 +30,6 @@ public class Achievement {
     @Getter
     private final Type type;
     /** The requirements to get this achievement.*/
-    @Getter
     private final List<AchievementRequirement> requirements = new ArrayList<>();
     /** The reward for getting this achievement.*/
     @Getter
@@ -37,6 +37,9 @@ public class Achievement {
     /** Whether the requirements in this achievement have to all be true or only one.*/
     @Getter
     private final boolean and;
+    /** The position of this achievement in the {@link AchievementRegistry}, or -1 if it isn't registered.*/
+    @Getter
+    private int index = -1;
 
     public Achievement(
             String name,
@@ -101,6 +104,17 @@ public class Achievement {
         );
     }
 
+    /**
+     * @return An unmodifiable view of the requirements to get this achievement.
+     */
+    public List<AchievementRequirement> getRequirements() {
+        return Collections.unmodifiableList(requirements);
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public void addRequirement(AchievementRequirement requirement) throws InvalidAchievementReqTypeException {
         if (requirement.getMetric().getType() != type)
             throw new InvalidAchievementReqTypeException();
@@ -189,7 +203,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.allChallenges.name,
                 LanguageManager.achievements.allChallenges.description,
-                "allChallenges",
+                AchievementRegistry.ALL_CHALLENGES,
                 Material.HEART_OF_THE_SEA,
                 Type.INSTANCE,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.RESURRECTION)
@@ -351,7 +365,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.allKits.name,
                 LanguageManager.achievements.allKits.description,
-                "allKits",
+                AchievementRegistry.ALL_KITS,
                 Material.ENDER_CHEST,
                 Type.KIT,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.TWO_KITS)
@@ -485,7 +499,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.allMaxedAbility.name,
                 LanguageManager.achievements.allMaxedAbility.description,
-                "allMaxedAbility",
+                AchievementRegistry.ALL_MAXED_ABILITY,
                 Material.CHORUS_FLOWER,
                 Type.KIT,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.COOLDOWN_REDUCTION)
@@ -1622,7 +1636,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.topBalance.nine,
                 String.format(LanguageManager.achievements.topBalance.description, "50000"),
-                "topBalance9",
+                AchievementRegistry.TOP_BALANCE_9,
                 Material.EMERALD,
                 Type.HIGH_SCORE,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.GEM_INCREASE)
@@ -1785,7 +1799,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.topKills.nine,
                 String.format(LanguageManager.achievements.topKills.description, "1000"),
-                "topKills9",
+                AchievementRegistry.TOP_KILLS_9,
                 Material.ZOMBIE_HEAD,
                 Type.HIGH_SCORE,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.DAMAGE_INCREASE)
@@ -1948,7 +1962,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.topWave.nine,
                 String.format(LanguageManager.achievements.topWave.description, "50"),
-                "topWave9",
+                AchievementRegistry.TOP_WAVE_9,
                 Material.GOLDEN_SWORD,
                 Type.HIGH_SCORE,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.HEALTH_INCREASE)
@@ -2274,7 +2288,7 @@ public class Achievement {
         Achievement achievement = new Achievement(
                 LanguageManager.achievements.totalKills.nine,
                 String.format(LanguageManager.achievements.totalKills.description, "10000"),
-                "totalKills9",
+                AchievementRegistry.TOTAL_KILLS_9,
                 Material.DRAGON_HEAD,
                 Type.HIGH_SCORE,
                 new AchievementReward(AchievementReward.Type.BOOST, BoostRewardID.DAMAGE_REDUCTION)
@@ -17,12 +17,22 @@ import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 
 public class AchievementChecker {
+    /** High score metrics by the player stat they track.*/
+    private static final Map<String, AchievementMetric> STAT_METRICS = new HashMap<>();
+    /** High score metrics of each player that changed since they were last checked.*/
+    private static final Map<UUID, Set<AchievementMetric>> changedMetrics = new HashMap<>();
+
+    static {
+        STAT_METRICS.put("topBalance", AchievementMetric.TOP_BALANCE);
+        STAT_METRICS.put("topKills", AchievementMetric.TOP_KILLS);
+        STAT_METRICS.put("topWave", AchievementMetric.TOP_WAVE);
+        STAT_METRICS.put("totalGems", AchievementMetric.TOTAL_GEMS);
+        STAT_METRICS.put("totalKills", AchievementMetric.TOTAL_KILLS);
+    }
+
     private static boolean verifyHighScoreAchievement(Achievement achievement, Player player) {
         // Verify correct achievement type
         if (achievement.getType() != Achievement.Type.HIGH_SCORE)
@@ -207,17 +217,15 @@ public class AchievementChecker {
 
     public static void checkHighScoreAchievement(Achievement achievement, Player player) {
         UUID uuid = player.getUniqueId();
-        List<String> achievements = PlayerDataManager.getPlayerAchievements(uuid);
 
         // Check if player already has achievement
-        if (achievements.contains(achievement.getID()))
+        if (PlayerDataManager.hasPlayerAchievement(uuid, achievement))
             return;
 
         // Give achievement if achievement is met
         if (verifyHighScoreAchievement(achievement, player)) {
             // Record achievement
-            achievements.add(achievement.getID());
-            PlayerDataManager.setPlayerAchievements(uuid, achievements);
+            PlayerDataManager.addPlayerAchievement(uuid, achievement.getID());
 
             // Notify player of achievement and rewards
             notifyAchievement(achievement, player);
@@ -231,17 +239,15 @@ public class AchievementChecker {
             return;
 
         UUID uuid = player.getID();
-        List<String> achievements = PlayerDataManager.getPlayerAchievements(uuid);
 
         // Check if player already has achievement
-        if (achievements.contains(achievement.getID()))
+        if (PlayerDataManager.hasPlayerAchievement(uuid, achievement))
             return;
 
         // Give achievement if achievement is met
         if (verifyInstanceAchievement(achievement, player)) {
             // Record achievement
-            achievements.add(achievement.getID());
-            PlayerDataManager.setPlayerAchievements(uuid, achievements);
+            PlayerDataManager.addPlayerAchievement(uuid, achievement.getID());
 
             // Notify player of achievement and rewards
             notifyAchievement(achievement, player.getPlayer());
@@ -251,17 +257,15 @@ public class AchievementChecker {
 
     public static void checkKitAchievement(Achievement achievement, Player player) {
         UUID uuid = player.getUniqueId();
-        List<String> achievements = PlayerDataManager.getPlayerAchievements(uuid);
 
         // Check if player already has achievement
-        if (achievements.contains(achievement.getID()))
+        if (PlayerDataManager.hasPlayerAchievement(uuid, achievement))
             return;
 
         // Give achievement if achievement is met
         if (verifyKitAchievement(achievement, player)) {
             // Record achievement
-            achievements.add(achievement.getID());
-            PlayerDataManager.setPlayerAchievements(uuid, achievements);
+            PlayerDataManager.addPlayerAchievement(uuid, achievement.getID());
 
             // Notify player of achievement and rewards
             notifyAchievement(achievement, player);
@@ -270,101 +274,43 @@ public class AchievementChecker {
     }
 
     public static void checkDefaultHighScoreAchievements(Player player) {
-        checkHighScoreAchievement(Achievement.topBalance1(), player);
-        checkHighScoreAchievement(Achievement.topBalance2(), player);
-        checkHighScoreAchievement(Achievement.topBalance3(), player);
-        checkHighScoreAchievement(Achievement.topBalance4(), player);
-        checkHighScoreAchievement(Achievement.topBalance5(), player);
-        checkHighScoreAchievement(Achievement.topBalance6(), player);
-        checkHighScoreAchievement(Achievement.topBalance7(), player);
-        checkHighScoreAchievement(Achievement.topBalance8(), player);
-        checkHighScoreAchievement(Achievement.topBalance9(), player);
-        checkHighScoreAchievement(Achievement.topKills1(), player);
-        checkHighScoreAchievement(Achievement.topKills2(), player);
-        checkHighScoreAchievement(Achievement.topKills3(), player);
-        checkHighScoreAchievement(Achievement.topKills4(), player);
-        checkHighScoreAchievement(Achievement.topKills5(), player);
-        checkHighScoreAchievement(Achievement.topKills6(), player);
-        checkHighScoreAchievement(Achievement.topKills7(), player);
-        checkHighScoreAchievement(Achievement.topKills8(), player);
-        checkHighScoreAchievement(Achievement.topKills9(), player);
-        checkHighScoreAchievement(Achievement.topWave1(), player);
-        checkHighScoreAchievement(Achievement.topWave2(), player);
-        checkHighScoreAchievement(Achievement.topWave3(), player);
-        checkHighScoreAchievement(Achievement.topWave4(), player);
-        checkHighScoreAchievement(Achievement.topWave5(), player);
-        checkHighScoreAchievement(Achievement.topWave6(), player);
-        checkHighScoreAchievement(Achievement.topWave7(), player);
-        checkHighScoreAchievement(Achievement.topWave8(), player);
-        checkHighScoreAchievement(Achievement.topWave9(), player);
-        checkHighScoreAchievement(Achievement.totalGems1(), player);
-        checkHighScoreAchievement(Achievement.totalGems2(), player);
-        checkHighScoreAchievement(Achievement.totalGems3(), player);
-        checkHighScoreAchievement(Achievement.totalGems4(), player);
-        checkHighScoreAchievement(Achievement.totalGems5(), player);
-        checkHighScoreAchievement(Achievement.totalGems6(), player);
-        checkHighScoreAchievement(Achievement.totalGems7(), player);
-        checkHighScoreAchievement(Achievement.totalGems8(), player);
-        checkHighScoreAchievement(Achievement.totalGems9(), player);
-        checkHighScoreAchievement(Achievement.totalKills1(), player);
-        checkHighScoreAchievement(Achievement.totalKills2(), player);
-        checkHighScoreAchievement(Achievement.totalKills3(), player);
-        checkHighScoreAchievement(Achievement.totalKills4(), player);
-        checkHighScoreAchievement(Achievement.totalKills5(), player);
-        checkHighScoreAchievement(Achievement.totalKills6(), player);
-        checkHighScoreAchievement(Achievement.totalKills7(), player);
-        checkHighScoreAchievement(Achievement.totalKills8(), player);
-        checkHighScoreAchievement(Achievement.totalKills9(), player);
+        changedMetrics.remove(player.getUniqueId());
+        for (Achievement achievement : AchievementRegistry.getByType(Achievement.Type.HIGH_SCORE))
+            checkHighScoreAchievement(achievement, player);
+    }
+
+    /**
+     * Checks only the high score achievements depending on stats that changed since the player was last checked.
+     * @param player Player to check
+     */
+    public static void checkChangedHighScoreAchievements(Player player) {
+        Set<AchievementMetric> metrics = changedMetrics.remove(player.getUniqueId());
+        if (metrics == null)
+            return;
+
+        for (AchievementMetric metric : metrics)
+            for (Achievement achievement : AchievementRegistry.getByMetric(metric))
+                checkHighScoreAchievement(achievement, player);
     }
 
     public static void checkDefaultInstanceAchievements(VDPlayer player) {
-        checkInstanceAchievement(Achievement.allChallenges(), player);
-        checkInstanceAchievement(Achievement.alone(), player);
-        checkInstanceAchievement(Achievement.amputeeAlone(), player);
-        checkInstanceAchievement(Achievement.amputeeBalance(), player);
-        checkInstanceAchievement(Achievement.amputeeKills(), player);
-        checkInstanceAchievement(Achievement.amputeeWave(), player);
-        checkInstanceAchievement(Achievement.blindAlone(), player);
-        checkInstanceAchievement(Achievement.blindBalance(), player);
-        checkInstanceAchievement(Achievement.blindKills(), player);
-        checkInstanceAchievement(Achievement.blindWave(), player);
-        checkInstanceAchievement(Achievement.clumsyAlone(), player);
-        checkInstanceAchievement(Achievement.clumsyBalance(), player);
-        checkInstanceAchievement(Achievement.clumsyKills(), player);
-        checkInstanceAchievement(Achievement.clumsyWave(), player);
-        checkInstanceAchievement(Achievement.dwarfAlone(), player);
-        checkInstanceAchievement(Achievement.dwarfBalance(), player);
-        checkInstanceAchievement(Achievement.dwarfKills(), player);
-        checkInstanceAchievement(Achievement.dwarfWave(), player);
-        checkInstanceAchievement(Achievement.explosiveAlone(), player);
-        checkInstanceAchievement(Achievement.explosiveBalance(), player);
-        checkInstanceAchievement(Achievement.explosiveKills(), player);
-        checkInstanceAchievement(Achievement.explosiveWave(), player);
-        checkInstanceAchievement(Achievement.featherweightAlone(), player);
-        checkInstanceAchievement(Achievement.featherweightBalance(), player);
-        checkInstanceAchievement(Achievement.featherweightKills(), player);
-        checkInstanceAchievement(Achievement.featherweightWave(), player);
-        checkInstanceAchievement(Achievement.nakedAlone(), player);
-        checkInstanceAchievement(Achievement.nakedBalance(), player);
-        checkInstanceAchievement(Achievement.nakedKills(), player);
-        checkInstanceAchievement(Achievement.nakedWave(), player);
-        checkInstanceAchievement(Achievement.pacifistAlone(), player);
-        checkInstanceAchievement(Achievement.pacifistBalance(), player);
-        checkInstanceAchievement(Achievement.pacifistKills(), player);
-        checkInstanceAchievement(Achievement.pacifistWave(), player);
-        checkInstanceAchievement(Achievement.pacifistUhc(), player);
-        checkInstanceAchievement(Achievement.uhcAlone(), player);
-        checkInstanceAchievement(Achievement.uhcBalance(), player);
-        checkInstanceAchievement(Achievement.uhcKills(), player);
-        checkInstanceAchievement(Achievement.uhcWave(), player);
+        for (Achievement achievement : AchievementRegistry.getByType(Achievement.Type.INSTANCE))
+            checkInstanceAchievement(achievement, player);
     }
 
     public static void checkDefaultKitAchievements(Player player) {
-        checkKitAchievement(Achievement.allAbility(), player);
-        checkKitAchievement(Achievement.allEffect(), player);
-        checkKitAchievement(Achievement.allGift(), player);
-        checkKitAchievement(Achievement.allKits(), player);
-        checkKitAchievement(Achievement.allMaxedAbility(), player);
-        checkKitAchievement(Achievement.maxedAbility(), player);
+        for (Achievement achievement : AchievementRegistry.getByType(Achievement.Type.KIT))
+            checkKitAchievement(achievement, player);
+    }
+
+    /**
+     * Notes that a player stat changed, so the achievements depending on it get checked next time.
+     * @param uuid Player UUID
+     * @param type Stat name
+     */
+    public static void statChanged(UUID uuid, String type) {
+        AchievementMetric metric = STAT_METRICS.get(type);
+        if (metric != null)
+            changedMetrics.computeIfAbsent(uuid, id -> EnumSet.noneOf(AchievementMetric.class)).add(metric);
     }
 }
@@ -0,0 +1,186 @@
+package me.theguyhere.villagerdefense.plugin.game.achievements;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Every achievement in Villager Defense, built once on load and reload instead of every time one is needed.
+ * Achievements are indexed by ID, type and metric, and each gets a stable index for quick lookups of earned
+ * achievements.
+ */
+public class AchievementRegistry {
+    // IDs of achievements whose boost rewards are applied in game code
+    public static final String TOP_BALANCE_9 = "topBalance9";
+    public static final String TOP_KILLS_9 = "topKills9";
+    public static final String TOP_WAVE_9 = "topWave9";
+    public static final String TOTAL_KILLS_9 = "totalKills9";
+    public static final String ALL_CHALLENGES = "allChallenges";
+    public static final String ALL_MAXED_ABILITY = "allMaxedAbility";
+    public static final String ALL_KITS = "allKits";
+
+    /** All achievements, in the order they are displayed.*/
+    private static List<Achievement> achievements = Collections.emptyList();
+    private static Map<String, Achievement> byID = Collections.emptyMap();
+    private static Map<Achievement.Type, List<Achievement>> byType = Collections.emptyMap();
+    private static Map<AchievementMetric, List<Achievement>> byMetric = Collections.emptyMap();
+    /** Changes every time the registry is rebuilt, so indexes built from it know to refresh.*/
+    @Getter
+    private static int version;
+
+    private AchievementRegistry() {}
+
+    /**
+     * Builds every achievement. Has to happen after the language file is loaded, since achievement names come from it.
+     */
+    public static void init() {
+        List<Achievement> all = Arrays.asList(
+                Achievement.topBalance1(),
+                Achievement.topBalance2(),
+                Achievement.topBalance3(),
+                Achievement.topBalance4(),
+                Achievement.topBalance5(),
+                Achievement.topBalance6(),
+                Achievement.topBalance7(),
+                Achievement.topBalance8(),
+                Achievement.topBalance9(),
+                Achievement.topKills1(),
+                Achievement.topKills2(),
+                Achievement.topKills3(),
+                Achievement.topKills4(),
+                Achievement.topKills5(),
+                Achievement.topKills6(),
+                Achievement.topKills7(),
+                Achievement.topKills8(),
+                Achievement.topKills9(),
+                Achievement.topWave1(),
+                Achievement.topWave2(),
+                Achievement.topWave3(),
+                Achievement.topWave4(),
+                Achievement.topWave5(),
+                Achievement.topWave6(),
+                Achievement.topWave7(),
+                Achievement.topWave8(),
+                Achievement.topWave9(),
+                Achievement.totalGems1(),
+                Achievement.totalGems2(),
+                Achievement.totalGems3(),
+                Achievement.totalGems4(),
+                Achievement.totalGems5(),
+                Achievement.totalGems6(),
+                Achievement.totalGems7(),
+                Achievement.totalGems8(),
+                Achievement.totalGems9(),
+                Achievement.totalKills1(),
+                Achievement.totalKills2(),
+                Achievement.totalKills3(),
+                Achievement.totalKills4(),
+                Achievement.totalKills5(),
+                Achievement.totalKills6(),
+                Achievement.totalKills7(),
+                Achievement.totalKills8(),
+                Achievement.totalKills9(),
+                Achievement.amputeeAlone(),
+                Achievement.blindAlone(),
+                Achievement.clumsyAlone(),
+                Achievement.dwarfAlone(),
+                Achievement.explosiveAlone(),
+                Achievement.featherweightAlone(),
+                Achievement.nakedAlone(),
+                Achievement.pacifistAlone(),
+                Achievement.uhcAlone(),
+                Achievement.amputeeBalance(),
+                Achievement.blindBalance(),
+                Achievement.clumsyBalance(),
+                Achievement.dwarfBalance(),
+                Achievement.explosiveBalance(),
+                Achievement.featherweightBalance(),
+                Achievement.nakedBalance(),
+                Achievement.pacifistBalance(),
+                Achievement.uhcBalance(),
+                Achievement.amputeeKills(),
+                Achievement.blindKills(),
+                Achievement.clumsyKills(),
+                Achievement.dwarfKills(),
+                Achievement.explosiveKills(),
+                Achievement.featherweightKills(),
+                Achievement.nakedKills(),
+                Achievement.pacifistKills(),
+                Achievement.uhcKills(),
+                Achievement.amputeeWave(),
+                Achievement.blindWave(),
+                Achievement.clumsyWave(),
+                Achievement.dwarfWave(),
+                Achievement.explosiveWave(),
+                Achievement.featherweightWave(),
+                Achievement.nakedWave(),
+                Achievement.pacifistWave(),
+                Achievement.uhcWave(),
+                Achievement.alone(),
+                Achievement.pacifistUhc(),
+                Achievement.allChallenges(),
+                Achievement.allGift(),
+                Achievement.allAbility(),
+                Achievement.maxedAbility(),
+                Achievement.allMaxedAbility(),
+                Achievement.allEffect(),
+                Achievement.allKits()
+        );
+
+        Map<String, Achievement> newByID = new HashMap<>();
+        Map<Achievement.Type, List<Achievement>> newByType = new EnumMap<>(Achievement.Type.class);
+        Map<AchievementMetric, List<Achievement>> newByMetric = new EnumMap<>(AchievementMetric.class);
+        for (int i = 0; i < all.size(); i++) {
+            Achievement achievement = all.get(i);
+            achievement.setIndex(i);
+            newByID.put(achievement.getID(), achievement);
+            newByType.computeIfAbsent(achievement.getType(), type -> new ArrayList<>()).add(achievement);
+
+            // Index each achievement once under every metric it depends on
+            Set<AchievementMetric> metrics = EnumSet.noneOf(AchievementMetric.class);
+            achievement.getRequirements().forEach(requirement -> metrics.add(requirement.getMetric()));
+            metrics.forEach(metric -> newByMetric.computeIfAbsent(metric, m -> new ArrayList<>()).add(achievement));
+        }
+        newByType.replaceAll((type, list) -> Collections.unmodifiableList(list));
+        newByMetric.replaceAll((metric, list) -> Collections.unmodifiableList(list));
+
+        achievements = Collections.unmodifiableList(all);
+        byID = Collections.unmodifiableMap(newByID);
+        byType = Collections.unmodifiableMap(newByType);
+        byMetric = Collections.unmodifiableMap(newByMetric);
+        version++;
+    }
+
+    /**
+     * @return All achievements, in the order they are displayed.
+     */
+    public static List<Achievement> getAll() {
+        return achievements;
+    }
+
+    /**
+     * Retrieves an achievement by its ID.
+     * @param id Achievement ID
+     * @return The achievement, or null if none has the ID
+     */
+    public static Achievement get(String id) {
+        return byID.get(id);
+    }
+
+    public static List<Achievement> getByType(Achievement.Type type) {
+        return byType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves the achievements with a requirement on a metric.
+     * @param metric Achievement metric
+     * @return Achievements depending on the metric
+     */
+    public static List<Achievement> getByMetric(AchievementMetric metric) {
+        return byMetric.getOrDefault(metric, Collections.emptyList());
+    }
+
+    public static int size() {
+        return achievements.size();
+    }
+}
@@ -2,9 +2,10 @@ package me.theguyhere.villagerdefense.plugin.game.achievements.listeners;
 
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
 import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.PlayerNotFoundException;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
-import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -32,7 +33,7 @@ public class BonusListener implements Listener {
         }
 
         // Check if player has damage reduction achievement and is boosted
-        if (gamer.isBoosted() && PlayerDataManager.getPlayerAchievements(player.getUniqueId()).contains(Achievement.totalKills9().getID())) {
+        if (gamer.isBoosted() && PlayerDataManager.hasPlayerAchievement(player.getUniqueId(), AchievementRegistry.get(AchievementRegistry.TOTAL_KILLS_9))) {
             e.setDamage(e.getDamage() * .9);
         }
     }
@@ -44,7 +45,7 @@ public class BonusListener implements Listener {
         if (!(e.getEntity() instanceof LivingEntity)) return;
 
         // Check damage was done to monster
-        if (!(e.getEntity().hasMetadata("VD"))) return;
+        if (!(ArenaMobTag.has(e.getEntity()))) return;
 
         // Check that a player caused the damage
         if (!(e.getDamager() instanceof Player || e.getDamager() instanceof Projectile)) return;
@@ -68,7 +69,7 @@ public class BonusListener implements Listener {
         }
 
         // Check if player has damage increase achievement and is boosted
-        if (gamer.isBoosted() && PlayerDataManager.getPlayerAchievements(player.getUniqueId()).contains(Achievement.topKills9().getID())) {
+        if (gamer.isBoosted() && PlayerDataManager.hasPlayerAchievement(player.getUniqueId(), AchievementRegistry.get(AchievementRegistry.TOP_KILLS_9))) {
             e.setDamage(e.getDamage() * 1.1);
         }
     }
@@ -2,9 +2,10 @@ package me.theguyhere.villagerdefense.plugin.game.challenges.listeners;
 
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.PlayerNotFoundException;
 import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
-import me.theguyhere.villagerdefense.plugin.items.GameItems;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.game.ArenaStatus;
@@ -115,7 +116,7 @@ public class ChallengeListener implements Listener {
         ItemStack item = e.getItem();
 
         // Ignore shop item
-        if (GameItems.shop().equals(item))
+        if (GameItemType.SHOP.is(item))
             return;
 
         // Check for clumsy challenge
@@ -184,7 +185,7 @@ public class ChallengeListener implements Listener {
         // Mob hurt
         else {
             // Check damage was done to monster
-            if (!(e.getEntity().hasMetadata("VD"))) return;
+            if (!(ArenaMobTag.has(e.getEntity()))) return;
 
             Player player;
             VDPlayer gamer;
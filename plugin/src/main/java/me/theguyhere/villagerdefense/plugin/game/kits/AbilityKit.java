@@ -7,7 +7,8 @@ import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
-import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.ChatColor;
@@ -17,11 +18,12 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 
 public abstract class AbilityKit extends Kit {
-    private final ItemStack abilityItem;
+    /** ID stored on the ability item, used to recognize it.*/
+    private final String abilityID;
     private long cooldownExpiry = 0;
     public AbilityKit(String name, Material buttonMaterial, ItemStack abilityItem) {
         super(name, KitCategory.ABILITY, buttonMaterial);
-        this.abilityItem = abilityItem;
+        this.abilityID = GameItemType.ABILITY.getPayload(abilityItem);
         addItems(abilityItem);
 
         ColoredMessage coloredAbilityText = new ColoredMessage(ChatColor.GRAY, LanguageManager.messages.upToAbilityLevel);
@@ -35,12 +37,12 @@ public abstract class AbilityKit extends Kit {
     }
 
     public final void handleInteract(PlayerInteractEvent event, VDPlayer gamer, Arena arena) {
-        if (!abilityItem.isSimilar(event.getItem())) {
+        if (abilityID == null || !abilityID.equals(GameItemType.ABILITY.getPayload(event.getItem()))) {
             return;
         }
         // Check if player has cooldown decrease achievement and is boosted
         double coolDownMult = 1;
-        if (gamer.isBoosted() && PlayerDataManager.getPlayerAchievements(gamer.getID()).contains(Achievement.allMaxedAbility().getID())) {
+        if (gamer.isBoosted() && PlayerDataManager.hasPlayerAchievement(gamer.getID(), AchievementRegistry.get(AchievementRegistry.ALL_MAXED_ABILITY))) {
             coolDownMult = 0.9;
         }
 
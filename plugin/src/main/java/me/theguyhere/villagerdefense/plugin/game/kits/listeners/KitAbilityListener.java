@@ -4,6 +4,7 @@ import me.theguyhere.villagerdefense.common.Calculator;
 import me.theguyhere.villagerdefense.common.ColoredMessage;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.PlayerNotFoundException;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
@@ -13,6 +14,7 @@ import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundExcepti
 import me.theguyhere.villagerdefense.plugin.game.kits.AbilityKit;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitEffectType;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitVampire;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
@@ -62,7 +64,7 @@ public class KitAbilityListener implements Listener {
         ItemStack main = player.getInventory().getItemInMainHand();
 
         // Avoid accidental usage when holding food, shop, ranged weapons, potions, or care packages
-        if (GameItems.shop().equals(main) ||
+        if (GameItemType.SHOP.is(main) ||
                 GameItems.FOOD_MATERIALS.contains(main.getType()) ||
                 GameItems.ARMOR_MATERIALS.contains(main.getType()) ||
                 GameItems.CARE_MATERIALS.contains(main.getType()) ||
@@ -89,7 +91,7 @@ public class KitAbilityListener implements Listener {
         Entity damager = e.getDamager();
 
         // Check if damage was done by player to valid monsters
-        if (!ent.hasMetadata("VD_Monster") || !(damager instanceof Player)) {
+        if (!ArenaMobTag.isMonster(ent) || !(damager instanceof Player)) {
             return;
         }
 
@@ -133,7 +135,7 @@ public class KitAbilityListener implements Listener {
         Entity target = e.getTarget();
 
         // Check for arena mobs
-        if (!ent.hasMetadata("VD"))
+        if (!ArenaMobTag.has(ent))
             return;
 
         // Cancel for invisible players
@@ -162,7 +164,7 @@ public class KitAbilityListener implements Listener {
         Entity damager = e.getDamager();
 
         // Check for arena enemies
-        if (!ent.hasMetadata("VD_Monster"))
+        if (!ArenaMobTag.isMonster(ent))
             return;
 
         // Check for player or wolf dealing damage
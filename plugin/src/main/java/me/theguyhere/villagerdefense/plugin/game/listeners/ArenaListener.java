@@ -18,7 +18,7 @@ import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
 import me.theguyhere.villagerdefense.plugin.game.events.*;
 import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
 import me.theguyhere.villagerdefense.plugin.game.kits.events.EndNinjaNerfEvent;
-import me.theguyhere.villagerdefense.plugin.items.GameItems;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.structures.ArenaRecord;
 import me.theguyhere.villagerdefense.plugin.structures.ArenaSpawn;
 import me.theguyhere.villagerdefense.plugin.structures.ArenaSpawnType;
@@ -41,32 +41,6 @@ import java.util.stream.Collectors;
 
 @SuppressWarnings("CallToPrintStackTrace")
 public class ArenaListener implements Listener {
-    private final Map<String,EntityType> entityTypeAbbvs = new HashMap<>();
-    public ArenaListener() {
-        entityTypeAbbvs.put("zomb", EntityType.ZOMBIE);
-        entityTypeAbbvs.put("husk", EntityType.HUSK);
-        entityTypeAbbvs.put("wskl", EntityType.WITHER_SKELETON);
-        entityTypeAbbvs.put("brut", EntityType.PIGLIN_BRUTE);
-        entityTypeAbbvs.put("vind", EntityType.VINDICATOR);
-        entityTypeAbbvs.put("spid", EntityType.SPIDER);
-        entityTypeAbbvs.put("cspd", EntityType.CAVE_SPIDER);
-        entityTypeAbbvs.put("wtch", EntityType.WITCH);
-        entityTypeAbbvs.put("skel", EntityType.SKELETON);
-        entityTypeAbbvs.put("stry", EntityType.STRAY);
-        entityTypeAbbvs.put("drwd", EntityType.DROWNED);
-        entityTypeAbbvs.put("blze", EntityType.BLAZE);
-        entityTypeAbbvs.put("ghst", EntityType.GHAST);
-        entityTypeAbbvs.put("pill", EntityType.PILLAGER);
-        entityTypeAbbvs.put("slim", EntityType.SLIME);
-        entityTypeAbbvs.put("mslm", EntityType.MAGMA_CUBE);
-        entityTypeAbbvs.put("crpr", EntityType.CREEPER);
-        entityTypeAbbvs.put("phtm", EntityType.PHANTOM);
-        entityTypeAbbvs.put("evok", EntityType.EVOKER);
-        entityTypeAbbvs.put("hgln", EntityType.ZOGLIN);
-        entityTypeAbbvs.put("rvgr", EntityType.RAVAGER);
-
-    }
-
     @EventHandler
     public void onJoin(JoinArenaEvent e) {
         Player player = e.getPlayer();
@@ -137,7 +111,7 @@ public class ArenaListener implements Listener {
 
             // Update player tracking and in-game stats
             VDPlayer fighter = new VDPlayer(player, false);
-            arena.getPlayers().add(fighter);
+            arena.addPlayer(fighter);
             arena.refreshPortal();
 
             // Add forced challenges
@@ -147,6 +121,7 @@ public class ArenaListener implements Listener {
             GameManager.createBoard(fighter);
 
             // Clear arena
+            arena.getEntities().removeAll();
             WorldManager.clear(arena.getCorner1(), arena.getCorner2());
 
             // Play waiting music
@@ -177,7 +152,7 @@ public class ArenaListener implements Listener {
 
             // Update player tracking and in-game stats
             VDPlayer fighter = new VDPlayer(player, false);
-            arena.getPlayers().add(fighter);
+            arena.addPlayer(fighter);
             arena.refreshPortal();
 
             // Add forced challenges
@@ -203,7 +178,7 @@ public class ArenaListener implements Listener {
             arena.addPlayerToTimeLimitBar(player);
 
             // Update player tracking and in-game stats
-            arena.getPlayers().add(new VDPlayer(player, true));
+            arena.addPlayer(new VDPlayer(player, true));
             arena.refreshPortal();
 
             // Debug message to console
@@ -363,19 +338,18 @@ public class ArenaListener implements Listener {
                 Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, task.updateBar, 0,
                         Calculator.secondsToTicks(1)));
 
-        // Set arena as spawning
-        arena.setSpawningMonsters(true);
-        arena.setSpawningVillagers(true);
-
-        // Schedule and record calibration task
+        // Schedule and record calibration task, which only audits the entity counts kept as mobs come and go
         task.getTasks().put(task.calibrate, Bukkit.getScheduler().scheduleSyncRepeatingTask(Main.plugin, task.calibrate,
-                0, Calculator.secondsToTicks(1)));
+                Calculator.secondsToTicks(Arena.AUDIT_INTERVAL), Calculator.secondsToTicks(Arena.AUDIT_INTERVAL)));
 
         // Spawn mobs
         spawnVillagers(arena);
         spawnMonsters(arena);
         spawnBosses(arena);
 
+        // End right away if there was nothing to spawn
+        arena.checkProgress();
+
         // Debug message to console
         CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE, "%s started wave %s", arena.getName(),
                 Integer.toString(arena.getCurrentWave()));
@@ -414,7 +388,7 @@ public class ArenaListener implements Listener {
 
             if (arena.getCurrentWave() != 0 && arena.getStatus() == ArenaStatus.ACTIVE) {
                 for (ItemStack item : player.getInventory().getContents()) {
-                    if (item != null && !item.equals(GameItems.shop())) {
+                    if (item != null && !GameItemType.SHOP.is(item)) {
                         player.getWorld().dropItemNaturally(player.getLocation(), item);
                     }
                 }
@@ -422,14 +396,11 @@ public class ArenaListener implements Listener {
             }
 
             // Check for achievements
-            AchievementChecker.checkDefaultHighScoreAchievements(player);
+            AchievementChecker.checkChangedHighScoreAchievements(player);
             AchievementChecker.checkDefaultInstanceAchievements(gamer);
 
-            // Refresh leaderboards
-            GameManager.refreshLeaderboards();
-
             // Remove the player from the arena and time limit bar if exists
-            arena.getPlayers().remove(gamer);
+            arena.removePlayer(gamer);
             if (arena.getTimeLimitBar() != null)
                 arena.removePlayerFromTimeLimitBar(gamer.getPlayer());
 
@@ -510,7 +481,7 @@ public class ArenaListener implements Listener {
         // Spectating
         else {
             // Remove the player from the arena
-            arena.getPlayers().remove(gamer);
+            arena.removePlayer(gamer);
 
             // Sets them up for teleport to lobby
             PlayerManager.teleportIntoAdventure(player, GameManager.getLobby());
@@ -677,15 +648,10 @@ public class ArenaListener implements Listener {
 
         for (int i = 0; i < toSpawn; i++) {
             Location spawn = spawns.get(r.nextInt(spawns.size()));
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> Mobs.setVillager(arena,
+            SpawnScheduler.schedule(arena, SpawnScheduler.Kind.VILLAGER, delay, () -> Mobs.setVillager(arena,
                     (Villager) Objects.requireNonNull(spawn.getWorld()).spawnEntity(spawn, EntityType.VILLAGER)
-            ), delay);
+            ));
             delay += r.nextInt(spawnDelay(i));
-
-            // Manage spawning state
-            if (i + 1 >= toSpawn)
-                Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> arena.setSpawningVillagers(false), delay);
-            else Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> arena.setSpawningVillagers(true), delay);
         }
     }
 
@@ -702,18 +668,16 @@ public class ArenaListener implements Listener {
             countMultiplier = 1;
 
         int toSpawn;
-        List<String> typeRatio;
+        WeightedRandom<EntityType> types;
         try {
             toSpawn = spawnTable.getMonstersToSpawn(arena.getCurrentWave(), countMultiplier);
-            typeRatio = spawnTable.getMonsterTypes(arena.getCurrentWave());
+            types = spawnTable.getMonsterTypes(arena.getCurrentWave());
         }
         catch (NoSuchPathException e) {
             return;
         }
-        catch (BadDataException e) {
-            CommunicationManager.debugErrorShouldNotHappen();
+        if (types.isEmpty())
             return;
-        }
 
         // Split spawns by type
         List<Location> grounds = new ArrayList<>();
@@ -739,17 +703,7 @@ public class ArenaListener implements Listener {
             // Update delay
             delay += r.nextInt(spawnDelay(i));
 
-            String typename = typeRatio.get(r.nextInt(typeRatio.size()));
-            EntityType type = null;
-            try {
-                type = EntityType.valueOf(typename.toUpperCase());
-            } catch (IllegalArgumentException err) {
-                type = entityTypeAbbvs.get(typename);
-            }
-            if (type == null) {
-                Main.plugin.getLogger().warning("Failed to parse type: " + typename);
-                continue;
-            }
+            EntityType type = types.getRandom();
 
             BiConsumer<Arena, Entity> mob = null;
             boolean isAir = false;
@@ -853,11 +807,8 @@ public class ArenaListener implements Listener {
             BiConsumer<Arena, Entity> finalMob = mob;
             final Location loc = isAir ? airs.get(r.nextInt(airs.size())) : grounds.get(r.nextInt(grounds.size()));
             final EntityType finalType = type;
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> finalMob.accept(arena, loc.getWorld().spawnEntity(loc, finalType)), delay);
-
-            // Manage spawning state
-            boolean spawning = i + 1 < toSpawn;
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> arena.setSpawningMonsters(spawning), delay);
+            SpawnScheduler.schedule(arena, SpawnScheduler.Kind.MONSTER, delay,
+                    () -> finalMob.accept(arena, loc.getWorld().spawnEntity(loc, finalType)));
         }
     }
 
@@ -867,18 +818,16 @@ public class ArenaListener implements Listener {
         Random r = new Random();
         int delay = 0;
         int toSpawn;
-        List<String> typeRatio;
+        WeightedRandom<EntityType> types;
         try {
             toSpawn = spawnTable.getBossesToSpawn(arena.getCurrentWave());
-            typeRatio = spawnTable.getBossTypes(arena.getCurrentWave());
+            types = spawnTable.getBossTypes(arena.getCurrentWave());
         }
         catch (NoSuchPathException e) {
             return;
         }
-        catch (BadDataException e) {
-            CommunicationManager.debugErrorShouldNotHappen();
+        if (types.isEmpty())
             return;
-        }
         List<Location> spawns = arena.getMonsterSpawns().stream().map(ArenaSpawn::getLocation)
                 .collect(Collectors.toList());
 
@@ -889,18 +838,13 @@ public class ArenaListener implements Listener {
             // Update delay
             delay += r.nextInt(spawnDelay(i)) * 10;
 
-            switch (typeRatio.get(r.nextInt(typeRatio.size()))) {
-                case "w":
-                    Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> Mobs.setWither(arena,
+            switch (types.getRandom()) {
+                case WITHER:
+                    SpawnScheduler.schedule(arena, SpawnScheduler.Kind.MONSTER, delay, () -> Mobs.setWither(arena,
                             (Wither) Objects.requireNonNull(spawn.getWorld()).spawnEntity(spawn, EntityType.WITHER)
-                    ), delay);
+                    ));
                     break;
             }
-
-            // Manage spawning state
-            if (i + 1 >= toSpawn)
-                Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> arena.setSpawningMonsters(false), delay);
-            else Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () -> arena.setSpawningMonsters(true), delay);
         }
     }
 
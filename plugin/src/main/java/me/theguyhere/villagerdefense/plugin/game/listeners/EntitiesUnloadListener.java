@@ -0,0 +1,31 @@
+package me.theguyhere.villagerdefense.plugin.game.listeners;
+
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
+import me.theguyhere.villagerdefense.plugin.game.GameManager;
+import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+/**
+ * Kept apart from {@link GameListener} since the event only exists on 1.17+, and a missing event class would keep
+ * every handler of the listener from being registered.
+ */
+public class EntitiesUnloadListener implements Listener {
+    // Stop tracking arena mobs that get unloaded with their chunk
+    @EventHandler
+    public void onEntitiesUnload(EntitiesUnloadEvent e) {
+        for (Entity ent : e.getEntities()) {
+            ArenaMobTag tag = ArenaMobTag.get(ent);
+            if (tag == null)
+                continue;
+
+            ArenaMobTag.forget(ent);
+            try {
+                GameManager.getArena(tag.getArenaID()).getEntities().remove(ent);
+            } catch (ArenaNotFoundException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package me.theguyhere.villagerdefense.plugin.game.listeners;
+
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
+import me.theguyhere.villagerdefense.plugin.game.GameManager;
+import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityRemoveEvent;
+
+/**
+ * Kept apart from {@link GameListener} since the event only exists on 1.20.4+.
+ */
+public class EntityRemoveListener implements Listener {
+    // Stop tracking arena mobs removed from the world some other way
+    @EventHandler
+    public void onEntityRemove(EntityRemoveEvent e) {
+        Entity ent = e.getEntity();
+        ArenaMobTag tag = ArenaMobTag.get(ent);
+        if (tag == null)
+            return;
+
+        ArenaMobTag.forget(ent);
+        try {
+            GameManager.getArena(tag.getArenaID()).getEntities().remove(ent);
+        } catch (ArenaNotFoundException ignored) {
+        }
+    }
+}
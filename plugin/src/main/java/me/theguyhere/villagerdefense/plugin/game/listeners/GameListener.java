@@ -7,10 +7,12 @@ import me.theguyhere.villagerdefense.nms.common.NMSManager;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.NMSVersion;
+import me.theguyhere.villagerdefense.plugin.data.LeaderboardIndex;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
 import me.theguyhere.villagerdefense.plugin.data.listeners.PacketListenerImp;
+import me.theguyhere.villagerdefense.plugin.entities.ArenaMobTag;
 import me.theguyhere.villagerdefense.plugin.entities.Mobs;
 import me.theguyhere.villagerdefense.plugin.entities.PlayerNotFoundException;
 import me.theguyhere.villagerdefense.plugin.entities.VDPlayer;
@@ -18,7 +20,7 @@ import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.game.ArenaStatus;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
-import me.theguyhere.villagerdefense.plugin.game.achievements.Achievement;
+import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementRegistry;
 import me.theguyhere.villagerdefense.plugin.game.achievements.AchievementChecker;
 import me.theguyhere.villagerdefense.plugin.game.challenges.Challenge;
 import me.theguyhere.villagerdefense.plugin.game.events.GameEndEvent;
@@ -52,9 +54,7 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.*;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.projectiles.ProjectileSource;
-import org.bukkit.util.BoundingBox;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
@@ -92,7 +92,7 @@ public class GameListener implements Listener {
     private void giveGems(VDPlayer vdPlayer, double gems) {
         // Check if player has gem increase achievement and is boosted
         UUID uuid = vdPlayer.getID();
-        if (PlayerDataManager.getPlayerAchievements(uuid).contains(Achievement.topBalance9().getID()) &&
+        if (PlayerDataManager.hasPlayerAchievement(uuid, AchievementRegistry.get(AchievementRegistry.TOP_BALANCE_9)) &&
                 vdPlayer.isBoosted()) {
             gems *= 1.1;
         }
@@ -128,11 +128,12 @@ public class GameListener implements Listener {
     }
 
     private void updateHealthBar(Entity ent, double adjustment) {
-        if (!ent.hasMetadata("VD") || adjustment == 0) {
+        // Ignore players and other non-eligible entities before looking for arena mobs
+        if (adjustment == 0 || !(ent instanceof LivingEntity) || ent instanceof Player || ent instanceof Wolf ||
+                ent instanceof Wither) {
             return;
         }
-        // Ignore players and other non-eligible entities
-        if (!(ent instanceof LivingEntity) || ent instanceof Player || ent instanceof Wolf || ent instanceof Wither) {
+        if (!ArenaMobTag.has(ent)) {
             return;
         }
 
@@ -140,11 +141,15 @@ public class GameListener implements Listener {
         double maxHealth = Objects.requireNonNull(n.getAttribute(Attribute.MAX_HEALTH)).getValue();
         double modifiedHealth = n.getHealth() + adjustment;
 
-        // Update health bar
+        // Update health bar, only if it looks any different
+        String healthBar;
         if (ent instanceof IronGolem || ent instanceof Ravager) {
-            ent.setCustomName(Mobs.healthBar(maxHealth, Math.min(modifiedHealth, maxHealth), 10));
+            healthBar = Mobs.healthBar(maxHealth, Math.min(modifiedHealth, maxHealth), 10);
         } else {
-            ent.setCustomName(Mobs.healthBar(maxHealth, Math.min(modifiedHealth, maxHealth), 5));
+            healthBar = Mobs.healthBar(maxHealth, Math.min(modifiedHealth, maxHealth), 5);
+        }
+        if (!healthBar.equals(ent.getCustomName())) {
+            ent.setCustomName(healthBar);
         }
     }
 
@@ -154,7 +159,8 @@ public class GameListener implements Listener {
         LivingEntity ent = e.getEntity();
 
         // Check for arena mobs
-        if (!ent.hasMetadata("VD")) {
+        ArenaMobTag tag = ArenaMobTag.get(ent);
+        if (tag == null) {
             return;
         }
 
@@ -164,13 +170,14 @@ public class GameListener implements Listener {
 
         Arena arena;
         try {
-            arena = GameManager.getArena(ent.getMetadata("VD").get(0).asInt());
+            arena = GameManager.getArena(tag.getArenaID());
         } catch (ArenaNotFoundException err) {
             return;
         }
+        arena.getEntities().remove(ent);
 
         // Check for right game
-        if (!ent.hasMetadata("game") || ent.getMetadata("game").get(0).asInt() != arena.getGameID()) {
+        if (tag.getGameID() != arena.getGameID()) {
             return;
         }
 
@@ -186,15 +193,14 @@ public class GameListener implements Listener {
             }
             return;
         }
-        // Update iron golem count
+        // Drop iron from iron golems
         else if (ent instanceof IronGolem) {
-            arena.decrementGolems();
             e.getDrops().add(new ItemStack(Material.IRON_INGOT, ThreadLocalRandom.current().nextInt(3) + 3));
             return;
         }
 
         // Check for right wave
-        if (!ent.hasMetadata("wave") || ent.getMetadata("wave").get(0).asInt() != arena.getCurrentWave()) {
+        if (tag.getWave() != arena.getCurrentWave()) {
             return;
         }
 
@@ -360,7 +366,7 @@ public class GameListener implements Listener {
             item = Objects.requireNonNull(player.getEquipment()).getItemInOffHand();
 
             // Check for other clickables in main hand
-            if (GameItems.ABILITY_ITEMS.contains(item) ||
+            if (GameItemType.ABILITY.is(item) ||
                     GameItems.FOOD_MATERIALS.contains(item.getType()) ||
                     GameItems.ARMOR_MATERIALS.contains(item.getType()) ||
                     GameItems.CARE_MATERIALS.contains(item.getType()) ||
@@ -372,47 +378,54 @@ public class GameListener implements Listener {
             item = Objects.requireNonNull(player.getEquipment()).getItemInMainHand();
         }
 
-        // Open shop inventory
-        if (GameItemType.SHOP.is(item)) {
-            new ArenaShopMenu(arena).open(player);
+        // Classify the item once, ignoring items that aren't plugin items
+        GameItemType type = GameItemType.of(item);
+        if (type == null) {
+            return;
         }
 
-        // Open kit selection menu
-        else if (GameItemType.KIT_SELECTOR.is(item)) {
-            new SelectKitsMenu(arena, player).open(player);
-        }
+        switch (type) {
+            // Open shop inventory
+            case SHOP:
+                new ArenaShopMenu(arena).open(player);
+                break;
 
-        // Open challenge selection menu
-        else if (GameItemType.CHALLENGE_SELECTOR.is(item)) {
-            new SelectChallengesMenu(arena, gamer).open(player);
-        }
+            // Open kit selection menu
+            case KIT_SELECTOR:
+                new SelectKitsMenu(arena, player).open(player);
+                break;
 
-        // Toggle boost
-        else if (GameItemType.BOOST_TOGGLE.is(item)) {
-            gamer.toggleBoost();
-            PlayerManager.giveChoiceItems(gamer);
-        }
+            // Open challenge selection menu
+            case CHALLENGE_SELECTOR:
+                new SelectChallengesMenu(arena, gamer).open(player);
+                break;
 
-        // Toggle share
-        else if (GameItemType.SHARE_TOGGLE.is(item)) {
-            gamer.toggleShare();
-            PlayerManager.giveChoiceItems(gamer);
-        }
+            // Toggle boost
+            case BOOST_TOGGLE:
+                gamer.toggleBoost();
+                PlayerManager.giveChoiceItems(gamer);
+                break;
 
-        // Open crystal convert menu
-        else if (GameItemType.CRYSTAL_CONVERTER.is(item)) {
-            new CrystalConvertMenu(gamer).open(player);
-        }
+            // Toggle share
+            case SHARE_TOGGLE:
+                gamer.toggleShare();
+                PlayerManager.giveChoiceItems(gamer);
+                break;
 
-        // Make player leave
-        else if (GameItemType.LEAVE.is(item)) {
-            Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
-                    Bukkit.getPluginManager().callEvent(new LeaveArenaEvent(player)));
-        }
+            // Open crystal convert menu
+            case CRYSTAL_CONVERTER:
+                new CrystalConvertMenu(gamer).open(player);
+                break;
 
-        // Ignore
-        else {
-            return;
+            // Make player leave
+            case LEAVE:
+                Bukkit.getScheduler().scheduleSyncDelayedTask(Main.plugin, () ->
+                        Bukkit.getPluginManager().callEvent(new LeaveArenaEvent(player)));
+                break;
+
+            // Ignore
+            default:
+                return;
         }
 
         // Cancel interaction
@@ -432,17 +445,17 @@ public class GameListener implements Listener {
         }
 
         // Check for special mobs
-        if (!ent.hasMetadata("VD") && !(ent instanceof Player)) {
+        if (!ArenaMobTag.has(ent) && !(ent instanceof Player)) {
             return;
         }
 
         // Cancel damage to allies
-        if (ent.hasMetadata("VD_Ally") && damager instanceof Player) {
+        if (ArenaMobTag.isAlly(ent) && damager instanceof Player) {
             e.setCancelled(true);
         }
 
         // Cancel monster friendly fire damage
-        else if (ent.hasMetadata("VD_Monster") && damager.hasMetadata("VD_Monster")) {
+        else if (ArenaMobTag.isMonster(ent) && ArenaMobTag.isMonster(damager)) {
             e.setCancelled(true);
         }
     }
@@ -619,7 +632,7 @@ public class GameListener implements Listener {
         // Check if player has resurrection achievement and is boosted
         Random random = new Random();
         if (gamer.isBoosted() && random.nextDouble() < .1 &&
-                PlayerDataManager.getPlayerAchievements(player.getUniqueId()).contains(Achievement.allChallenges().getID())) {
+                PlayerDataManager.hasPlayerAchievement(player.getUniqueId(), AchievementRegistry.get(AchievementRegistry.ALL_CHALLENGES))) {
             PlayerManager.giveTotemEffect(player);
             return;
         }
@@ -634,7 +647,7 @@ public class GameListener implements Listener {
         }
         // Drop items
         player.getInventory().forEach(itemStack -> {
-            if (itemStack != null && !itemStack.equals(GameItems.shop())) {
+            if (itemStack != null && !GameItemType.SHOP.is(itemStack)) {
                 Item item = player.getWorld().dropItemNaturally(player.getLocation(), itemStack);
                 if (explosive) item.setVelocity(item.getVelocity().multiply(5));
             }
@@ -678,7 +691,7 @@ public class GameListener implements Listener {
     @EventHandler
     public void onWitherRose(EntityBlockFormEvent e) {
         // Check damage was done to monster
-        if (!e.getEntity().hasMetadata("VD")) {
+        if (!ArenaMobTag.has(e.getEntity())) {
             return;
         }
 
@@ -691,7 +704,7 @@ public class GameListener implements Listener {
     // Stops slimes and magma cubes from splitting on death
     @EventHandler
     public void onSplit(SlimeSplitEvent e) {
-        if (e.getEntity().hasMetadata("VD")) {
+        if (ArenaMobTag.has(e.getEntity())) {
             e.setCancelled(true);
         }
     }
@@ -701,7 +714,7 @@ public class GameListener implements Listener {
     public void onTrade(PlayerInteractEntityEvent e) {
         Entity ent = e.getRightClicked();
         // Check for arena mobs
-        if (ent instanceof Villager && ent.hasMetadata("VD")) {
+        if (ent instanceof Villager && ArenaMobTag.has(ent)) {
             e.setCancelled(true);
         }
     }
@@ -740,13 +753,13 @@ public class GameListener implements Listener {
         }
 
         // Avoid false consume
-        if (main.equals(GameItems.shop()) ||
-                GameItems.ABILITY_ITEMS.contains(main) ||
+        GameItemType mainType = GameItemType.of(main);
+        if (mainType == GameItemType.SHOP || mainType == GameItemType.ABILITY ||
                 GameItems.FOOD_MATERIALS.contains(main.getType()) ||
                 GameItems.ARMOR_MATERIALS.contains(main.getType()) ||
                 GameItems.CLICKABLE_WEAPON_MATERIALS.contains(main.getType()) ||
                 (GameItems.CLICKABLE_CONSUME_MATERIALS.contains(main.getType()) &&
-                        main.getType() != GameItems.wolf().getType() && main.getType() != GameItems.golem().getType())) {
+                        main.getType() != Material.WOLF_SPAWN_EGG && main.getType() != Material.GHAST_SPAWN_EGG)) {
             return;
         }
 
@@ -1032,7 +1045,7 @@ public class GameListener implements Listener {
     // Prevent wolves from targeting villagers or players
     @EventHandler
     public void onTarget(EntityTargetLivingEntityEvent e) {
-        if (!(e.getEntity() instanceof Wolf) || !e.getEntity().hasMetadata("VD")) {
+        if (!(e.getEntity() instanceof Wolf) || !ArenaMobTag.has(e.getEntity())) {
             return;
         }
         if (e.getTarget() instanceof Villager || e.getTarget() instanceof Player) {
@@ -1051,7 +1064,7 @@ public class GameListener implements Listener {
         }
 
         // Check for special mob
-        if (!ent.hasMetadata("VD")) {
+        if (!ArenaMobTag.has(ent)) {
             return;
         }
 
@@ -1082,9 +1095,7 @@ public class GameListener implements Listener {
         }
 
         // Cancel teleport and notify if teleport is outside arena bounds
-        if (!(BoundingBox.of(arena.getCorner1(), arena.getCorner2())
-                .contains(Objects.requireNonNull(e.getTo()).getX(), e.getTo().getY(), e.getTo().getZ())) ||
-                !Objects.equals(e.getTo().getWorld(), arena.getCorner1().getWorld())) {
+        if (!arena.isInBounds(e.getTo())) {
             e.setCancelled(true);
             PlayerManager.notifyFailure(player, LanguageManager.errors.teleport,
                     new ColoredMessage(ChatColor.AQUA, "/vd leave"));
@@ -1122,9 +1133,7 @@ public class GameListener implements Listener {
         }
 
         // Cancel move and notify if movement is outside arena bounds
-        if (!(BoundingBox.of(arena.getCorner1(), arena.getCorner2())
-                .contains(Objects.requireNonNull(e.getTo()).getX(), e.getTo().getY(), e.getTo().getZ())) ||
-                !Objects.equals(e.getTo().getWorld(), arena.getCorner1().getWorld())) {
+        if (!arena.isInBounds(e.getTo())) {
 
             // Teleport player back into arena after several infractions
             if (gamer.incrementInfractions() > 5) {
@@ -1146,11 +1155,17 @@ public class GameListener implements Listener {
         }
     }
 
+    // Let go of the tags of arena mobs once every other handler is done with their death
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTaggedDeath(EntityDeathEvent e) {
+        ArenaMobTag.forget(e.getEntity());
+    }
+
     // Prevents arena mobs from turning into different entities
     @EventHandler
     public void onTransform(EntityTransformEvent e) {
         // Check for special mob
-        if (e.getEntity().hasMetadata("VD")) {
+        if (ArenaMobTag.has(e.getEntity())) {
             e.setCancelled(true);
         }
     }
@@ -1158,7 +1173,7 @@ public class GameListener implements Listener {
     // Prevent zombies from breaking doors
     @EventHandler
     public void onBreakDoor(EntityBreakDoorEvent e) {
-        if (!e.getEntity().hasMetadata("VD")) {
+        if (!ArenaMobTag.has(e.getEntity())) {
             e.setCancelled(true);
         }
     }
@@ -1175,8 +1190,9 @@ public class GameListener implements Listener {
         }
 
         // Check for standard game items item
-        if (GameItemType.SHOP.is(item) || GameItemType.KIT_SELECTOR.is(item) || GameItemType.LEAVE.is(item)
-                || GameItemType.CHALLENGE_SELECTOR.is(item)) {
+        GameItemType type = GameItemType.of(item);
+        if (type == GameItemType.SHOP || type == GameItemType.KIT_SELECTOR || type == GameItemType.LEAVE
+                || type == GameItemType.CHALLENGE_SELECTOR) {
             e.setCancelled(true);
         }
     }
@@ -1222,8 +1238,8 @@ public class GameListener implements Listener {
         }
 
         // Avoid false consume
-        if (main.equals(GameItems.shop()) ||
-                GameItems.ABILITY_ITEMS.contains(main) ||
+        GameItemType mainType = GameItemType.of(main);
+        if (mainType == GameItemType.SHOP || mainType == GameItemType.ABILITY ||
                 GameItems.FOOD_MATERIALS.contains(main.getType()) ||
                 GameItems.ARMOR_MATERIALS.contains(main.getType()) ||
                 GameItems.CARE_MATERIALS.contains(main.getType()) ||
@@ -1258,7 +1274,7 @@ public class GameListener implements Listener {
         Player player = (Player) e.getWhoClicked();
         ItemStack clickedOn = e.getCurrentItem();
         ItemStack clickedWith = e.getCursor();
-        EnchantingBook enchantingBook = EnchantingBook.check(clickedWith);
+        Enchantment enchant = EnchantingBook.getEnchant(clickedWith);
 
         // Check for player in arena
         if (!GameManager.checkPlayer(player)) {
@@ -1276,12 +1292,13 @@ public class GameListener implements Listener {
         }
 
         // Ignore clicks on shop or other books
-        if (EnchantingBook.check(clickedOn) != null || GameItems.shop().equals(clickedOn)) {
+        GameItemType clickedOnType = GameItemType.of(clickedOn);
+        if (clickedOnType == GameItemType.ENCHANTING_BOOK || clickedOnType == GameItemType.SHOP) {
             return;
         }
 
         // Check for enchanting book
-        if (enchantingBook == null) {
+        if (enchant == null) {
             return;
         }
 
@@ -1290,18 +1307,17 @@ public class GameListener implements Listener {
 
         // Attempt to add enchant and remove book
         Map<Enchantment, Integer> enchantList = Objects.requireNonNull(clickedOn.getItemMeta()).getEnchants();
-        if (enchantList.containsKey(enchantingBook.getEnchantToAdd())) {
-            if (enchantingBook.getEnchantToAdd() == Enchantment.FLAME ||
-                    enchantingBook.getEnchantToAdd() == Enchantment.MULTISHOT ||
-                    enchantingBook.getEnchantToAdd() == Enchantment.INFINITY ||
-                    enchantingBook.getEnchantToAdd() == Enchantment.MENDING) {
+        if (enchantList.containsKey(enchant)) {
+            if (enchant == Enchantment.FLAME ||
+                    enchant == Enchantment.MULTISHOT ||
+                    enchant == Enchantment.INFINITY ||
+                    enchant == Enchantment.MENDING) {
                 PlayerManager.notifyFailure(player, LanguageManager.errors.enchant);
                 return;
             }
-            clickedOn.addUnsafeEnchantment(enchantingBook.getEnchantToAdd(),
-                    enchantList.get(enchantingBook.getEnchantToAdd()) + 1);
+            clickedOn.addUnsafeEnchantment(enchant, enchantList.get(enchant) + 1);
         } else {
-            clickedOn.addUnsafeEnchantment(enchantingBook.getEnchantToAdd(), 1);
+            clickedOn.addUnsafeEnchantment(enchant, 1);
         }
         player.setItemOnCursor(new ItemStack(Material.AIR));
         PlayerManager.notifySuccess(player, LanguageManager.confirms.enchant);
@@ -1332,6 +1348,15 @@ public class GameListener implements Listener {
         GameManager.displayEverything(player);
         nmsManager.injectPacketListener(player, new PacketListenerImp());
 
+        // Hold player data in memory while they're online, and check achievements once it's there
+        PlayerDataManager.loadProfile(player.getUniqueId(), () -> {
+            if (!player.isOnline())
+                return;
+            AchievementChecker.checkDefaultHighScoreAchievements(player);
+            AchievementChecker.checkDefaultKitAchievements(player);
+        });
+        LeaderboardIndex.updateName(player);
+
         // Get list of loggers from data file
         List<UUID> loggers = PlayerDataManager.getLoggers();
 
@@ -1369,9 +1394,6 @@ public class GameListener implements Listener {
             PlayerManager.notifyFailure(player, LanguageManager.errors.outdated,
                     new ColoredMessage(ChatColor.AQUA, "/vd fix"));
         }
-
-        AchievementChecker.checkDefaultHighScoreAchievements(player);
-        AchievementChecker.checkDefaultKitAchievements(player);
     }
 
     @EventHandler
@@ -1392,6 +1414,9 @@ public class GameListener implements Listener {
             CommunicationManager.debugInfo(CommunicationManager.DebugLevel.VERBOSE, "%s logged out mid-game.", player.getName());
             PlayerDataManager.setLoggers(loggers);
         }
+
+        // Let go of player data once they've been gone a while
+        PlayerDataManager.scheduleEviction(player.getUniqueId());
     }
 
     @EventHandler
@@ -1401,8 +1426,10 @@ public class GameListener implements Listener {
             return;
         }
         for (Arena arena : GameManager.getArenas().values()) {
-            if (arena.getBounds().contains(e.getLocation().toVector())) {
-                e.getEntity().setMetadata("VD", new FixedMetadataValue(Main.plugin, arena.getId()));
+            if (arena.isInBounds(e.getLocation())) {
+                ArenaMobTag.tag(e.getEntity(), arena.getId(), ArenaMobTag.NONE, ArenaMobTag.NONE,
+                        ArenaMobTag.Role.OTHER);
+                arena.getEntities().addOther(e.getEntity());
                 break;
             }
         }
@@ -1,217 +1,90 @@
 package me.theguyhere.villagerdefense.plugin.items;
 
-import lombok.Getter;
 import me.theguyhere.villagerdefense.common.ColoredMessage;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Objects;
-
-@Getter
-public class EnchantingBook extends ItemStack {
-    private final Enchantment enchantToAdd;
-
-    public EnchantingBook(ItemStack itemStack, Enchantment enchantToAdd) {
-        super(itemStack);
-        this.enchantToAdd = enchantToAdd;
-    }
-
-    public static EnchantingBook check(ItemStack itemStack) {
-        if (itemStack == null || itemStack.getType() != Material.ENCHANTED_BOOK)
-            return null;
-
-        String enchant;
-
-        // Gather enchant from name
-        try {
-            enchant = Objects.requireNonNull(itemStack.getItemMeta()).getDisplayName().split(" ")[2];
-        } catch (Exception e) {
-            return null;
-        }
-
-        // Assign to known enchanting books
-        switch (enchant) {
-            case "Knockback": return new EnchantingBook(knockback(), Enchantment.KNOCKBACK);
-            case "Sweeping": return new EnchantingBook(sweepingEdge(), Enchantment.SWEEPING_EDGE);
-            case "Smite": return new EnchantingBook(smite(), Enchantment.SMITE);
-            case "Sharpness": return new EnchantingBook(sharpness(), Enchantment.SHARPNESS);
-            case "Fire": return new EnchantingBook(fireAspect(), Enchantment.FIRE_ASPECT);
-            case "Punch": return new EnchantingBook(punch(), Enchantment.PUNCH);
-            case "Piercing": return new EnchantingBook(piercing(), Enchantment.PIERCING);
-            case "Quick": return new EnchantingBook(quickCharge(), Enchantment.QUICK_CHARGE);
-            case "Power": return new EnchantingBook(power(), Enchantment.POWER);
-            case "Loyalty": return new EnchantingBook(loyalty(), Enchantment.LOYALTY);
-            case "Flame": return new EnchantingBook(flame(), Enchantment.FLAME);
-            case "Multishot": return new EnchantingBook(multishot(), Enchantment.MULTISHOT);
-            case "Infinity": return new EnchantingBook(infinity(), Enchantment.INFINITY);
-            case "Blast": return new EnchantingBook(blastProtection(), Enchantment.BLAST_PROTECTION);
-            case "Thorns": return new EnchantingBook(thorns(), Enchantment.THORNS);
-            case "Projectile": return new EnchantingBook(projectileProtection(), Enchantment.PROJECTILE_PROTECTION);
-            case "Protection": return new EnchantingBook(protection(), Enchantment.PROTECTION);
-            case "Unbreaking": return new EnchantingBook(unbreaking(), Enchantment.UNBREAKING);
-            case "Mending": return new EnchantingBook(mending(), Enchantment.MENDING);
-            default: return null;
-        }
+public class EnchantingBook {
+    /**
+     * Retrieves the enchantment an enchanting book adds.
+     * @param itemStack Item to check
+     * @return The enchantment, or null if the item isn't an enchanting book
+     */
+    public static Enchantment getEnchant(ItemStack itemStack) {
+        String key = GameItemType.ENCHANTING_BOOK.getPayload(itemStack);
+        return key == null ? null : Registry.ENCHANTMENT.get(NamespacedKey.minecraft(key));
     }
 
     public static ItemStack knockback() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.knockback)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(), 
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.knockback, Enchantment.KNOCKBACK);
     }
     public static ItemStack sweepingEdge() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.sweepingEdge)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.sweepingEdge, Enchantment.SWEEPING_EDGE);
     }
     public static ItemStack smite() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.smite)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.smite, Enchantment.SMITE);
     }
     public static ItemStack sharpness() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.sharpness)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.sharpness, Enchantment.SHARPNESS);
     }
     public static ItemStack fireAspect() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.fireAspect)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.fireAspect, Enchantment.FIRE_ASPECT);
     }
     public static ItemStack punch() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.punch)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.punch, Enchantment.PUNCH);
     }
     public static ItemStack piercing() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.piercing)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.piercing, Enchantment.PIERCING);
     }
     public static ItemStack quickCharge() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.quickCharge)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.quickCharge, Enchantment.QUICK_CHARGE);
     }
     public static ItemStack power() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.power)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.power, Enchantment.POWER);
     }
     public static ItemStack loyalty() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.loyalty)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.loyalty, Enchantment.LOYALTY);
     }
     public static ItemStack flame() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.flame)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_PURPLE, LanguageManager.messages.caution).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.flame, Enchantment.FLAME);
     }
     public static ItemStack multishot() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.multishot)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_PURPLE, LanguageManager.messages.caution).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.multishot, Enchantment.MULTISHOT);
     }
     public static ItemStack infinity() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.infinity)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_PURPLE, LanguageManager.messages.caution).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.infinity, Enchantment.INFINITY);
     }
     public static ItemStack blastProtection() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.blastProtection)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.blastProtection, Enchantment.BLAST_PROTECTION);
     }
     public static ItemStack thorns() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.thorns)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.thorns, Enchantment.THORNS);
     }
     public static ItemStack projectileProtection() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.projectileProtection)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.projectileProtection, Enchantment.PROJECTILE_PROTECTION);
     }
     public static ItemStack protection() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.protection)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.protection, Enchantment.PROTECTION);
     }
     public static ItemStack unbreaking() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.unbreaking)),
-                ItemManager.BUTTON_FLAGS, ItemManager.glow(),
-                new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return create(LanguageManager.enchants.unbreaking, Enchantment.UNBREAKING);
     }
     public static ItemStack mending() {
-        return ItemManager.createItem(Material.ENCHANTED_BOOK,
-                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook,
-                        LanguageManager.enchants.mending)),
+        return create(LanguageManager.enchants.mending, Enchantment.MENDING);
+    }
+
+    private static ItemStack create(String enchantName, Enchantment enchant) {
+        ItemStack item = ItemManager.createItem(Material.ENCHANTED_BOOK,
+                CommunicationManager.format("&a&l" + String.format(LanguageManager.names.enchantBook, enchantName)),
                 ItemManager.BUTTON_FLAGS, ItemManager.glow(),
                 new ColoredMessage(LanguageManager.messages.enchantInstruction).toString(),
-                new ColoredMessage(ChatColor.DARK_PURPLE, LanguageManager.messages.caution).toString(),
                 new ColoredMessage(ChatColor.DARK_RED, LanguageManager.messages.warning).toString());
+        return GameItemType.ENCHANTING_BOOK.apply(item, enchant.getKey().getKey());
     }
 }
@@ -5,8 +5,14 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+/**
+ * Identifies plugin items by a compact type ID stored on the item, so handlers can tell items apart with a single
+ * lookup instead of building and comparing whole items. Items can also carry a price and a payload, such as the
+ * enchantment of an enchanting book. New types must be added at the end, since the ID is based on the order.
+ */
 public enum GameItemType {
     SHOP,
     KIT_SELECTOR,
@@ -15,30 +21,120 @@ public enum GameItemType {
     SHARE_TOGGLE,
     CRYSTAL_CONVERTER,
     LEAVE,
+    /** Items that activate the ability of a kit. The payload is the ID of the ability.*/
+    ABILITY,
+    /** Books that enchant the item they are used on. The payload is the key of the enchantment.*/
+    ENCHANTING_BOOK,
     ;
-    private final NamespacedKey tag;
+    private static final NamespacedKey TYPE = new NamespacedKey(Main.plugin, "itemType");
+    private static final NamespacedKey PRICE = new NamespacedKey(Main.plugin, "price");
+    private static final NamespacedKey PAYLOAD = new NamespacedKey(Main.plugin, "payload");
+    private static final GameItemType[] TYPES = values();
+
+    /** Value of a missing price.*/
+    public static final int NO_PRICE = -1;
+
+    /** Compact ID stored on items of this type.*/
+    private final byte id;
     private GameItemType() {
-        tag = new NamespacedKey(Main.plugin, name());
+        id = (byte) (ordinal() + 1);
     }
 
-    public NamespacedKey getTag() {
-        return tag;
+    public ItemStack apply(ItemStack itemStack) {
+        return apply(itemStack, null);
     }
 
-    public ItemStack apply(ItemStack itemStack) {
+    /**
+     * Marks an item as being of this type.
+     * @param itemStack Item to mark
+     * @param payload Extra data to store on the item, or null
+     * @return The marked item, or air if the item can't hold data
+     */
+    public ItemStack apply(ItemStack itemStack, String payload) {
         if (itemStack == null || !itemStack.hasItemMeta()) {
             return new ItemStack(Material.AIR);
         }
         ItemMeta meta = itemStack.getItemMeta();
-        meta.getPersistentDataContainer().set(tag, PersistentDataType.BYTE, (byte)1);
+        PersistentDataContainer data = meta.getPersistentDataContainer();
+        data.set(TYPE, PersistentDataType.BYTE, id);
+        if (payload != null)
+            data.set(PAYLOAD, PersistentDataType.STRING, payload);
         itemStack.setItemMeta(meta);
         return itemStack;
     }
 
     public boolean is(ItemStack itemStack) {
+        return of(itemStack) == this;
+    }
+
+    /**
+     * Retrieves the payload of an item of this type.
+     * @param itemStack Item to check
+     * @return The payload, or null if the item isn't of this type or has no payload
+     */
+    public String getPayload(ItemStack itemStack) {
+        PersistentDataContainer data = getData(itemStack);
+        if (data == null || of(data) != this)
+            return null;
+        return data.get(PAYLOAD, PersistentDataType.STRING);
+    }
+
+    /**
+     * Classifies an item.
+     * @param itemStack Item to check
+     * @return The type of the item, or null if it isn't a plugin item
+     */
+    public static GameItemType of(ItemStack itemStack) {
+        PersistentDataContainer data = getData(itemStack);
+        return data == null ? null : of(data);
+    }
+
+    /**
+     * Stores the price of an item on it.
+     * @param itemStack Item to price
+     * @param price Price in gems
+     * @return The priced item
+     */
+    public static ItemStack setPrice(ItemStack itemStack, int price) {
+        if (itemStack == null || !itemStack.hasItemMeta()) {
+            return itemStack;
+        }
+        ItemMeta meta = itemStack.getItemMeta();
+        meta.getPersistentDataContainer().set(PRICE, PersistentDataType.INTEGER, price);
+        itemStack.setItemMeta(meta);
+        return itemStack;
+    }
+
+    /**
+     * Retrieves the price stored on an item.
+     * @param itemStack Item to check
+     * @return The price in gems, or {@link #NO_PRICE} if the item has none
+     */
+    public static int getPrice(ItemStack itemStack) {
+        PersistentDataContainer data = getData(itemStack);
+        Integer price = data == null ? null : data.get(PRICE, PersistentDataType.INTEGER);
+        return price == null ? NO_PRICE : price;
+    }
+
+    /**
+     * Removes the price stored on an item, so it stacks with unpriced copies.
+     * @param meta Meta of the item
+     */
+    public static void removePrice(ItemMeta meta) {
+        meta.getPersistentDataContainer().remove(PRICE);
+    }
+
+    private static GameItemType of(PersistentDataContainer data) {
+        Byte id = data.get(TYPE, PersistentDataType.BYTE);
+        if (id == null || id < 1 || id > TYPES.length)
+            return null;
+        return TYPES[id - 1];
+    }
+
+    private static PersistentDataContainer getData(ItemStack itemStack) {
         if (itemStack == null || !itemStack.hasItemMeta()) {
-            return false;
+            return null;
         }
-        return itemStack.getItemMeta().getPersistentDataContainer().has(tag, PersistentDataType.BYTE);
+        return itemStack.getItemMeta().getPersistentDataContainer();
     }
 }
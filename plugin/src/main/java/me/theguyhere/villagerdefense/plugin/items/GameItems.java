@@ -20,7 +20,6 @@ import java.util.concurrent.ThreadLocalRandom;
 
 @SuppressWarnings("SpellCheckingInspection")
 public class GameItems {
-	private static final boolean[] FLAGS = {false, false};
 
     private static <T> Set<T> makeSet(T... args) {
         Set<T> set = new HashSet<>();
@@ -31,7 +30,6 @@ public class GameItems {
     }
 
 	// Categories of items
-	public static final Set<ItemStack> ABILITY_ITEMS;
 	public static final Set<Material> FOOD_MATERIALS;
 	public static final Set<Material> HELMET_MATERIALS;
 	public static final Set<Material> CHESTPLATE_MATERIALS;
@@ -44,7 +42,6 @@ public class GameItems {
 
 	static {
 		// Initialize constant arrays
-		ABILITY_ITEMS = makeSet(mage(), ninja(), templar(), warrior(), knight(), priest(), siren(), monk(), messenger());
 		FOOD_MATERIALS = makeSet(Material.BEETROOT, Material.CARROT, Material.BREAD,
 				Material.MUTTON, Material.COOKED_BEEF, Material.GOLDEN_CARROT, Material.GOLDEN_APPLE,
 				Material.ENCHANTED_GOLDEN_APPLE);
@@ -165,6 +162,9 @@ public class GameItems {
 
 	// Weapons
 	public static @NotNull ItemStack sword(int level) {
+		return rollSword(level).create();
+	}
+	public static @NotNull ShopEntry rollSword(int level) {
 		Material mat = Randomizers.SWORD.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.MELEE_UNBREAKING, level);
@@ -174,15 +174,12 @@ public class GameItems {
         addEnchant(enchantments, Enchantment.SHARPNESS, Randomizers.SHARPNESS, level);
         addEnchant(enchantments, Enchantment.FIRE_ASPECT, Randomizers.FIRE_ASPECT, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack axe(int level) {
+		return rollAxe(level).create();
+	}
+	public static @NotNull ShopEntry rollAxe(int level) {
 		Material mat = Randomizers.AXE.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.MELEE_UNBREAKING, level);
@@ -190,15 +187,12 @@ public class GameItems {
         addEnchant(enchantments, Enchantment.SHARPNESS, Randomizers.POWER, level);
         addEnchant(enchantments, Enchantment.FIRE_ASPECT, Randomizers.FIRE_ASPECT, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack bow(int level) {
+		return rollBow(level).create();
+	}
+	public static @NotNull ShopEntry rollBow(int level) {
         Material mat = Material.BOW;
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
@@ -207,15 +201,12 @@ public class GameItems {
         addEnchant(enchantments, Enchantment.FLAME, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
         addEnchant(enchantments, Enchantment.INFINITY, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.BOW_MENDING, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack crossbow(int level) {
+		return rollCrossbow(level).create();
+	}
+	public static @NotNull ShopEntry rollCrossbow(int level) {
 		Material mat = Material.CROSSBOW;
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
@@ -223,15 +214,12 @@ public class GameItems {
         addEnchant(enchantments, Enchantment.PIERCING, Randomizers.POWER, level);
         addEnchant(enchantments, Enchantment.MULTISHOT, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.BOW_MENDING, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack trident(int level) {
+		return rollTrident(level).create();
+	}
+	public static @NotNull ShopEntry rollTrident(int level) {
 		Material mat = Material.TRIDENT;
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
@@ -241,26 +229,17 @@ public class GameItems {
         addEnchant(enchantments, Enchantment.SHARPNESS, Randomizers.SHARPNESS, level);
         addEnchant(enchantments, Enchantment.FIRE_ASPECT, Randomizers.FIRE_ASPECT, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack shield(int level) {
+		return rollShield(level).create();
+	}
+	public static @NotNull ShopEntry rollShield(int level) {
 		Material mat = Material.SHIELD;
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.SHIELD_UNBREAKING, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 
 	// Ammo
@@ -366,64 +345,52 @@ public class GameItems {
 
 	// Armor
 	public static @NotNull ItemStack helmet(int level) {
+		return rollHelmet(level).create();
+	}
+	public static @NotNull ShopEntry rollHelmet(int level) {
 		Material mat = Randomizers.HELMET.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
         addEnchant(enchantments, Enchantment.THORNS, Randomizers.THORNS, level);
         addProtection(enchantments, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack chestplate(int level) {
+		return rollChestplate(level).create();
+	}
+	public static @NotNull ShopEntry rollChestplate(int level) {
 		Material mat = Randomizers.CHESTPLATE.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
         addEnchant(enchantments, Enchantment.THORNS, Randomizers.THORNS, level);
         addProtection(enchantments, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack leggings(int level) {
+		return rollLeggings(level).create();
+	}
+	public static @NotNull ShopEntry rollLeggings(int level) {
 		Material mat = Randomizers.LEGGINGS.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
         addEnchant(enchantments, Enchantment.THORNS, Randomizers.THORNS, level);
         addProtection(enchantments, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 	public static @NotNull ItemStack boots(int level) {
+		return rollBoots(level).create();
+	}
+	public static @NotNull ShopEntry rollBoots(int level) {
 		Material mat = Randomizers.BOOTS.getRandom(level);
 		Map<Enchantment, Integer> enchantments = new HashMap<>();
         addEnchant(enchantments, Enchantment.UNBREAKING, Randomizers.UNBREAKING, level);
         addEnchant(enchantments, Enchantment.THORNS, Randomizers.THORNS, level);
         addProtection(enchantments, level);
         addEnchant(enchantments, Enchantment.MENDING, Randomizers.ENCHANTMENT_MAX_LEVEL_1, level);
-		int price = Costs.getTotalCost(mat, enchantments);
-
-		ItemStack item = ItemManager.createItem(mat, null, FLAGS, enchantments,
-				CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-						price));
-
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return ShopEntry.rolled(mat, enchantments);
 	}
 
 	// Consumables
@@ -630,7 +597,7 @@ public class GameItems {
 				enchants,
 				new ColoredMessage(LanguageManager.messages.rightClick).toString());
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "mage");
 	}
 	public static @NotNull ItemStack ninja() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -647,7 +614,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "ninja");
 	}
 	public static @NotNull ItemStack templar() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -664,7 +631,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "templar");
 	}
 	public static @NotNull ItemStack warrior() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -681,7 +648,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "warrior");
 	}
 	public static @NotNull ItemStack knight() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -698,7 +665,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "knight");
 	}
 	public static @NotNull ItemStack priest() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -715,7 +682,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "priest");
 	}
 	public static @NotNull ItemStack siren() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -732,7 +699,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "siren");
 	}
 	public static @NotNull ItemStack monk() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -749,7 +716,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "monk");
 	}
 	public static @NotNull ItemStack messenger() {
 		Map<Enchantment, Integer> enchants = new HashMap<>();
@@ -766,7 +733,7 @@ public class GameItems {
 				new ColoredMessage(LanguageManager.messages.rightClick).toString()
 		);
 
-		return item == null ? new ItemStack(Material.AIR) : item;
+		return GameItemType.ABILITY.apply(item, "messenger");
 	}
 
     public static final LevelledWeightedRandom<ItemStack> WEAPON = new LevelledWeightedRandom.Builder<ItemStack>()
@@ -787,22 +754,28 @@ public class GameItems {
                 .add(GameItems::arrowsSPlus, 3).add(GameItems::arrowsWPlus, 3).add(GameItems::arrowsDPlus, 3).add(GameItems::rocketsPlus, 2)
             .build();
 
-    public static final LevelledWeightedRandom<ItemStack> RANGED = new LevelledWeightedRandom.Builder<ItemStack>()
-            .add(GameItems::bow, 100).nextLevel()
-            .add(GameItems::bow, 50).add(GameItems::crossbow, 25).add(GameItems::shield, 25).nextLevel()
-            .add(GameItems::bow, 33).add(GameItems::crossbow, 33).add(GameItems::shield, 34).nextLevel()
-            .add(GameItems::bow, 30).add(GameItems::crossbow, 30).add(GameItems::shield, 30).add(GameItems::trident, 10).nextLevel()
-            .add(GameItems::bow, 25).add(GameItems::crossbow, 25).add(GameItems::shield, 25).add(GameItems::trident, 25).build();
-
-    public static final LevelledWeightedRandom<ItemStack> AMMO = new LevelledWeightedRandom.Builder<ItemStack>()
-            .add(GameItems::arrows, 100).nextLevel()
-            .add(GameItems::arrows, 60).add(GameItems::arrowsP, 40).nextLevel()
-            .add(GameItems::arrows, 30).add(GameItems::arrowsP, 30).add(GameItems::arrowsS, 20).add(GameItems::arrowsW, 10)
-                .add(GameItems::arrowsD, 10).nextLevel()
-            .add(GameItems::arrows, 35).add(GameItems::arrowsPPlus, 20).add(GameItems::arrowsSPlus, 15).add(GameItems::arrowsW, 10)
-                .add(GameItems::arrowsD, 10).add(GameItems::rockets, 10).nextLevel()
-            .add(GameItems::arrows, 25).add(GameItems::arrowsPPlus, 25).add(GameItems::arrowsSPlus, 20).add(GameItems::arrowsWPlus, 10)
-                .add(GameItems::arrowsDPlus, 10).add(GameItems::rocketsPlus, 10).build();
+    // Items for the levelled shops, rolled as entries so the shops are only built once opened
+    public static final LevelledWeightedRandom<ShopEntry> RANGED = new LevelledWeightedRandom.Builder<ShopEntry>()
+            .add(GameItems::rollBow, 100).nextLevel()
+            .add(GameItems::rollBow, 50).add(GameItems::rollCrossbow, 25).add(GameItems::rollShield, 25).nextLevel()
+            .add(GameItems::rollBow, 33).add(GameItems::rollCrossbow, 33).add(GameItems::rollShield, 34).nextLevel()
+            .add(GameItems::rollBow, 30).add(GameItems::rollCrossbow, 30).add(GameItems::rollShield, 30)
+                .add(GameItems::rollTrident, 10).nextLevel()
+            .add(GameItems::rollBow, 25).add(GameItems::rollCrossbow, 25).add(GameItems::rollShield, 25)
+                .add(GameItems::rollTrident, 25).build();
+
+    public static final LevelledWeightedRandom<ShopEntry> AMMO = new LevelledWeightedRandom.Builder<ShopEntry>()
+            .add(ShopEntry.of(GameItems::arrows), 100).nextLevel()
+            .add(ShopEntry.of(GameItems::arrows), 60).add(ShopEntry.of(GameItems::arrowsP), 40).nextLevel()
+            .add(ShopEntry.of(GameItems::arrows), 30).add(ShopEntry.of(GameItems::arrowsP), 30)
+                .add(ShopEntry.of(GameItems::arrowsS), 20).add(ShopEntry.of(GameItems::arrowsW), 10)
+                .add(ShopEntry.of(GameItems::arrowsD), 10).nextLevel()
+            .add(ShopEntry.of(GameItems::arrows), 35).add(ShopEntry.of(GameItems::arrowsPPlus), 20)
+                .add(ShopEntry.of(GameItems::arrowsSPlus), 15).add(ShopEntry.of(GameItems::arrowsW), 10)
+                .add(ShopEntry.of(GameItems::arrowsD), 10).add(ShopEntry.of(GameItems::rockets), 10).nextLevel()
+            .add(ShopEntry.of(GameItems::arrows), 25).add(ShopEntry.of(GameItems::arrowsPPlus), 25)
+                .add(ShopEntry.of(GameItems::arrowsSPlus), 20).add(ShopEntry.of(GameItems::arrowsWPlus), 10)
+                .add(ShopEntry.of(GameItems::arrowsDPlus), 10).add(ShopEntry.of(GameItems::rocketsPlus), 10).build();
 
     public static final LevelledWeightedRandom<ItemStack> ARMOR = new LevelledWeightedRandom.Builder<ItemStack>()
             .add(GameItems::helmet, 1).add(GameItems::chestplate, 1).add(GameItems::leggings, 1).add(GameItems::boots, 1).build();
@@ -833,29 +806,43 @@ public class GameItems {
                 .add(GameItems::golem, 75).add(GameItems::experience, 50).add(GameItems::largeCare, 50).add(GameItems::extraCare, 75)
             .build();
 
-    public static final LevelledWeightedRandom<ItemStack> FOOD = new LevelledWeightedRandom.Builder<ItemStack>(1000)
-            .add(GameItems::beetroot, 400).add(GameItems::carrot, 400).add(GameItems::bread, 200).nextLevel()
-            .add(GameItems::carrot, 325).add(GameItems::bread, 325).add(GameItems::mutton, 200).add(GameItems::steak, 150).nextLevel()
-            .add(GameItems::bread, 250).add(GameItems::mutton, 250).add(GameItems::steak, 250).add(GameItems::gcarrot, 250).nextLevel()
-            .add(GameItems::mutton, 250).add(GameItems::steak, 250).add(GameItems::gcarrot, 250).add(GameItems::gapple, 250).nextLevel()
-            .add(GameItems::mutton, 150).add(GameItems::steak, 250).add(GameItems::gcarrot, 250).add(GameItems::gapple, 250)
-                .add(GameItems::egapple, 100).build();
-
-    public static final LevelledWeightedRandom<ItemStack> OTHER = new LevelledWeightedRandom.Builder<ItemStack>(100)
-            .add(GameItems::smallCare, 35).add(GameItems::wolf, 30).add(GameItems::experience, 10).add(GameItems::health, 15)
-                .add(GameItems::speed, 10).nextLevel()
-            .add(GameItems::smallCare, 15).add(GameItems::mediumCare, 30).add(GameItems::wolf, 15).add(GameItems::experience, 10)
-                .add(GameItems::milk, 5).add(GameItems::health, 10).add(GameItems::speed, 5).add(GameItems::strength, 5)
-                .add(GameItems::regen, 5).nextLevel()
-            .add(GameItems::mediumCare, 15).add(GameItems::largeCare, 25).add(GameItems::wolf, 10).add(GameItems::golem, 10)
-                .add(GameItems::experience, 10).add(GameItems::milk, 5).add(GameItems::health2, 10).add(GameItems::speed2, 5)
-                .add(GameItems::strength, 5).add(GameItems::regen, 5).nextLevel()
-            .add(GameItems::largeCare, 15).add(GameItems::extraCare, 25).add(GameItems::wolf, 10).add(GameItems::golem, 10)
-                .add(GameItems::experience, 10).add(GameItems::milk, 5).add(GameItems::health2, 10).add(GameItems::speed2, 5)
-                .add(GameItems::strength2, 5).add(GameItems::regen2, 5).nextLevel()
-            .add(GameItems::extraCare, 30).add(GameItems::wolf, 15).add(GameItems::golem, 15).add(GameItems::experience, 10)
-                .add(GameItems::milk, 5).add(GameItems::health2, 10).add(GameItems::speed2, 5).add(GameItems::strength2, 5)
-                .add(GameItems::regen2, 5).build();
+    public static final LevelledWeightedRandom<ShopEntry> FOOD = new LevelledWeightedRandom.Builder<ShopEntry>(1000)
+            .add(ShopEntry.of(GameItems::beetroot), 400).add(ShopEntry.of(GameItems::carrot), 400)
+                .add(ShopEntry.of(GameItems::bread), 200).nextLevel()
+            .add(ShopEntry.of(GameItems::carrot), 325).add(ShopEntry.of(GameItems::bread), 325)
+                .add(ShopEntry.of(GameItems::mutton), 200).add(ShopEntry.of(GameItems::steak), 150).nextLevel()
+            .add(ShopEntry.of(GameItems::bread), 250).add(ShopEntry.of(GameItems::mutton), 250)
+                .add(ShopEntry.of(GameItems::steak), 250).add(ShopEntry.of(GameItems::gcarrot), 250).nextLevel()
+            .add(ShopEntry.of(GameItems::mutton), 250).add(ShopEntry.of(GameItems::steak), 250)
+                .add(ShopEntry.of(GameItems::gcarrot), 250).add(ShopEntry.of(GameItems::gapple), 250).nextLevel()
+            .add(ShopEntry.of(GameItems::mutton), 150).add(ShopEntry.of(GameItems::steak), 250)
+                .add(ShopEntry.of(GameItems::gcarrot), 250).add(ShopEntry.of(GameItems::gapple), 250)
+                .add(ShopEntry.of(GameItems::egapple), 100).build();
+
+    public static final LevelledWeightedRandom<ShopEntry> OTHER = new LevelledWeightedRandom.Builder<ShopEntry>(100)
+            .add(ShopEntry.of(GameItems::smallCare), 35).add(ShopEntry.of(GameItems::wolf), 30)
+                .add(ShopEntry.of(GameItems::experience), 10).add(ShopEntry.of(GameItems::health), 15)
+                .add(ShopEntry.of(GameItems::speed), 10).nextLevel()
+            .add(ShopEntry.of(GameItems::smallCare), 15).add(ShopEntry.of(GameItems::mediumCare), 30)
+                .add(ShopEntry.of(GameItems::wolf), 15).add(ShopEntry.of(GameItems::experience), 10)
+                .add(ShopEntry.of(GameItems::milk), 5).add(ShopEntry.of(GameItems::health), 10)
+                .add(ShopEntry.of(GameItems::speed), 5).add(ShopEntry.of(GameItems::strength), 5)
+                .add(ShopEntry.of(GameItems::regen), 5).nextLevel()
+            .add(ShopEntry.of(GameItems::mediumCare), 15).add(ShopEntry.of(GameItems::largeCare), 25)
+                .add(ShopEntry.of(GameItems::wolf), 10).add(ShopEntry.of(GameItems::golem), 10)
+                .add(ShopEntry.of(GameItems::experience), 10).add(ShopEntry.of(GameItems::milk), 5)
+                .add(ShopEntry.of(GameItems::health2), 10).add(ShopEntry.of(GameItems::speed2), 5)
+                .add(ShopEntry.of(GameItems::strength), 5).add(ShopEntry.of(GameItems::regen), 5).nextLevel()
+            .add(ShopEntry.of(GameItems::largeCare), 15).add(ShopEntry.of(GameItems::extraCare), 25)
+                .add(ShopEntry.of(GameItems::wolf), 10).add(ShopEntry.of(GameItems::golem), 10)
+                .add(ShopEntry.of(GameItems::experience), 10).add(ShopEntry.of(GameItems::milk), 5)
+                .add(ShopEntry.of(GameItems::health2), 10).add(ShopEntry.of(GameItems::speed2), 5)
+                .add(ShopEntry.of(GameItems::strength2), 5).add(ShopEntry.of(GameItems::regen2), 5).nextLevel()
+            .add(ShopEntry.of(GameItems::extraCare), 30).add(ShopEntry.of(GameItems::wolf), 15)
+                .add(ShopEntry.of(GameItems::golem), 15).add(ShopEntry.of(GameItems::experience), 10)
+                .add(ShopEntry.of(GameItems::milk), 5).add(ShopEntry.of(GameItems::health2), 10)
+                .add(ShopEntry.of(GameItems::speed2), 5).add(ShopEntry.of(GameItems::strength2), 5)
+                .add(ShopEntry.of(GameItems::regen2), 5).build();
 
     public static final LevelledWeightedRandom<ItemStack> CARE = new LevelledWeightedRandom.Builder<ItemStack>(100)
             .add(GameItems::smallCare, 100).nextLevel()
@@ -1,5 +1,6 @@
 package me.theguyhere.villagerdefense.plugin.items;
 
+import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
@@ -251,6 +252,21 @@ public class ItemManager {
         return item;
     }
 
+    // Read the price from the price lore, which is always the last lore line
+    public static int getLorePrice(ItemStack itemStack) {
+        if (itemStack == null || !itemStack.hasItemMeta())
+            return GameItemType.NO_PRICE;
+
+        List<String> lore = itemStack.getItemMeta().getLore();
+        if (lore == null || lore.isEmpty())
+            return GameItemType.NO_PRICE;
+        try {
+            return Integer.parseInt(lore.get(lore.size() - 1).substring(6 + LanguageManager.messages.gems.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return GameItemType.NO_PRICE;
+        }
+    }
+
     // Dummy enchant for glowing buttons
     public static HashMap<Enchantment, Integer> glow() {
         HashMap<Enchantment, Integer> enchants = new HashMap<>();
@@ -0,0 +1,115 @@
+package me.theguyhere.villagerdefense.plugin.items;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * An item for sale, described by what it is made of instead of built, so shops can be rolled without creating any
+ * items. Rolled equipment is described by its material and enchants, and fixed items by the method creating them.
+ * Entries are immutable, and the item is only built by {@link #create()} when a shop gets shown.
+ */
+public class ShopEntry {
+    /** Prices of fixed items by the method creating them, so each is only built once to be priced.*/
+    private static final Map<Supplier<ItemStack>, Integer> fixedPrices = new HashMap<>();
+
+    /** Material of rolled equipment, or null for a fixed item.*/
+    private final Material material;
+    /** Creates a fixed item, or null for rolled equipment.*/
+    private final Supplier<ItemStack> factory;
+    private final Map<Enchantment, Integer> enchants;
+    /** Price in gems, or {@link GameItemType#NO_PRICE} to keep the price of a fixed item.*/
+    private final int price;
+
+    private ShopEntry(Material material, Supplier<ItemStack> factory, Map<Enchantment, Integer> enchants, int price) {
+        this.material = material;
+        this.factory = factory;
+        this.enchants = enchants;
+        this.price = price;
+    }
+
+    /**
+     * Describes rolled equipment, priced by its material and enchants.
+     * @param material Material of the item
+     * @param enchants Enchants of the item
+     * @return The entry
+     */
+    public static ShopEntry rolled(Material material, Map<Enchantment, Integer> enchants) {
+        return new ShopEntry(material, null, Collections.unmodifiableMap(new HashMap<>(enchants)),
+                Costs.getTotalCost(material, enchants));
+    }
+
+    /**
+     * Describes a fixed item, priced by the price lore of the item.
+     * @param factory Creates the item
+     * @return The entry
+     */
+    public static ShopEntry of(Supplier<ItemStack> factory) {
+        return new ShopEntry(null, factory, Collections.emptyMap(), GameItemType.NO_PRICE);
+    }
+
+    public int getPrice() {
+        if (price != GameItemType.NO_PRICE)
+            return price;
+
+        // Fixed items carry their price in their lore, so build the item once to read it
+        return fixedPrices.computeIfAbsent(factory, f -> ItemManager.getLorePrice(f.get()));
+    }
+
+    /**
+     * Copies the entry with a price multiplied by a modifier, rounded to a multiple of 5.
+     * @param modifier Price multiplier
+     * @return The repriced entry
+     */
+    public ShopEntry withPriceModifier(double modifier) {
+        if (modifier == 1)
+            return this;
+        return new ShopEntry(material, factory, enchants, (int) Math.round(getPrice() * modifier / 5) * 5);
+    }
+
+    /**
+     * Builds the item, carrying its price in the lore and on the item.
+     * @return The item
+     */
+    public ItemStack create() {
+        int price = getPrice();
+        String priceLore = CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" + price);
+        ItemStack item;
+        if (factory == null)
+            item = ItemManager.createItem(material, null, ItemManager.NORMAL_FLAGS, enchants, priceLore);
+        else {
+            item = factory.get();
+
+            // Replace the price lore if the price was changed
+            ItemMeta meta = item == null ? null : item.getItemMeta();
+            if (this.price != GameItemType.NO_PRICE && meta != null && meta.hasLore()) {
+                List<String> lore = meta.getLore();
+                lore.set(lore.size() - 1, priceLore);
+                meta.setLore(lore);
+                item.setItemMeta(meta);
+            }
+        }
+
+        return item == null ? new ItemStack(Material.AIR) : GameItemType.setPrice(item, price);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShopEntry that = (ShopEntry) o;
+        return price == that.price && material == that.material && Objects.equals(factory, that.factory) &&
+                enchants.equals(that.enchants);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(material, factory, enchants, price);
+    }
+}
@@ -28,6 +28,21 @@ public class ArenaBoard {
             throw new InvalidLocationException("Location world cannot be null!");
         }
 
+		// Set location and hologram
+		this.location = location;
+		this.hologram = new Hologram(location.clone().add(0, 2.5, 0), false, getText(arena));
+	}
+
+	/**
+	 * Brings the text of the ArenaBoard up to date with its Arena without respawning it.
+	 * @param arena - The Arena of the ArenaBoard.
+	 * @return Whether the text could be updated in place, which needs the number of lines to stay the same.
+	 */
+	public boolean update(Arena arena) {
+		return hologram.setLines(getText(arena));
+	}
+
+	private static String[] getText(Arena arena) {
 		// Gather relevant stats
 		List<String> info = new ArrayList<>();
 		info.add(CommunicationManager.format( "&6&l" + arena.getName() + " " + LanguageManager.messages.records));
@@ -54,10 +69,7 @@ public class ArenaBoard {
             }
         });
 
-		// Set location and hologram
-		this.location = location;
-		this.hologram = new Hologram(location.clone().add(0, 2.5, 0), false,
-				info.toArray(new String[]{}));
+		return info.toArray(new String[]{});
 	}
 
     /**
@@ -1,12 +1,11 @@
 package me.theguyhere.villagerdefense.plugin.structures;
 
 import lombok.Getter;
+import me.theguyhere.villagerdefense.nms.common.PacketGroup;
 import me.theguyhere.villagerdefense.nms.common.entities.TextPacketEntity;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.InvalidLocationException;
 import me.theguyhere.villagerdefense.plugin.data.NMSVersion;
-import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
 import org.bukkit.Location;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -14,7 +13,8 @@ import org.jetbrains.annotations.NotNull;
  */
 public class HoloLine {
     /** The text to display.*/
-    private final String text;
+    @Getter
+    private String text;
     /** The location of the HoloLine.*/
     @Getter
     private final Location location;
@@ -34,26 +34,27 @@ public class HoloLine {
     }
 
     /**
-     * Spawn in the HoloLine for every online player.
+     * Changes the text of the HoloLine. Players seeing it are not told until its Hologram sends the change.
+     * @param text - The new text.
+     * @return Whether the text changed.
      */
-    public void displayForOnline() {
-        PlayerManager.sendLocationPacketToOnline(textPacketEntity.newSpawnPackets(location, text), location.getWorld());
+    boolean setText(String text) {
+        if (this.text.equals(text))
+            return false;
+
+        this.text = text;
+        return true;
     }
 
-    /**
-     * Spawn in the HoloLine for a specific player.
-     * @param player - The player to display the HoloLine for.
-     */
-    public void displayForPlayer(Player player) {
-        // Only display if player is in the same world
-        if (player.getWorld().equals(location.getWorld()))
-            textPacketEntity.newSpawnPackets(location, text).sendTo(player);
+    PacketGroup newSpawnPackets() {
+        return textPacketEntity.newSpawnPackets(location, text);
     }
 
-    /**
-     * Stop displaying the HoloLine for every online player.
-     */
-    public void remove() {
-        PlayerManager.sendPacketToOnline(textPacketEntity.newDestroyPackets());
+    PacketGroup newTextUpdatePackets() {
+        return textPacketEntity.newTextUpdatePackets(text);
+    }
+
+    PacketGroup newDestroyPackets() {
+        return textPacketEntity.newDestroyPackets();
     }
 }
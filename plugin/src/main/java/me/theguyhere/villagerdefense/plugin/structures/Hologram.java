@@ -1,24 +1,40 @@
 package me.theguyhere.villagerdefense.plugin.structures;
 
 import lombok.Getter;
+import me.theguyhere.villagerdefense.nms.common.PacketBatch;
+import me.theguyhere.villagerdefense.nms.common.TrackedEntity;
+import me.theguyhere.villagerdefense.nms.common.ViewerTracker;
+import me.theguyhere.villagerdefense.plugin.Main;
+import me.theguyhere.villagerdefense.plugin.data.NMSVersion;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.InvalidLocationException;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
+import java.util.*;
 
 /**
- * Floating text displayed on client side. Can have multiple lines.
+ * Floating text displayed on client side. Can have multiple lines, which are sent to each player together as one
+ * batch of packets.
  */
 @Getter
 public class Hologram {
+    /** Holograms with text changes waiting to be sent.*/
+    private static final Set<Hologram> pendingUpdates = new LinkedHashSet<>();
+    /** Whether a task sending the waiting text changes is scheduled.*/
+    private static boolean updateScheduled;
+
     /** Text to be displayed by the Hologram.*/
     private final HoloLine[] lines;
     /** The location of the Hologram.*/
     private final Location location;
     /** Whether the lines will be aligned to the bottom or not.*/
     private final boolean bottomAligned;
+    /** Players who can see the Hologram.*/
+    private final TrackedEntity trackedEntity;
+    /** Lines with text changes waiting to be sent.*/
+    private final Set<HoloLine> changedLines = new LinkedHashSet<>();
 
     public Hologram(@NotNull Location location, String... lines) throws InvalidLocationException {
         // Check for null world
@@ -31,6 +47,7 @@ public class Hologram {
         for (int i = 0; i < lines.length; i++)
             this.lines[i] = new HoloLine(lines[i], location.clone().add(0, (lines.length - i - 1) * .25, 0));
         bottomAligned = true;
+        trackedEntity = new TrackedEntity(location, this::newSpawnPackets, this::newDestroyPackets);
     }
 
     public Hologram(@NotNull Location location, boolean bottomAligned, String... lines) throws InvalidLocationException {
@@ -48,27 +65,81 @@ public class Hologram {
         else
             for (int i = 0; i < lines.length; i++)
                 this.lines[i] = new HoloLine(lines[i], location.clone().subtract(0, i * .25, 0));
+        trackedEntity = new TrackedEntity(location, this::newSpawnPackets, this::newDestroyPackets);
     }
 
     /**
-     * Spawn in the Hologram for every online player.
+     * Spawn in the Hologram for every online player close enough to see it, and keep it spawned for players in range.
      */
     public void displayForOnline() {
-        Arrays.stream(lines).forEach(HoloLine::displayForOnline);
+        ViewerTracker.track(trackedEntity);
     }
 
     /**
-     * Spawn in the Hologram for a specific player.
+     * Spawn in the Hologram again for a specific player if they are close enough to see it.
      * @param player - The player to display the Hologram for.
      */
     public void displayForPlayer(Player player) {
-        Arrays.stream(lines).forEach(holoLine -> holoLine.displayForPlayer(player));
+        trackedEntity.refresh(player);
+    }
+
+    /**
+     * Changes the text of the Hologram in place, keeping the entities players already see. Changes are sent at the end
+     * of the tick as metadata updates, together with any other changes made in the same tick.
+     * @param lines - The new text, one entry per line.
+     * @return Whether the text could be changed in place, which needs the number of lines to stay the same.
+     */
+    public boolean setLines(String... lines) {
+        if (lines.length != this.lines.length)
+            return false;
+
+        for (int i = 0; i < lines.length; i++)
+            if (this.lines[i].setText(lines[i]))
+                changedLines.add(this.lines[i]);
+        if (!changedLines.isEmpty()) {
+            pendingUpdates.add(this);
+            if (!updateScheduled) {
+                updateScheduled = true;
+                Bukkit.getScheduler().runTask(Main.plugin, Hologram::sendUpdates);
+            }
+        }
+        return true;
     }
 
     /**
-     * Stop displaying the Hologram for every online player.
+     * Stop displaying the Hologram for every player who sees it.
      */
     public void remove() {
-        Arrays.stream(lines).forEach(HoloLine::remove);
+        pendingUpdates.remove(this);
+        changedLines.clear();
+        ViewerTracker.untrack(trackedEntity);
+    }
+
+    private PacketBatch newSpawnPackets() {
+        PacketBatch batch = NMSVersion.getCurrent().getNmsManager().newPacketBatch();
+        for (HoloLine line : lines)
+            batch.add(line.newSpawnPackets());
+        return batch;
+    }
+
+    private PacketBatch newDestroyPackets() {
+        PacketBatch batch = NMSVersion.getCurrent().getNmsManager().newPacketBatch();
+        for (HoloLine line : lines)
+            batch.add(line.newDestroyPackets());
+        return batch;
+    }
+
+    // Send the latest text of every changed line to the players who see it, one batch per Hologram
+    private static void sendUpdates() {
+        List<Hologram> holograms = new ArrayList<>(pendingUpdates);
+        pendingUpdates.clear();
+        updateScheduled = false;
+        for (Hologram hologram : holograms) {
+            PacketBatch batch = NMSVersion.getCurrent().getNmsManager().newPacketBatch();
+            hologram.changedLines.forEach(line -> batch.add(line.newTextUpdatePackets()));
+            hologram.changedLines.clear();
+            if (!hologram.trackedEntity.getViewers().isEmpty())
+                hologram.trackedEntity.sendToViewers(batch);
+        }
     }
 }
@@ -3,12 +3,11 @@ package me.theguyhere.villagerdefense.plugin.structures;
 import lombok.Getter;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.data.GameDataManager;
-import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
+import me.theguyhere.villagerdefense.plugin.data.LeaderboardIndex;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.BadDataException;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.InvalidLocationException;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.NoSuchPathException;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -31,7 +30,6 @@ public class Leaderboard {
 
 		// Gather info text
 		List<String> info = new ArrayList<>();
-		Map<UUID, Integer> mapping = new HashMap<>();
 
 		// Determine leaderboard title
 		switch (type) {
@@ -54,23 +52,9 @@ public class Leaderboard {
 				info.add("");
 		}
 
-		// Gather relevant stats
-		for (UUID uuid : PlayerDataManager.getTrackedPlayers()) {
-				try {
-					mapping.put(uuid, PlayerDataManager.getPlayerStat(uuid, type));
-				} catch (IllegalArgumentException ignored) {}
-		}
-
 		// Put names and values into the leaderboard
-		mapping.entrySet().stream().sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-				.filter(set -> Bukkit.getOfflinePlayer(set.getKey()).getName() != null)
-				.filter(set -> set.getValue() > 0)
-				.limit(10).forEachOrdered(set -> {
-					try {
-						info.add(Bukkit.getOfflinePlayer(set.getKey()).getName() + " - &b" + set.getValue());
-					} catch (Exception ignored) {
-					}
-				});
+		LeaderboardIndex.getTop(type).forEach(entry ->
+				info.add(LeaderboardIndex.getName(entry.getID()) + " - &b" + entry.getValue()));
 
 		for (int i = 1; i < info.size(); i++)
 			info.set(i, CommunicationManager.format("&6" + i + ") &f" + info.get(i)));
@@ -1,10 +1,11 @@
 package me.theguyhere.villagerdefense.plugin.structures;
 
 import lombok.Getter;
+import me.theguyhere.villagerdefense.nms.common.TrackedEntity;
+import me.theguyhere.villagerdefense.nms.common.ViewerTracker;
 import me.theguyhere.villagerdefense.nms.common.entities.VillagerPacketEntity;
 import me.theguyhere.villagerdefense.plugin.data.exceptions.InvalidLocationException;
 import me.theguyhere.villagerdefense.plugin.data.NMSVersion;
-import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -18,6 +19,8 @@ public class NPCVillager {
     private final Location location;
     /** The villager entity used to create the NPCVillager.*/
     private final VillagerPacketEntity villagerPacketEntity;
+    /** Players who can see the NPCVillager.*/
+    private final TrackedEntity trackedEntity;
 
     public NPCVillager(@NotNull Location location) throws InvalidLocationException {
         // Check for null world
@@ -27,6 +30,8 @@ public class NPCVillager {
         // Set location and packet entity
         this.location = location;
         villagerPacketEntity = NMSVersion.getCurrent().getNmsManager().newVillagerPacketEntity();
+        trackedEntity = new TrackedEntity(location, () -> villagerPacketEntity.newSpawnPackets(location),
+            villagerPacketEntity::newDestroyPackets);
     }
 
     public int getEntityID() {
@@ -34,26 +39,25 @@ public class NPCVillager {
     }
 
     /**
-     * Spawn in the NPCVillager for every online player.
+     * Spawn in the NPCVillager for every online player close enough to see it, and keep it spawned for players in
+     * range.
      */
     public void displayForOnline() {
-        PlayerManager.sendLocationPacketToOnline(villagerPacketEntity.newSpawnPackets(location), location.getWorld());
+        ViewerTracker.track(trackedEntity);
     }
 
     /**
-     * Spawn in the NPCVillager for a specific player.
+     * Spawn in the NPCVillager again for a specific player if they are close enough to see it.
      * @param player - The player to display the NPCVillager for.
      */
     public void displayForPlayer(Player player) {
-        // Only display if player is in the same world
-        if (player.getWorld().equals(location.getWorld()))
-            villagerPacketEntity.newSpawnPackets(location).sendTo(player);
+        trackedEntity.refresh(player);
     }
 
     /**
-     * Stop displaying the NPCVillager for every online player.
+     * Stop displaying the NPCVillager for every player who sees it.
      */
     public void remove() {
-        PlayerManager.sendPacketToOnline(villagerPacketEntity.newDestroyPackets());
+        ViewerTracker.untrack(trackedEntity);
     }
 }
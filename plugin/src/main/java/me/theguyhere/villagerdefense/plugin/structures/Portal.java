@@ -27,6 +27,21 @@ public class Portal {
         if (location.getWorld() == null)
             throw new InvalidLocationException("Location world cannot be null!");
 
+        // Set location, hologram, and npc
+        this.location = location;
+        this.npc = new NPCVillager(location);
+        this.hologram = new Hologram(location.clone().add(0, 2.5, 0), false, getText(arena));
+    }
+
+    /**
+     * Brings the text of the Portal up to date with its Arena without respawning it.
+     * @param arena - The Arena of the Portal.
+     */
+    public void update(Arena arena) {
+        hologram.setLines(getText(arena));
+    }
+
+    private static String[] getText(Arena arena) {
         // Get difficulty
         String difficulty = arena.getDifficultyLabel();
         if (difficulty != null)
@@ -67,16 +82,14 @@ public class Portal {
             countColor = "&6";
         else countColor = "&c";
 
-        // Set location, hologram, and npc
-        this.location = location;
-        this.npc = new NPCVillager(location);
-        this.hologram = new Hologram(location.clone().add(0, 2.5, 0), false,
+        return new String[]{
                 CommunicationManager.format("&6&l" + arena.getName() + difficulty),
                 CommunicationManager.format(status),
                 arena.isClosed() ? "" : CommunicationManager.format("&b" + LanguageManager.messages.players +
                         ": " + countColor + arena.getActiveCount() + "&b / " + arena.getMaxPlayers()),
                 arena.isClosed() ? "" : CommunicationManager.format(LanguageManager.messages.spectators + ": " +
-                        arena.getSpectatorCount()));
+                        arena.getSpectatorCount())
+        };
     }
 
     /**
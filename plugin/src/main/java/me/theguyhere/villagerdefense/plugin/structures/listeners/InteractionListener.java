@@ -12,19 +12,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
 public class InteractionListener implements Listener {
-    private Arena getArenaByNpcId(int id) {
-        for (Arena arena : GameManager.getArenas().values()) {
-            if (arena.getPortal() != null && arena.getPortal().getNpc().getEntityID() == id) {
-                return arena;
-            }
-        }
-        // Not sure why this happens
-        return null;
-    }
-
 	@EventHandler
 	public void onRightClick(RightClickNPCEvent e) {
-        Arena arena = getArenaByNpcId(e.getNpcId());
+        Arena arena = GameManager.getPortalArena(e.getNpcId());
         if (arena != null) {
             // Send out event of player joining
             Bukkit.getScheduler().scheduleSyncDelayedTask(Main.getPlugin(Main.class), () ->
@@ -34,7 +24,7 @@ public class InteractionListener implements Listener {
 
 	@EventHandler
 	public void onLeftClick(LeftClickNPCEvent e) {
-		Arena arena = getArenaByNpcId(e.getNpcId());
+		Arena arena = GameManager.getPortalArena(e.getNpcId());
         if (arena != null) {
             // Open inventory
             new ArenaInfoMenu(arena).open(e.getPlayer());
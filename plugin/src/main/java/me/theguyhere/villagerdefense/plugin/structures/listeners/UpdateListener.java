@@ -1,13 +1,20 @@
 package me.theguyhere.villagerdefense.plugin.structures.listeners;
 
+import me.theguyhere.villagerdefense.nms.common.ViewerTracker;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 public class UpdateListener implements Listener {
     @EventHandler
-    public void onPortal(PlayerChangedWorldEvent e) {
-        GameManager.displayAllPortals(e.getPlayer());
+    public void onWorldChange(PlayerChangedWorldEvent e) {
+        GameManager.displayEverything(e.getPlayer());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent e) {
+        ViewerTracker.forget(e.getPlayer());
     }
 }
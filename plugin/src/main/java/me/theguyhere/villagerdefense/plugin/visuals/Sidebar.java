@@ -0,0 +1,73 @@
+package me.theguyhere.villagerdefense.plugin.visuals;
+
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A sidebar kept on its own scoreboard for as long as it is shown. Updates only touch the lines that changed, so
+ * players aren't sent the whole sidebar again every time.
+ */
+public class Sidebar {
+    /** The scoreboard holding the sidebar.*/
+    @Getter
+    private final Scoreboard board;
+    private final Objective objective;
+    private String title;
+    /** Lines currently shown, mapped to their score.*/
+    private final Map<String, Integer> lines = new HashMap<>();
+
+    /**
+     * @param manager Scoreboard manager to create the scoreboard with
+     * @param title Initial title of the sidebar
+     */
+    public Sidebar(ScoreboardManager manager, String title) {
+        board = manager.getNewScoreboard();
+        objective = board.registerNewObjective("VillagerDefense", "dummy", title);
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        this.title = title;
+    }
+
+    public void setTitle(String title) {
+        if (!Objects.equals(this.title, title)) {
+            objective.setDisplayName(title);
+            this.title = title;
+        }
+    }
+
+    /**
+     * Changes the lines of the sidebar, only updating those that are different from what is shown.
+     * @param newLines Lines to show, mapped to their score
+     */
+    public void setLines(Map<String, Integer> newLines) {
+        // Take down lines that are gone
+        lines.entrySet().removeIf(line -> {
+            if (newLines.containsKey(line.getKey()))
+                return false;
+            board.resetScores(line.getKey());
+            return true;
+        });
+
+        // Put up lines that are new or moved
+        newLines.forEach((line, score) -> {
+            if (!score.equals(lines.put(line, score)))
+                objective.getScore(line).setScore(score);
+        });
+    }
+
+    /**
+     * Shows the sidebar to a player if they aren't seeing it already.
+     * @param player Player to show the sidebar to
+     */
+    public void show(Player player) {
+        if (player.getScoreboard() != board)
+            player.setScoreboard(board);
+    }
+}
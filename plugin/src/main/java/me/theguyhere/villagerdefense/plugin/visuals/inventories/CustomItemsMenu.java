@@ -4,6 +4,7 @@ import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.data.ArenaDataManager;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.items.ItemManager;
 import me.theguyhere.villagerdefense.plugin.visuals.InventoryButtons;
 import me.theguyhere.villagerdefense.plugin.visuals.layout.ManualLayout;
@@ -27,14 +28,7 @@ public class CustomItemsMenu extends ArenaMenu {
         this.shopItem = arena.getCustomShopItems().get(id);
         layout.add(4, shopItem);
 
-        if (shopItem.hasItemMeta() && shopItem.getItemMeta().hasLore()) {
-            List<String> lore = shopItem.getItemMeta().getLore();
-            try {
-                price = Integer.parseInt(lore.get(lore.size() - 1)
-                        .substring(6 + LanguageManager.messages.gems.length()));
-            }
-            catch (NumberFormatException | IndexOutOfBoundsException ignored) {}
-        }
+        price = getPrice(shopItem);
 
         ItemStack noPurchase = ItemManager.createItem(Material.BEDROCK, CommunicationManager.format("&5&lToggle Un-purchasable"));
         layout.add(8, noPurchase);
@@ -89,6 +83,8 @@ public class CustomItemsMenu extends ArenaMenu {
             lore.add(last);
         }
         meta.setLore(lore);
+        // The price lore is what gets saved, and shops read it into the item when they show it
+        GameItemType.removePrice(meta);
         shopItem.setItemMeta(meta);
         ArenaDataManager.setCustomShopItem(arena.getId(), id, shopItem);
     }
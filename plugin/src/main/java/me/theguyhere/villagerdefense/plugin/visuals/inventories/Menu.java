@@ -6,6 +6,7 @@ import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.items.ItemManager;
 import me.theguyhere.villagerdefense.plugin.visuals.InventoryButtons;
 import me.theguyhere.villagerdefense.plugin.visuals.InventoryMeta;
@@ -165,27 +166,10 @@ public abstract class Menu {
         }
     }
 
-    // Modify the price of an item
-    protected static ItemStack modifyPrice(ItemStack itemStack, double modifier) {
-        ItemStack item = itemStack.clone();
-        ItemMeta meta = item.getItemMeta();
-        assert meta != null;
-        List<String> lore = meta.getLore();
-        assert lore != null;
-        int price = (int) Math.round(Integer.parseInt(lore.get(lore.size() - 1).substring(10)) * modifier / 5) * 5;
-        lore.set(lore.size() - 1, CommunicationManager.format("&2" + LanguageManager.messages.gems + ": &a" +
-                price));
-        meta.setLore(lore);
-        item.setItemMeta(meta);
-        return item;
-    }
-
-    protected static void sort(List<ItemStack> list) {
-        list.sort(Comparator.comparingInt(itemStack -> {
-            List<String> lore = Objects.requireNonNull(itemStack.getItemMeta()).getLore();
-            assert lore != null;
-            return Integer.parseInt(lore.get(lore.size() - 1).substring(10));
-        }));
+    // Get the price of an item, reading it from the price lore if the item doesn't carry it yet
+    protected static int getPrice(ItemStack itemStack) {
+        int price = GameItemType.getPrice(itemStack);
+        return price == GameItemType.NO_PRICE ? ItemManager.getLorePrice(itemStack) : price;
     }
 
     /**
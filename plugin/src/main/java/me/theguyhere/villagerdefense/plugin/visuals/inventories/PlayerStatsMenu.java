@@ -3,7 +3,6 @@ package me.theguyhere.villagerdefense.plugin.visuals.inventories;
 import me.theguyhere.villagerdefense.common.CommunicationManager;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.data.PlayerDataManager;
-import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
 import me.theguyhere.villagerdefense.plugin.visuals.layout.ManualLayout;
 import org.bukkit.Material;
@@ -36,7 +35,6 @@ public class PlayerStatsMenu extends Menu {
         l.setNextSlot(16);
         addNavigation(Material.LAVA_BUCKET, () -> new ConfirmationMenu("&4&l" + LanguageManager.messages.reset + "?", p -> {
                     PlayerDataManager.deletePlayerData(player.getUniqueId());
-                    GameManager.refreshLeaderboards();
                     PlayerManager.notifySuccess(player, LanguageManager.confirms.reset);
                 }),
                 "&d&l" + LanguageManager.messages.reset,
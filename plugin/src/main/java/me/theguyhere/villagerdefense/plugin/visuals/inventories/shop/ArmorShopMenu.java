@@ -3,15 +3,21 @@ package me.theguyhere.villagerdefense.plugin.visuals.inventories.shop;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
+import me.theguyhere.villagerdefense.plugin.items.ShopEntry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 public class ArmorShopMenu extends LevelledShopMenu {
-    public ArmorShopMenu(Arena arena, int level) {
-        super("&5&l", LanguageManager.names.armorShop, arena, level);
+    /** Rolls the items of each row of the armor shop.*/
+    public static final List<Function<Integer, ShopEntry>> ROWS = Arrays.asList(
+            GameItems::rollHelmet,
+            GameItems::rollChestplate,
+            GameItems::rollLeggings,
+            GameItems::rollBoots);
 
-        generate(GameItems::helmet);
-        generate(GameItems::chestplate);
-        generate(GameItems::leggings);
-        generate(GameItems::boots);
-        addExit();
+    public ArmorShopMenu(Arena arena, ShopCatalog catalog) {
+        super("&5&l", LanguageManager.names.armorShop, arena, catalog);
     }
 }
@@ -3,13 +3,19 @@ package me.theguyhere.villagerdefense.plugin.visuals.inventories.shop;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
+import me.theguyhere.villagerdefense.plugin.items.ShopEntry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 public class ConsumableShopMenu extends LevelledShopMenu {
-    public ConsumableShopMenu(Arena arena, int level) {
-        super("&3&l", LanguageManager.names.consumableShop, arena, level);
+    /** Rolls the items of each row of the consumable shop.*/
+    public static final List<Function<Integer, ShopEntry>> ROWS = Arrays.asList(
+            GameItems.FOOD::getRandom,
+            GameItems.OTHER::getRandom);
 
-        generate(GameItems.FOOD::getRandom);
-        generate(GameItems.OTHER::getRandom);
-        addExit();
+    public ConsumableShopMenu(Arena arena, ShopCatalog catalog) {
+        super("&3&l", LanguageManager.names.consumableShop, arena, catalog);
     }
 }
@@ -0,0 +1,60 @@
+package me.theguyhere.villagerdefense.plugin.visuals.inventories.shop;
+
+import lombok.Getter;
+import me.theguyhere.villagerdefense.plugin.items.ShopEntry;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The items a levelled shop sells, rolled without building any items. Catalogs are immutable and compare by what they
+ * sell, so a shop can keep its inventory while its catalog stays the same.
+ */
+public class ShopCatalog {
+    /** Number of items in each row.*/
+    private static final int ROW_SIZE = 4;
+
+    /** Level the items were rolled for.*/
+    @Getter
+    private final int level;
+    /** Rows of items, each sorted by price.*/
+    private final List<List<ShopEntry>> rows;
+
+    /**
+     * Rolls a catalog.
+     * @param level Level to roll the items for
+     * @param priceModifier Price multiplier
+     * @param generators Rolls the items of each row
+     */
+    public ShopCatalog(int level, double priceModifier, List<Function<Integer, ShopEntry>> generators) {
+        this.level = level;
+
+        List<List<ShopEntry>> rows = new ArrayList<>();
+        for (Function<Integer, ShopEntry> generator : generators) {
+            List<ShopEntry> row = new ArrayList<>();
+            for (int i = 0; i < ROW_SIZE; i++)
+                row.add(generator.apply(level));
+            row.sort(Comparator.comparingInt(ShopEntry::getPrice));
+            row.replaceAll(entry -> entry.withPriceModifier(priceModifier));
+            rows.add(Collections.unmodifiableList(row));
+        }
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public List<List<ShopEntry>> getRows() {
+        return rows;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ShopCatalog)) return false;
+        ShopCatalog catalog = (ShopCatalog) o;
+        return level == catalog.level && rows.equals(catalog.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(level, rows);
+    }
+}
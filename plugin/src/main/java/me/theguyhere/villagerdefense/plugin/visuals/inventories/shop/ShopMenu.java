@@ -10,6 +10,7 @@ import me.theguyhere.villagerdefense.plugin.game.kits.KitBlacksmith;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitEffectType;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitMerchant;
 import me.theguyhere.villagerdefense.plugin.game.kits.KitWitch;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
 import me.theguyhere.villagerdefense.plugin.items.ItemManager;
 import me.theguyhere.villagerdefense.plugin.visuals.inventories.ArenaMenu;
@@ -20,7 +21,6 @@ import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.List;
 import java.util.Objects;
 
 public class ShopMenu extends ArenaMenu {
@@ -31,6 +31,11 @@ public class ShopMenu extends ArenaMenu {
     }
 
     protected void addItem(int slot, ItemStack item) {
+        // Carry the price on the item, so buying doesn't need to read it back from the lore
+        int price = getPrice(item);
+        if (price != GameItemType.NO_PRICE)
+            GameItemType.setPrice(item, price);
+
         ((ManualLayout)layout).add(slot, item);
         addClickHandler(item, p -> handleBuy(p, item));
     }
@@ -40,6 +45,7 @@ public class ShopMenu extends ArenaMenu {
         ItemMeta meta = clean.getItemMeta();
         if (meta != null) {
             meta.getPersistentDataContainer().remove(ACTION_KEY);
+            GameItemType.removePrice(meta);
             clean.setItemMeta(meta);
         }
         return clean;
@@ -53,17 +59,14 @@ public class ShopMenu extends ArenaMenu {
             return;
         }
 
-        ItemStack buy = cleanItem(displayItem);
-        Material buyType = buy.getType();
-        List<String> lore = buy.getItemMeta().getLore();
-
         // Ignore un-purchasable items
-        if (lore == null || lore.isEmpty()) {
+        int cost = GameItemType.getPrice(displayItem);
+        if (cost == GameItemType.NO_PRICE) {
             return;
         }
 
-        int cost = Integer.parseInt(lore.get(lore.size() - 1)
-                .substring(6 + LanguageManager.messages.gems.length()));
+        ItemStack buy = cleanItem(displayItem);
+        Material buyType = buy.getType();
 
         // Check if they can afford the item
         if (!gamer.canAfford(cost)) {
@@ -3,15 +3,21 @@ package me.theguyhere.villagerdefense.plugin.visuals.inventories.shop;
 import me.theguyhere.villagerdefense.plugin.data.LanguageManager;
 import me.theguyhere.villagerdefense.plugin.game.Arena;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
+import me.theguyhere.villagerdefense.plugin.items.ShopEntry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 public class WeaponShopMenu extends LevelledShopMenu {
-    public WeaponShopMenu(Arena arena, int level) {
-        super("&4&l", LanguageManager.names.weaponShop, arena, level);
+    /** Rolls the items of each row of the weapon shop.*/
+    public static final List<Function<Integer, ShopEntry>> ROWS = Arrays.asList(
+            GameItems::rollSword,
+            GameItems::rollAxe,
+            GameItems.RANGED::getRandom,
+            GameItems.AMMO::getRandom);
 
-        generate(GameItems::sword);
-        generate(GameItems::axe);
-        generate(GameItems.RANGED::getRandom);
-        generate(GameItems.AMMO::getRandom);
-        addExit();
+    public WeaponShopMenu(Arena arena, ShopCatalog catalog) {
+        super("&4&l", LanguageManager.names.weaponShop, arena, catalog);
     }
 }
@@ -5,6 +5,7 @@ import me.theguyhere.villagerdefense.plugin.Main;
 import me.theguyhere.villagerdefense.plugin.game.GameManager;
 import me.theguyhere.villagerdefense.plugin.game.PlayerManager;
 import me.theguyhere.villagerdefense.plugin.game.exceptions.ArenaNotFoundException;
+import me.theguyhere.villagerdefense.plugin.items.GameItemType;
 import me.theguyhere.villagerdefense.plugin.items.GameItems;
 import me.theguyhere.villagerdefense.plugin.visuals.CommunityChestMeta;
 import me.theguyhere.villagerdefense.plugin.visuals.InventoryMeta;
@@ -20,6 +21,7 @@ import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
 
 public class InventoryListener implements Listener {
 	// Prevent losing items by drag clicking in custom inventory
@@ -95,9 +97,15 @@ public class InventoryListener implements Listener {
         }
 
 		// Check for community chest with shop inside it
-		if (e.getInventory().contains(GameItems.shop())) {
-			e.getInventory().removeItem(GameItems.shop());
-			PlayerManager.giveItem((Player) e.getPlayer(), GameItems.shop());
+		ItemStack[] contents = e.getInventory().getContents();
+		boolean hadShop = false;
+		for (int i = 0; i < contents.length; i++) {
+			if (GameItemType.SHOP.is(contents[i])) {
+				e.getInventory().clear(i);
+				hadShop = true;
+			}
 		}
+		if (hadShop)
+			PlayerManager.giveItem((Player) e.getPlayer(), GameItems.shop());
 	}
 }
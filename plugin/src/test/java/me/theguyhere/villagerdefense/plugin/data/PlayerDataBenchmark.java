@@ -0,0 +1,132 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares keeping player profiles in playerData.yml with the binary player data file, for 10k, 100k and 1M players
+ * unless other player counts are passed as arguments. Run it from the IDE or with the test classpath, giving the JVM
+ * enough heap for the YAML side of the largest run.
+ */
+public class PlayerDataBenchmark {
+    private static final String[] STATS = {"totalKills", "topKills", "totalGems", "topBalance", "topWave",
+        "crystalBalance"};
+    private static final String[] KITS = {"Soldier", "Tailor", "Alchemist", "Trader", "Summoner", "Mage"};
+    /** Random profiles read from each store.*/
+    private static final int LOADS = 10_000;
+
+    public static void main(String[] args) throws IOException {
+        int[] counts = args.length == 0 ? new int[]{10_000, 100_000, 1_000_000} :
+            Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        File folder = Files.createTempDirectory("vd-benchmark").toFile();
+
+        System.out.printf("%10s %8s %12s %12s %12s %12s %12s %12s%n", "players", "store", "size (KB)", "write (ms)",
+            "open (ms)", "load (us)", "stat (ms)", "compact (ms)");
+        for (int count : counts) {
+            List<PlayerProfile> profiles = createProfiles(count);
+            benchmarkYAML(new File(folder, "playerData.yml"), profiles);
+            benchmarkBinary(new File(folder, "playerData.dat"), new File(folder, "playerData.journal"), profiles);
+        }
+
+        for (File file : Objects.requireNonNull(folder.listFiles()))
+            Files.delete(file.toPath());
+        Files.delete(folder.toPath());
+    }
+
+    private static List<PlayerProfile> createProfiles(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<PlayerProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlayerProfile profile = new PlayerProfile(UUID.randomUUID());
+            for (String stat : STATS)
+                profile.setStat(stat, random.nextInt(100_000));
+            for (String kit : KITS)
+                if (random.nextBoolean())
+                    profile.setKitLevel(kit, random.nextInt(1, 4));
+            for (int j = random.nextInt(20); j >= 0; j--)
+                profile.addAchievement("achievement" + random.nextInt(60));
+            profiles.add(profile);
+        }
+        return profiles;
+    }
+
+    // Same layout as YAMLPlayerDataStore, timing the full parse done on startup
+    private static void benchmarkYAML(File file, List<PlayerProfile> profiles) throws IOException {
+        long start = System.nanoTime();
+        YamlConfiguration config = new YamlConfiguration();
+        for (PlayerProfile profile : profiles) {
+            String uuid = profile.getId().toString();
+            profile.getStats().forEach((stat, value) -> config.set(uuid + "." + stat, value));
+            profile.getKitLevels().forEach((kit, level) -> config.set(uuid + ".kits." + kit, level));
+            config.set(uuid + ".achievements", new ArrayList<>(profile.getAchievements()));
+        }
+        config.save(file);
+        long write = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        YamlConfiguration loaded = YamlConfiguration.loadConfiguration(file);
+        long open = System.nanoTime() - start;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        start = System.nanoTime();
+        for (int i = 0; i < LOADS; i++) {
+            String uuid = profiles.get(random.nextInt(profiles.size())).getId().toString();
+            Objects.requireNonNull(loaded.getConfigurationSection(uuid)).getValues(true);
+        }
+        long load = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String uuid : loaded.getKeys(false))
+            loaded.getInt(uuid + ".totalKills");
+        long stat = System.nanoTime() - start;
+
+        print(profiles.size(), "yaml", file.length(), write, open, load, stat, -1);
+    }
+
+    private static void benchmarkBinary(File dataFile, File journalFile, List<PlayerProfile> profiles)
+        throws IOException {
+        Files.deleteIfExists(dataFile.toPath());
+        Files.deleteIfExists(journalFile.toPath());
+
+        // Everything starts in the journal, as after a migration
+        long start = System.nanoTime();
+        BinaryPlayerDataStore store = new BinaryPlayerDataStore(dataFile, journalFile);
+        for (int i = 0; i < profiles.size(); i += 250)
+            store.save(profiles.subList(i, Math.min(i + 250, profiles.size())));
+        long write = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        store.compact();
+        long compact = System.nanoTime() - start;
+        store.close();
+
+        start = System.nanoTime();
+        store = new BinaryPlayerDataStore(dataFile, journalFile);
+        long open = System.nanoTime() - start;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        start = System.nanoTime();
+        for (int i = 0; i < LOADS; i++)
+            store.load(profiles.get(random.nextInt(profiles.size())).getId());
+        long load = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        store.getStatValues("totalKills");
+        long stat = System.nanoTime() - start;
+        store.close();
+
+        print(profiles.size(), "binary", dataFile.length(), write, open, load, stat, compact);
+    }
+
+    private static void print(int count, String store, long bytes, long write, long open, long load, long stat,
+                              long compact) {
+        System.out.printf("%10d %8s %12d %12d %12d %12.2f %12d %12s%n", count, store, bytes / 1024,
+            write / 1_000_000, open / 1_000_000, load / 1_000.0 / LOADS, stat / 1_000_000,
+            compact < 0 ? "-" : Long.toString(compact / 1_000_000));
+    }
+}
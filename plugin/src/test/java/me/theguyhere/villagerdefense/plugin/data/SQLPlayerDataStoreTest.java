@@ -0,0 +1,130 @@
+package me.theguyhere.villagerdefense.plugin.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the database player data store against an in-memory H2 database, so the H2 upsert statements are exercised.
+ */
+public class SQLPlayerDataStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String url;
+    /** Keeps the in-memory database alive between connections.*/
+    private Connection keepAlive;
+    private SQLPlayerDataStore store;
+
+    @Before
+    public void setUp() throws SQLException {
+        url = "jdbc:h2:mem:" + UUID.randomUUID();
+        keepAlive = DriverManager.getConnection(url);
+        store = new SQLPlayerDataStore(() -> DriverManager.getConnection(url), Runnable::run, 16);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        store.close();
+        keepAlive.close();
+    }
+
+    @Test
+    public void savedProfilesLoadBack() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        PlayerProfile profile = new PlayerProfile(uuid);
+        profile.setStat("totalKills", 12);
+        profile.setCrystals(300);
+        profile.setKitLevel("Soldier", 2);
+        profile.addAchievement("topKills1");
+        store.save(Collections.singletonList(profile.snapshot())).get();
+
+        PlayerProfile loaded = store.load(uuid);
+        assertEquals(12, loaded.getStat("totalKills"));
+        assertEquals(300, loaded.getCrystals());
+        assertEquals(2, loaded.getKitLevel("Soldier"));
+        assertEquals(Collections.singleton("topKills1"), loaded.getAchievements());
+        assertTrue(store.hasPlayer(uuid));
+    }
+
+    @Test
+    public void savingAgainUpdatesExistingRows() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        PlayerProfile profile = new PlayerProfile(uuid);
+        profile.setStat("totalKills", 12);
+        profile.setKitLevel("Soldier", 1);
+        profile.addAchievement("topKills1");
+        assertTrue(store.saveNow(Collections.singletonList(profile.snapshot())));
+        profile.markClean();
+
+        profile.setStat("totalKills", 20);
+        profile.setKitLevel("Soldier", 3);
+        profile.addAchievement("totalKills1");
+        assertTrue(store.saveNow(Collections.singletonList(profile.snapshot())));
+
+        PlayerProfile loaded = store.load(uuid);
+        assertEquals(20, loaded.getStat("totalKills"));
+        assertEquals(3, loaded.getKitLevel("Soldier"));
+        assertEquals(new HashSet<>(Arrays.asList("topKills1", "totalKills1")), loaded.getAchievements());
+    }
+
+    @Test
+    public void statValuesCoverEveryPlayer() throws Exception {
+        Map<UUID, Integer> expected = new HashMap<>();
+        List<PlayerProfile> batch = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PlayerProfile profile = new PlayerProfile(UUID.randomUUID());
+            profile.setStat("topWave", i * 10);
+            expected.put(profile.getId(), i * 10);
+            batch.add(profile.snapshot());
+        }
+        PlayerProfile withoutStat = new PlayerProfile(UUID.randomUUID());
+        withoutStat.setStat("totalKills", 1);
+        batch.add(withoutStat.snapshot());
+        store.save(batch).get();
+
+        assertEquals(expected, store.getStatValues("topWave"));
+        assertEquals(6, store.getTrackedPlayers().size());
+    }
+
+    @Test
+    public void migrationCopiesEveryProfile() throws Exception {
+        File dataFile = new File(folder.getRoot(), "playerData.dat");
+        File journalFile = new File(folder.getRoot(), "playerData.journal");
+        List<PlayerProfile> profiles = new ArrayList<>();
+        BinaryPlayerDataStore source = new BinaryPlayerDataStore(dataFile, journalFile);
+        try {
+            for (int i = 0; i < 600; i++) {
+                PlayerProfile profile = new PlayerProfile(UUID.randomUUID());
+                profile.setStat("totalGems", i);
+                profile.setKitLevel("Mage", i % 3 + 1);
+                if (i % 2 == 0)
+                    profile.addAchievement("allKits");
+                profiles.add(profile);
+            }
+            source.save(profiles).get();
+
+            assertEquals(profiles.size(), PlayerDataMigrator.migrate(source, store));
+        } finally {
+            source.close();
+        }
+
+        assertEquals(profiles.size(), store.getTrackedPlayers().size());
+        for (PlayerProfile profile : profiles) {
+            PlayerProfile loaded = store.load(profile.getId());
+            assertEquals(profile.getStat("totalGems"), loaded.getStat("totalGems"));
+            assertEquals(profile.getKitLevel("Mage"), loaded.getKitLevel("Mage"));
+            assertEquals(profile.getAchievements(), loaded.getAchievements());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package me.theguyhere.villagerdefense.plugin.entities;
+
+import me.theguyhere.villagerdefense.common.CommunicationManager;
+
+import java.util.Random;
+
+/**
+ * Compares building mob health bars on every damage or heal event, as GameListener.updateHealthBar used to, against
+ * looking them up in the formatted bars Mobs keeps, and counts the names updates that are skipped because the bar
+ * didn't change. Runs 10M events unless another count is passed as an argument. Run it from the IDE or with the test
+ * classpath. Setting the name of a real mob also sends it to every nearby player, which isn't timed here.
+ */
+public class HealthBarBenchmark {
+    /** Untimed events run first, so both sides are measured after the JIT has compiled them.*/
+    private static final int WARMUP = 1_000_000;
+    /** Damage and heal amounts of the simulated events, generated once so both sides see the same fight.*/
+    private static final int EVENTS = 4096;
+
+    public static void main(String[] args) {
+        int calls = args.length == 0 ? 10_000_000 : Integer.parseInt(args[0]);
+
+        // A mob with 40 health taking mostly small hits, healing now and then, and respawning when it dies
+        Random random = new Random(0);
+        double[] adjustments = new double[EVENTS];
+        for (int i = 0; i < EVENTS; i++)
+            adjustments[i] = random.nextInt(5) == 0 ? random.nextDouble() * 4 : -random.nextDouble() * 3;
+
+        System.out.printf("%10s %6s %12s %12s %10s %14s%n", "events", "size", "build (ns)", "lookup (ns)", "speedup",
+            "names skipped");
+        for (int size : new int[]{5, 10}) {
+            fight(adjustments, size, WARMUP, false);
+            fight(adjustments, size, WARMUP, true);
+
+            long start = System.nanoTime();
+            int built = fight(adjustments, size, calls, false);
+            long build = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int namesSet = fight(adjustments, size, calls, true);
+            long lookup = System.nanoTime() - start;
+
+            System.out.printf("%10d %6d %12.2f %12.2f %9.1fx %13.1f%%%n", calls, size, (double) build / calls,
+                (double) lookup / calls, (double) build / lookup, 100.0 * (built - namesSet) / built);
+        }
+    }
+
+    /**
+     * Plays out damage and heal events on a simulated mob.
+     * @param adjustments Health changes to cycle through
+     * @param size Health bar size
+     * @param calls Number of events
+     * @param lookup Whether to look bars up and skip unchanged names, rather than build and set them every time
+     * @return Number of times the name was set
+     */
+    private static int fight(double[] adjustments, int size, int calls, boolean lookup) {
+        double maxHealth = 40;
+        double health = maxHealth;
+        String customName = null;
+        int namesSet = 0;
+        for (int i = 0; i < calls; i++) {
+            double modifiedHealth = Math.min(health + adjustments[i & EVENTS - 1], maxHealth);
+            if (lookup) {
+                String healthBar = Mobs.healthBar(maxHealth, modifiedHealth, size);
+                if (!healthBar.equals(customName)) {
+                    customName = healthBar;
+                    namesSet++;
+                }
+            } else {
+                customName = buildHealthBar(maxHealth, modifiedHealth, size);
+                namesSet++;
+            }
+            health = modifiedHealth > 0 ? modifiedHealth : maxHealth;
+        }
+
+        // Keep the JIT from dropping unused names
+        if (customName == null)
+            throw new IllegalStateException();
+        return namesSet;
+    }
+
+    // Mobs.healthBar as it was before health bars were formatted ahead of time
+    private static String buildHealthBar(double max, double remaining, int size) {
+        String toFormat;
+        double healthLeft = remaining / max;
+        int healthBars = (int) (healthLeft * size + .99);
+        if (healthBars < 0) healthBars = 0;
+
+        if (healthLeft > .5)
+            toFormat = "&a";
+        else if (healthLeft > .25)
+            toFormat = "&e";
+        else toFormat = "&c";
+
+        return CommunicationManager.format(toFormat +
+                new String(new char[healthBars]).replace("\0", "▒") +
+                new String(new char[size - healthBars]).replace("\0", "  "));
+    }
+}
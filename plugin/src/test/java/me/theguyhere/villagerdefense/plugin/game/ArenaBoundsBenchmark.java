@@ -0,0 +1,130 @@
+package me.theguyhere.villagerdefense.plugin.game;
+
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares reading arena corners and checking arena bounds from the arena file on every call, as Arena used to, against
+ * the corners and bounds cached in ArenaConfig. Runs 10M calls of each unless another count is passed as an argument.
+ * Run it from the IDE or with the test classpath. Worlds are left out, since looking them up needs a running server.
+ */
+public class ArenaBoundsBenchmark {
+    private static final String CORNER_1 = "arena.1.corner1";
+    private static final String CORNER_2 = "arena.1.corner2";
+    /** Untimed calls run first, so both sides are measured after the JIT has compiled them.*/
+    private static final int WARMUP = 1_000_000;
+
+    public static void main(String[] args) {
+        int calls = args.length == 0 ? 10_000_000 : Integer.parseInt(args[0]);
+
+        YamlConfiguration file = new YamlConfiguration();
+        setLocation(file, CORNER_1, new Location(null, -40.5, 60, 25));
+        setLocation(file, CORNER_2, new Location(null, 35.5, 90, -50));
+
+        // Same snapshot ArenaConfig keeps
+        Location corner1 = readLocation(file, CORNER_1);
+        Location corner2 = readLocation(file, CORNER_2);
+        BoundingBox bounds = BoundingBox.of(corner1, corner2);
+
+        Location[] moves = new Location[1024];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < moves.length; i++)
+            moves[i] = new Location(null, random.nextDouble(-60, 60), random.nextDouble(50, 100),
+                random.nextDouble(-60, 60));
+
+        System.out.printf("%12s %10s %12s %12s %10s%n", "operation", "calls", "file (ns)", "cached (ns)", "speedup");
+        readFromFile(file, WARMUP);
+        readCached(corner1, WARMUP);
+        checkFromFile(file, moves, WARMUP);
+        checkCached(corner1, bounds, moves, WARMUP);
+
+        long start = System.nanoTime();
+        double sum = readFromFile(file, calls);
+        long fromFile = System.nanoTime() - start;
+        start = System.nanoTime();
+        if (readCached(corner1, calls) != sum)
+            throw new IllegalStateException("Both reads should agree.");
+        print("getCorner1", calls, fromFile, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        int inside = checkFromFile(file, moves, calls);
+        fromFile = System.nanoTime() - start;
+        start = System.nanoTime();
+        if (checkCached(corner1, bounds, moves, calls) != inside)
+            throw new IllegalStateException("Both checks should agree.");
+        print("isInBounds", calls, fromFile, System.nanoTime() - start);
+    }
+
+    // What getCorner1() did before: read the corner from the arena file
+    private static double readFromFile(YamlConfiguration file, int reads) {
+        double sum = 0;
+        for (int i = 0; i < reads; i++)
+            sum += readLocation(file, CORNER_1).getX();
+        return sum;
+    }
+
+    // What getCorner1() does now: copy the cached corner
+    private static double readCached(Location corner1, int reads) {
+        double sum = 0;
+        for (int i = 0; i < reads; i++)
+            sum += corner1.clone().getX();
+        return sum;
+    }
+
+    // What the move handler did before: read both corners from the arena file, then build a new bounding box
+    private static int checkFromFile(YamlConfiguration file, Location[] moves, int checks) {
+        int inside = 0;
+        for (int i = 0; i < checks; i++) {
+            Location location = moves[i & moves.length - 1];
+            Location corner1 = readLocation(file, CORNER_1);
+            Location corner2 = readLocation(file, CORNER_2);
+            if (Objects.equals(location.getWorld(), corner1.getWorld()) &&
+                    BoundingBox.of(corner1, corner2).contains(location.getX(), location.getY(), location.getZ()))
+                inside++;
+        }
+        return inside;
+    }
+
+    // What Arena.isInBounds does now: check against the cached corner and bounds
+    private static int checkCached(Location corner1, BoundingBox bounds, Location[] moves, int checks) {
+        int inside = 0;
+        for (int i = 0; i < checks; i++) {
+            Location location = moves[i & moves.length - 1];
+            if (Objects.equals(location.getWorld(), corner1.getWorld()) &&
+                    bounds.contains(location.getX(), location.getY(), location.getZ()))
+                inside++;
+        }
+        return inside;
+    }
+
+    private static void print(String operation, int calls, long fromFile, long cached) {
+        System.out.printf("%12s %10d %12.2f %12.2f %9.1fx%n", operation, calls, (double) fromFile / calls,
+            (double) cached / calls, (double) fromFile / cached);
+    }
+
+    // Same layout and parsing as YAMLManager.getConfigLocation
+    private static Location readLocation(YamlConfiguration file, String path) {
+        if (!file.contains(path))
+            return null;
+        return new Location(
+            null,
+            file.getDouble(path + ".x"),
+            file.getDouble(path + ".y"),
+            file.getDouble(path + ".z"),
+            Float.parseFloat(Objects.requireNonNull(file.get(path + ".yaw")).toString()),
+            Float.parseFloat(Objects.requireNonNull(file.get(path + ".pitch")).toString())
+        );
+    }
+
+    private static void setLocation(YamlConfiguration file, String path, Location location) {
+        file.set(path + ".x", location.getX());
+        file.set(path + ".y", location.getY());
+        file.set(path + ".z", location.getZ());
+        file.set(path + ".yaw", location.getYaw());
+        file.set(path + ".pitch", location.getPitch());
+    }
+}